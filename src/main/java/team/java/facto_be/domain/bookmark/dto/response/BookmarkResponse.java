@@ -1,19 +1,28 @@
 package team.java.facto_be.domain.bookmark.dto.response;
 
 import team.java.facto_be.domain.bookmark.entity.BookmarkJpaEntity;
+import team.java.facto_be.domain.welfare.dto.response.WelfareServiceSummaryResponse;
 
 import java.time.LocalDateTime;
 
+/**
+ * 즐겨찾기 응답 DTO.
+ *
+ * <p>목록 화면에서 서비스마다 상세 조회를 다시 호출하지 않도록 복지 서비스 요약 정보를 함께 담습니다.
+ * 복지 서비스가 삭제된 경우 welfareService는 null입니다.
+ */
 public record BookmarkResponse(
         Long id,
         String welfareServiceId,
-        LocalDateTime createdAt
+        LocalDateTime createdAt,
+        WelfareServiceSummaryResponse welfareService
 ) {
-    public static BookmarkResponse from(BookmarkJpaEntity entity) {
+    public static BookmarkResponse from(BookmarkJpaEntity entity, WelfareServiceSummaryResponse welfareService) {
         return new BookmarkResponse(
                 entity.getId(),
                 entity.getWelfareServiceId(),
-                entity.getCreatedAt()
+                entity.getCreatedAt(),
+                welfareService
         );
     }
 }
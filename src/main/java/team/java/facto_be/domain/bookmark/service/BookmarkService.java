@@ -8,8 +8,13 @@ import team.java.facto_be.domain.bookmark.entity.BookmarkJpaEntity;
 import team.java.facto_be.domain.bookmark.repository.BookmarkRepository;
 import team.java.facto_be.domain.user.entity.UserJpaEntity;
 import team.java.facto_be.domain.user.facade.UserFacade;
+import team.java.facto_be.domain.welfare.dto.response.WelfareServiceSummaryResponse;
+import team.java.facto_be.domain.welfare.repository.WelfareServiceRepository;
 
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 즐겨찾기 비즈니스 로직 서비스.
@@ -22,6 +27,7 @@ public class BookmarkService {
 
     private final BookmarkRepository bookmarkRepository;
     private final UserFacade userFacade;
+    private final WelfareServiceRepository welfareServiceRepository;
 
     /**
      * 복지 서비스를 즐겨찾기에 추가합니다.
@@ -78,7 +84,8 @@ public class BookmarkService {
      * <p>동작 흐름:
      * 1. JWT 토큰에서 현재 로그인한 사용자 정보 추출
      * 2. DB에서 해당 사용자의 즐겨찾기 목록 조회 (최신순)
-     * 3. BookmarkResponse DTO로 변환하여 반환
+     * 3. 복지 서비스 요약 정보를 IN 쿼리 한 번으로 조회
+     * 4. BookmarkResponse DTO로 변환하여 반환
      *
      * @return 즐겨찾기 목록 (최신순)
      */
@@ -87,10 +94,18 @@ public class BookmarkService {
         // 1. 현재 로그인한 사용자 가져오기
         UserJpaEntity user = userFacade.currentUser();
 
-        // 2. 즐겨찾기 목록 조회 및 DTO 변환
-        return bookmarkRepository.findByUserIdOrderByCreatedAtDesc(user.getId())
+        // 2. 즐겨찾기 목록 조회
+        List<BookmarkJpaEntity> bookmarks = bookmarkRepository.findByUserIdOrderByCreatedAtDesc(user.getId());
+
+        // 3. 복지 서비스 요약 정보 일괄 조회
+        Map<String, WelfareServiceSummaryResponse> summaries = welfareServiceRepository
+                .findSummariesByIdsInOrder(bookmarks.stream().map(BookmarkJpaEntity::getWelfareServiceId).toList())
                 .stream()
-                .map(BookmarkResponse::from)
+                .collect(Collectors.toMap(WelfareServiceSummaryResponse::serviceId, Function.identity()));
+
+        // 4. DTO 변환
+        return bookmarks.stream()
+                .map(bookmark -> BookmarkResponse.from(bookmark, summaries.get(bookmark.getWelfareServiceId())))
                 .toList();
     }
 
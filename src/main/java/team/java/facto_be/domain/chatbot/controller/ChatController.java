@@ -1,7 +1,10 @@
 package team.java.facto_be.domain.chatbot.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -9,14 +12,18 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import team.java.facto_be.domain.chatbot.domain.entity.ChatMessage;
 import team.java.facto_be.domain.chatbot.domain.entity.ChatSession;
 import team.java.facto_be.domain.chatbot.service.ChatService;
+import team.java.facto_be.domain.chatbot.service.admission.ChatAdmissionGovernor;
+import team.java.facto_be.domain.chatbot.service.admission.ChatAdmissionRejectedException;
 import team.java.facto_be.domain.chatbot.service.dto.ChatMessageResponse;
 import team.java.facto_be.domain.chatbot.service.dto.ChatRequest;
 import team.java.facto_be.domain.chatbot.service.dto.ChatResponse;
 import team.java.facto_be.domain.chatbot.service.dto.ChatSessionSummaryResponse;
+import team.java.facto_be.domain.chatbot.service.ingest.IngestionReport;
 import team.java.facto_be.domain.user.facade.UserFacade;
 
 import java.util.List;
@@ -29,20 +36,28 @@ public class ChatController {
 
     private final ChatService chatService;
     private final UserFacade userFacade;
+    private final ChatAdmissionGovernor chatAdmissionGovernor;
 
     /**
      * Non-streaming chat endpoint.
      */
     @PostMapping
-    public ResponseEntity<ChatResponse> chat(@RequestBody ChatRequest request) {
+    public ResponseEntity<ChatResponse> chat(@RequestBody ChatRequest request, HttpServletRequest httpRequest) {
         log.info("POST /api/chat - sessionId: {}, message: {}", request.getSessionId(), request.getMessage());
 
         Long currentUserId = resolveCurrentUserId();
-        ChatService.ChatResult result = chatService.chat(
-                request.getSessionId(),
-                request.getMessage(),
-                currentUserId
-        );
+        ChatService.ChatResult result;
+        try (ChatAdmissionGovernor.Permit permit = chatAdmissionGovernor.acquire(
+                ChatAdmissionGovernor.userKey(httpRequest.getUserPrincipal(), httpRequest.getRemoteAddr()))) {
+            result = chatService.chat(
+                    request.getSessionId(),
+                    request.getMessage(),
+                    currentUserId
+            );
+        } catch (ChatAdmissionRejectedException e) {
+            log.warn("POST /api/chat - 거절됨, 사유: {}", e.getReason());
+            return rejected(request.getSessionId(), e);
+        }
 
         log.info("POST /api/chat - 응답 완료, queryType: {}", result.queryType());
 
@@ -82,15 +97,37 @@ public class ChatController {
 
     /**
      * Admin: initialize vector store.
-     * ✅ QuestionAnswerAdvisor가 활성화되어 RAG를 사용합니다.
-     * - similarityThreshold: 0.95로 매우 유사한 문서만 검색
+     * ✅ RetrievalAugmentationAdvisor가 활성화되어 RAG를 사용합니다.
+     * - 사용자 지역/생애주기로 필터링한 문서만 검색
      * - Tool 결과 우선, RAG는 보조적 컨텍스트 제공
+     * - 기본은 변경된 서비스만 다시 적재, full=true면 전체 재적재
      */
     @PostMapping("/admin/init-vector-store")
-    public ResponseEntity<String> initVectorStore() {
-        log.info("POST /api/chat/admin/init-vector-store");
-        chatService.initializeVectorStore();
-        return ResponseEntity.ok("VectorStore initialized successfully. RAG is enabled with high similarity threshold (0.95) for accuracy.");
+    public ResponseEntity<String> initVectorStore(@RequestParam(defaultValue = "false") boolean full) {
+        log.info("POST /api/chat/admin/init-vector-store - full: {}", full);
+        IngestionReport report = chatService.initializeVectorStore(full);
+        return ResponseEntity.ok(String.format(
+                "VectorStore initialized successfully (services: %d, changed: %d, removed: %d, "
+                        + "chunks: %d, failed chunks: %d, %d ms). "
+                        + "RAG is enabled with region/life-cycle metadata filtering.",
+                report.services(), report.changedServices(), report.removedServices(),
+                report.chunks(), report.failedChunks(), report.elapsed().toMillis()));
+    }
+
+    /**
+     * 요청 빈도 초과는 429, 과부하(대기열 가득 참/대기 시간 초과)는 503으로 응답하고 Retry-After(초)를 붙입니다.
+     */
+    private ResponseEntity<ChatResponse> rejected(String sessionId, ChatAdmissionRejectedException e) {
+        HttpStatus status = e.getReason() == ChatAdmissionRejectedException.Reason.RATE_LIMITED
+                ? HttpStatus.TOO_MANY_REQUESTS
+                : HttpStatus.SERVICE_UNAVAILABLE;
+        long retryAfterSeconds = Math.max(1, (e.getRetryAfter().toMillis() + 999) / 1000);
+        return ResponseEntity.status(status)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(ChatResponse.builder()
+                        .sessionId(sessionId)
+                        .message(e.getMessage())
+                        .build());
     }
 
     private Long resolveCurrentUserId() {
@@ -0,0 +1,31 @@
+package team.java.facto_be.domain.chatbot.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import team.java.facto_be.global.entity.BaseTimeEntity;
+
+/**
+ * 벡터 스토어 적재 목록 엔티티
+ *
+ * <p>복지 서비스별로 마지막으로 적재한 문서 본문의 해시와 청크 수를 기록합니다.
+ * 재색인 시 해시가 같은 서비스는 건너뛰고, 청크 수로 더 이상 쓰지 않는 청크 ID를 계산해 삭제합니다.
+ */
+@Entity
+@Table(name = "vector_document_manifests")
+@Getter
+@SuperBuilder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class VectorDocumentManifest extends BaseTimeEntity {
+
+    @Id
+    @Column(name = "service_id", length = 50)
+    private String serviceId;
+
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+
+    @Column(name = "chunk_count", nullable = false)
+    private Integer chunkCount;
+}
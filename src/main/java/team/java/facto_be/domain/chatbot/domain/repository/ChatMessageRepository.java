@@ -6,6 +6,7 @@ import org.springframework.data.repository.query.Param;
 import team.java.facto_be.domain.chatbot.domain.entity.ChatMessage;
 import team.java.facto_be.domain.chatbot.domain.entity.ChatSession;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long> {
@@ -15,5 +16,14 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>
     @Query("SELECT cm FROM ChatMessage cm WHERE cm.chatSession.sessionId = :sessionId ORDER BY cm.createdAt DESC LIMIT :limit")
     List<ChatMessage> findRecentMessages(@Param("sessionId") String sessionId, @Param("limit") int limit);
 
+    /**
+     * 기간 내에 가장 자주 나온 메시지 본문을 빈도순으로 조회합니다.
+     */
+    @Query("SELECT cm.content FROM ChatMessage cm WHERE cm.role = :role AND cm.createdAt >= :since " +
+            "GROUP BY cm.content ORDER BY COUNT(cm) DESC LIMIT :limit")
+    List<String> findFrequentContents(@Param("role") ChatMessage.MessageRole role,
+                                      @Param("since") LocalDateTime since,
+                                      @Param("limit") int limit);
+
     void deleteByChatSession(ChatSession chatSession);
 }
@@ -0,0 +1,7 @@
+package team.java.facto_be.domain.chatbot.domain.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import team.java.facto_be.domain.chatbot.domain.entity.VectorDocumentManifest;
+
+public interface VectorDocumentManifestRepository extends JpaRepository<VectorDocumentManifest, String> {
+}
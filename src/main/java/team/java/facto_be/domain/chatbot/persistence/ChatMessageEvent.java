@@ -0,0 +1,34 @@
+package team.java.facto_be.domain.chatbot.persistence;
+
+import team.java.facto_be.domain.chatbot.domain.entity.ChatMessage;
+
+import java.time.LocalDateTime;
+
+/**
+ * 저장 대기 중인 채팅 메시지.
+ *
+ * @param sessionPk 채팅 세션 PK ({@code chat_sessions.id})
+ * @param role 발화자 역할
+ * @param messageType 메시지 타입
+ * @param sender 발신자
+ * @param content 본문
+ * @param createdAt 생성 시간
+ */
+record ChatMessageEvent(
+        Long sessionPk,
+        ChatMessage.MessageRole role,
+        ChatMessage.MessageType messageType,
+        String sender,
+        String content,
+        LocalDateTime createdAt
+) {
+    static ChatMessageEvent from(ChatMessage message, LocalDateTime createdAt) {
+        return new ChatMessageEvent(
+                message.getChatSession().getId(),
+                message.getRole(),
+                message.getMessageType(),
+                message.getSender(),
+                message.getContent(),
+                createdAt);
+    }
+}
@@ -0,0 +1,24 @@
+package team.java.facto_be.domain.chatbot.persistence;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 채팅 메시지 write-behind 저장 설정 프로퍼티.
+ *
+ * @param queueCapacity 저장 대기 큐 최대 크기 (초과 시 호출 스레드에서 바로 저장)
+ * @param batchSize 한 번에 INSERT 하는 최대 건수
+ */
+@ConfigurationProperties(prefix = "chatbot.persistence")
+public record ChatPersistenceProperties(
+        Integer queueCapacity,
+        Integer batchSize
+) {
+    public ChatPersistenceProperties {
+        if (queueCapacity == null) {
+            queueCapacity = 10_000;
+        }
+        if (batchSize == null) {
+            batchSize = 500;
+        }
+    }
+}
@@ -0,0 +1,310 @@
+package team.java.facto_be.domain.chatbot.persistence;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import team.java.facto_be.domain.chatbot.domain.entity.ChatMessage;
+import team.java.facto_be.domain.chatbot.domain.entity.ChatSession;
+
+import java.sql.BatchUpdateException;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 채팅 메시지/세션 변경 write-behind 저장기.
+ *
+ * <p>채팅 응답 경로는 메시지와 세션 변경을 메모리에 넣기만 하고 바로 반환하며,
+ * 스케줄러가 주기적으로 모아서 JDBC 배치로 저장합니다.
+ * <ul>
+ *   <li>메시지: 큐 순서대로 배치 INSERT (같은 세션의 질문/답변 순서 유지)</li>
+ *   <li>마지막 활동 시간: 세션별로 가장 최근 값만 남겨 한 번 UPDATE</li>
+ *   <li>제목: 세션별로 처음 정한 제목만 남기고, 기본 제목일 때만 UPDATE</li>
+ * </ul>
+ * 메시지가 먼저 저장되도록 세션 UPDATE는 메시지 INSERT 뒤에 실행합니다.
+ * 큐가 가득 차면 메시지를 버리지 않고 호출 스레드에서 바로 저장합니다.
+ *
+ * <p>배치 INSERT가 실패하면 실패한 행만 한 건씩 다시 저장하여, 문제 있는 행 하나 때문에
+ * 다른 세션의 메시지까지 유실되지 않게 합니다. {@link #discard(ChatSession)}로 삭제한 세션의 메시지는
+ * 저장하지 않고 버립니다 (삭제 중에도 스트리밍 중인 답변이 추가될 수 있으므로).
+ *
+ * <p>id가 IDENTITY 전략이라 Hibernate 배치 INSERT가 동작하지 않으므로 JdbcTemplate을 직접 사용합니다.
+ * 세션 생성은 메시지가 세션 PK를 참조하므로 기존처럼 바로 저장합니다.
+ */
+@Slf4j
+@Component
+public class ChatPersistenceWriter {
+
+    private static final String INSERT_MESSAGE_SQL = """
+            INSERT INTO chat_messages (session_id, role, message_type, sender, content, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String UPDATE_LAST_ACTIVITY_SQL = """
+            UPDATE chat_sessions SET last_activity = ?, updated_at = ?
+            WHERE id = ? AND last_activity < ?
+            """;
+
+    private static final String UPDATE_TITLE_SQL = """
+            UPDATE chat_sessions SET title = ?, updated_at = ?
+            WHERE id = ? AND title = ?
+            """;
+
+    private static final Duration DISCARDED_SESSION_RETENTION = Duration.ofMinutes(10);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate flushTransaction;
+    private final ChatPersistenceProperties properties;
+
+    private final BlockingQueue<ChatMessageEvent> messages;
+    /** 세션 PK → 저장 대기 중인 마지막 활동 시간 */
+    private final Map<Long, LocalDateTime> lastActivities = new ConcurrentHashMap<>();
+    /** 세션 PK → 저장 대기 중인 제목 */
+    private final Map<Long, PendingTitle> titles = new ConcurrentHashMap<>();
+
+    /** 삭제한 세션 PK (진행 중이던 답변이 끝날 때까지만 보관) */
+    private final Cache<Long, Boolean> discardedSessions = Caffeine.newBuilder()
+            .expireAfterWrite(DISCARDED_SESSION_RETENTION)
+            .build();
+
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private final Counter queuedCounter;
+    private final Counter inlineCounter;
+    private final Counter failedCounter;
+
+    public ChatPersistenceWriter(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            ChatPersistenceProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        // 읽기 전용 트랜잭션(히스토리 조회) 안에서 호출되어도 쓸 수 있도록 별도 트랜잭션으로 저장
+        this.flushTransaction = new TransactionTemplate(transactionManager);
+        this.flushTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.properties = properties;
+        this.messages = new ArrayBlockingQueue<>(properties.queueCapacity());
+
+        this.queuedCounter = meterRegistry.counter("chat.persistence.messages.queued");
+        this.inlineCounter = meterRegistry.counter("chat.persistence.messages.inline");
+        this.failedCounter = meterRegistry.counter("chat.persistence.messages.failed");
+        meterRegistry.gauge("chat.persistence.messages.pending", messages, BlockingQueue::size);
+    }
+
+    /**
+     * 메시지를 저장 대기 큐에 넣고 세션의 마지막 활동 시간을 갱신합니다.
+     * 세션은 이미 저장되어 PK가 있어야 합니다.
+     *
+     * @param message 저장할 메시지
+     */
+    public void append(ChatMessage message) {
+        LocalDateTime now = LocalDateTime.now();
+        ChatMessageEvent event = ChatMessageEvent.from(message, now);
+        if (isDiscarded(event.sessionPk())) {
+            return;
+        }
+
+        if (messages.offer(event)) {
+            queuedCounter.increment();
+        } else {
+            // 큐가 가득 차면 유실하지 않도록 호출 스레드에서 바로 저장
+            inlineCounter.increment();
+            insert(List.of(event));
+        }
+        touch(message.getChatSession(), now);
+    }
+
+    /**
+     * 세션의 마지막 활동 시간을 갱신합니다. 다음 저장 때까지 세션별로 가장 최근 값만 남습니다.
+     *
+     * <p>엔티티는 변경하지 않습니다 (영속 상태의 세션을 바꾸면 트랜잭션 커밋 때 UPDATE가 따로 나가므로).
+     *
+     * @param session 채팅 세션
+     * @param time 활동 시간
+     */
+    public void touch(ChatSession session, LocalDateTime time) {
+        lastActivities.merge(session.getId(), time, (current, next) -> next.isAfter(current) ? next : current);
+    }
+
+    /**
+     * 세션 제목을 정합니다. 세션 제목이 {@code expectedTitle}일 때만 저장되며, 처음 정한 제목이 우선합니다.
+     * 엔티티는 변경하지 않습니다.
+     *
+     * @param session 채팅 세션
+     * @param title 새 제목
+     * @param expectedTitle 현재 제목이 이 값일 때만 변경 (기본 제목)
+     */
+    public void updateTitle(ChatSession session, String title, String expectedTitle) {
+        titles.putIfAbsent(session.getId(), new PendingTitle(title, expectedTitle));
+    }
+
+    /**
+     * 세션 삭제 전에 호출하여, 이 세션의 저장 대기 중인 변경과 이후에 추가되는 메시지를 버립니다.
+     * 진행 중인 저장이 있으면 커밋될 때까지 기다리므로, 반환 후 세션을 삭제하면 메시지가 남지 않습니다.
+     *
+     * @param session 삭제할 채팅 세션
+     */
+    public void discard(ChatSession session) {
+        flushLock.lock();
+        try {
+            discardedSessions.put(session.getId(), Boolean.TRUE);
+            lastActivities.remove(session.getId());
+            titles.remove(session.getId());
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 대기 중인 메시지와 세션 변경을 저장합니다.
+     * 다른 스레드가 저장 중이면 그 저장이 커밋될 때까지 기다리므로,
+     * 조회 전에 (트랜잭션 밖에서) 호출하면 이 서버에서 받은 메시지가 모두 반영된 상태를 읽을 수 있습니다.
+     */
+    @Scheduled(fixedDelayString = "${chatbot.persistence.flush-interval:PT0.2S}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            if (messages.isEmpty() && lastActivities.isEmpty() && titles.isEmpty()) {
+                return;
+            }
+            flushTransaction.executeWithoutResult(status -> {
+                drainMessages();
+                flushSessions();
+            });
+        } catch (Exception e) {
+            log.error("채팅 메시지 저장 트랜잭션 실패", e);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 종료 시 남은 메시지와 세션 변경을 모두 저장합니다.
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("종료 전 채팅 메시지 저장 - 대기 {}건", messages.size());
+        flush();
+    }
+
+    private void drainMessages() {
+        List<ChatMessageEvent> batch = new ArrayList<>(properties.batchSize());
+        while (messages.drainTo(batch, properties.batchSize()) > 0) {
+            batch.removeIf(event -> isDiscarded(event.sessionPk()));
+            if (!batch.isEmpty()) {
+                insert(batch);
+            }
+            batch.clear();
+        }
+    }
+
+    private void insert(List<ChatMessageEvent> batch) {
+        try {
+            jdbcTemplate.batchUpdate(INSERT_MESSAGE_SQL, batch, batch.size(), ChatPersistenceWriter::bind);
+        } catch (DataAccessException e) {
+            List<ChatMessageEvent> unsaved = unsavedRows(batch, e);
+            log.warn("채팅 메시지 배치 저장 실패 - {}건 중 {}건을 한 건씩 다시 저장", batch.size(), unsaved.size(), e);
+            unsaved.forEach(this::insertOne);
+        }
+    }
+
+    private void insertOne(ChatMessageEvent event) {
+        try {
+            jdbcTemplate.update(INSERT_MESSAGE_SQL, ps -> bind(ps, event));
+        } catch (DataAccessException e) {
+            // 세션이 먼저 삭제된 경우 등
+            failedCounter.increment();
+            log.error("채팅 메시지 저장 실패 - 세션 PK: {}", event.sessionPk(), e);
+        }
+    }
+
+    /**
+     * 배치 실패 시 저장되지 않은 행을 골라냅니다.
+     *
+     * <p>드라이버가 행별 결과를 주면 실패한 행과 실행하지 못한 뒤쪽 행만, 주지 않으면
+     * (rewriteBatchedStatements로 다중 행 INSERT 하나가 통째로 실패한 경우 등) 전체를 반환합니다.
+     */
+    static <T> List<T> unsavedRows(List<T> batch, DataAccessException e) {
+        if (!(e.getMostSpecificCause() instanceof BatchUpdateException batchException)) {
+            return batch;
+        }
+        int[] counts = batchException.getUpdateCounts();
+        List<T> unsaved = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            if (i >= counts.length || counts[i] == Statement.EXECUTE_FAILED) {
+                unsaved.add(batch.get(i));
+            }
+        }
+        return unsaved;
+    }
+
+    private static void bind(PreparedStatement ps, ChatMessageEvent event) throws SQLException {
+        Timestamp createdAt = Timestamp.valueOf(event.createdAt());
+        ps.setLong(1, event.sessionPk());
+        ps.setString(2, event.role().name());
+        ps.setString(3, event.messageType().name());
+        ps.setString(4, event.sender());
+        ps.setString(5, event.content());
+        ps.setTimestamp(6, createdAt);
+        ps.setTimestamp(7, createdAt);
+    }
+
+    private boolean isDiscarded(Long sessionPk) {
+        return discardedSessions.getIfPresent(sessionPk) != null;
+    }
+
+    private void flushSessions() {
+        List<Object[]> activityArgs = new ArrayList<>();
+        for (Long sessionPk : List.copyOf(lastActivities.keySet())) {
+            LocalDateTime time = lastActivities.remove(sessionPk);
+            if (time != null) {
+                Timestamp timestamp = Timestamp.valueOf(time);
+                activityArgs.add(new Object[]{timestamp, timestamp, sessionPk, timestamp});
+            }
+        }
+
+        List<Object[]> titleArgs = new ArrayList<>();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (Long sessionPk : List.copyOf(titles.keySet())) {
+            PendingTitle pending = titles.remove(sessionPk);
+            if (pending != null) {
+                titleArgs.add(new Object[]{pending.title(), now, sessionPk, pending.expectedTitle()});
+            }
+        }
+
+        try {
+            if (!activityArgs.isEmpty()) {
+                jdbcTemplate.batchUpdate(UPDATE_LAST_ACTIVITY_SQL, activityArgs);
+            }
+            if (!titleArgs.isEmpty()) {
+                jdbcTemplate.batchUpdate(UPDATE_TITLE_SQL, titleArgs);
+            }
+        } catch (Exception e) {
+            log.error("채팅 세션 갱신 실패 - 활동 시간 {}건, 제목 {}건", activityArgs.size(), titleArgs.size(), e);
+        }
+    }
+
+    private record PendingTitle(String title, String expectedTitle) {
+    }
+}
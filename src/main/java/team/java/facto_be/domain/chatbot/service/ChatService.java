@@ -1,28 +1,38 @@
 package team.java.facto_be.domain.chatbot.service;
 
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.ai.chat.memory.ChatMemory;
-import org.springframework.ai.document.Document;
-import org.springframework.ai.vectorstore.VectorStore;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
 import team.java.facto_be.domain.chatbot.domain.entity.ChatMessage;
 import team.java.facto_be.domain.chatbot.domain.entity.ChatSession;
 import team.java.facto_be.domain.chatbot.domain.repository.ChatMessageRepository;
 import team.java.facto_be.domain.chatbot.domain.repository.ChatSessionRepository;
-import team.java.facto_be.domain.chatbot.service.context.UserContextHolder;
+import team.java.facto_be.domain.chatbot.persistence.ChatPersistenceWriter;
+import team.java.facto_be.domain.chatbot.service.context.ChatToolContext;
 import team.java.facto_be.domain.chatbot.service.dto.ChatMessageResponse;
 import team.java.facto_be.domain.chatbot.service.dto.ChatSessionSummaryResponse;
 import team.java.facto_be.domain.chatbot.service.dto.WebSocketMessage;
 import team.java.facto_be.domain.chatbot.service.enums.QueryType;
+import team.java.facto_be.domain.chatbot.service.ingest.IngestionReport;
+import team.java.facto_be.domain.chatbot.service.ingest.VectorStoreIngestionPipeline;
+import team.java.facto_be.domain.chatbot.service.retrieval.WelfareDocumentRetriever;
+import team.java.facto_be.domain.user.entity.UserJpaEntity;
 import team.java.facto_be.domain.user.facade.UserFacade;
-import team.java.facto_be.domain.welfare.entity.WelfareServiceJpaEntity;
-import team.java.facto_be.domain.welfare.repository.WelfareServiceRepository;
 
+import java.security.Principal;
+import java.time.Duration;
 import java.util.*;
-import java.util.function.Consumer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Service
@@ -34,110 +44,113 @@ public class ChatService {
     private static final int MIN_TITLE_LENGTH = 10;
     private static final int MAX_TITLE_LENGTH = 30;
 
+    /** 종료 시 진행 중인 질문 분류/RAG 검색을 기다리는 최대 시간 */
+    private static final Duration PROMPT_PLANNING_SHUTDOWN_TIMEOUT = Duration.ofSeconds(10);
+
+    /** 질문 분류/RAG 검색용 가상 스레드 (요청마다 새 스레드, 풀링하지 않음, 빈 종료 시 닫음) */
+    private final ExecutorService promptPlanningExecutor =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("chat-prompt-plan-", 0).factory());
+
     private final ChatClient chatClient;
     private final ChatMemory chatMemory;
-    private final VectorStore vectorStore;
 
     private final ChatSessionRepository chatSessionRepository;
     private final ChatMessageRepository chatMessageRepository;
-    private final WelfareServiceRepository welfareServiceRepository;
+    private final ChatPersistenceWriter chatPersistenceWriter;
+    private final TransactionTemplate transactionTemplate;
 
     private final QueryTypeClassifier queryTypeClassifier;
     private final SystemPromptProvider systemPromptProvider;
     private final UserFacade userFacade;
-
-    private static final int BATCH_SIZE = 50;
-    private static final int CHUNK_SIZE = 700;
-    private static final int CHUNK_OVERLAP = 100;
+    private final WelfareDocumentRetriever welfareDocumentRetriever;
+    private final VectorStoreIngestionPipeline vectorStoreIngestionPipeline;
 
     public record ChatResult(String sessionId, String message, QueryType queryType) {}
 
     private record ChatContext(ChatSession session, String message) {}
 
+    private record PromptPlan(QueryType queryType, Map<String, Object> retrievalContext) {}
+
     /**
      * =========================
      * WebSocket 스트리밍 채팅
      * =========================
+     * 세션 저장과 질문 분류는 호출 스레드에서 끝내고, 응답 조각 스트림을 반환합니다.
+     * 구독을 취소하면(연결 종료 등) 모델 스트리밍 요청도 취소되며, 이때는 응답을 저장하지 않습니다.
+     * 트랜잭션은 DB 작업 단위로만 짧게 열고, 질문 분류/모델 호출 중에는 DB 커넥션을 잡지 않습니다.
+     *
+     * <p>사용자는 핸드셰이크에서 인증된 {@code principal}로 정합니다. 메시지의 userId는 클라이언트가 바꿔 보낼 수 있으므로
+     * 사용하지 않으며, 값이 있는데 인증된 사용자와 다르면 거절합니다.
+     *
+     * @param request 질문 메시지
+     * @param principal WebSocket 핸드셰이크에서 인증된 사용자 (비로그인이면 null)
      */
-    @Transactional
-    public void streamChat(WebSocketMessage.Request request,
-                           Consumer<String> onContent,
-                           Runnable onComplete,
-                           Consumer<Throwable> onError) {
+    public Flux<String> streamChat(WebSocketMessage.Request request, Principal principal) {
+
+        // 검색 필터와 Tool에 함께 사용할 사용자 스냅샷
+        UserJpaEntity user = userFacade.findUser(principal).orElse(null);
+        Long userId = user != null ? user.getId() : null;
+        if (request.getUserId() != null && !request.getUserId().equals(userId)) {
+            log.warn("WebSocket userId 불일치 - 요청: {}, 인증: {}", request.getUserId(), userId);
+            throw new IllegalStateException("사용자 정보가 일치하지 않습니다.");
+        }
 
-        try {
-            // ⚠️ Tool에서 사용자 정보를 조회할 수 있도록 ThreadLocal에 userId 설정
-            UserContextHolder.setUserId(request.getUserId());
-
-            ChatContext context = prepareContext(request.getSessionId(), request.getMessage(), request.getUserId());
-
-            // 질문 유형 분류
-            QueryType queryType = queryTypeClassifier.classify(context.message());
-            String systemPrompt = systemPromptProvider.getSystemPrompt(queryType);
-
-            log.info("스트리밍 채팅 - 질문 유형: {}, userId: {}", queryType, request.getUserId());
-
-            StringBuilder fullResponse = new StringBuilder();
-
-            chatClient.prompt()
-                    .system(systemPrompt)
-                    .user(context.message())
-                    .advisors(advisor -> advisor.param(
-                            MEMORY_CONVERSATION_ID,
-                            context.session().getSessionId()
-                    ))
-                    .stream()
-                    .content()
-                    .doOnNext(chunk -> {
-                        fullResponse.append(chunk);
-                        onContent.accept(chunk);
-                    })
-                    .doOnComplete(() -> {
-                        saveAssistantMessage(context.session(), fullResponse.toString());
-                        onComplete.run();
-                    })
-                    .doOnError(error -> handleStreamingError(onError, error))
-                    .doFinally(signalType -> {
-                        // ⚠️ 반드시 ThreadLocal 정리 (메모리 누수 방지)
-                        UserContextHolder.clear();
-                    })
-                    .subscribe();
+        // 질문 분류 + RAG 검색은 세션/메시지 저장과 동시에 진행
+        CompletableFuture<PromptPlan> plan = planPrompt(request.getMessage(), user);
+        ChatContext context = prepareContext(request.getSessionId(), request.getMessage(), userId, plan);
 
-        } catch (Exception e) {
-            UserContextHolder.clear();  // 예외 발생 시에도 정리
-            handleStreamingError(onError, e);
-        }
+        // Tool은 Reactor 스레드에서 실행되므로 사용자 정보는 ToolContext로 전달
+        Map<String, Object> toolContext = ChatToolContext.of(context.session().getSessionId(), userId, user);
+
+        PromptPlan promptPlan = awaitPlan(plan);
+        QueryType queryType = promptPlan.queryType();
+        String systemPrompt = systemPromptProvider.getSystemPrompt(queryType);
+
+        log.info("스트리밍 채팅 - 질문 유형: {}, userId: {}", queryType, userId);
+
+        StringBuilder fullResponse = new StringBuilder();
+
+        return chatClient.prompt()
+                .system(systemPrompt)
+                .user(context.message())
+                .advisors(advisor -> advisor
+                        .param(MEMORY_CONVERSATION_ID, context.session().getSessionId())
+                        .params(promptPlan.retrievalContext()))
+                .toolContext(toolContext)
+                .stream()
+                .content()
+                .doOnNext(fullResponse::append)
+                .doOnComplete(() -> saveAssistantMessage(context.session(), fullResponse.toString()))
+                .doOnCancel(() -> log.info("스트리밍 채팅 취소 - sessionId: {}", context.session().getSessionId()));
     }
 
     /**
      * =========================
      * REST API 채팅
      * =========================
+     * 트랜잭션은 DB 작업 단위로만 짧게 열고, 질문 분류/모델 호출 중에는 DB 커넥션을 잡지 않습니다.
      */
-    @Transactional
     public ChatResult chat(String sessionId, String message, Long userId) {
 
-        try {
-            // ⚠️ Tool에서 사용자 정보를 조회할 수 있도록 ThreadLocal에 userId 설정
-            UserContextHolder.setUserId(userId);
+        // 요청 스레드에서 기억한 사용자 스냅샷을 Tool에 넘겨 Tool에서 다시 조회하지 않도록 함
+        UserJpaEntity user = userId != null ? resolveCurrentUser() : null;
 
-            ChatContext context = prepareContext(sessionId, message, userId);
+        // 질문 분류 + RAG 검색은 세션/메시지 저장과 동시에 진행
+        CompletableFuture<PromptPlan> plan = planPrompt(message, user);
+        ChatContext context = prepareContext(sessionId, message, userId, plan);
+        Map<String, Object> toolContext = ChatToolContext.of(context.session().getSessionId(), userId, user);
 
-            // 질문 유형 분류
-            QueryType queryType = queryTypeClassifier.classify(context.message());
-            String systemPrompt = systemPromptProvider.getSystemPrompt(queryType);
+        PromptPlan promptPlan = awaitPlan(plan);
+        QueryType queryType = promptPlan.queryType();
+        String systemPrompt = systemPromptProvider.getSystemPrompt(queryType);
 
-            log.info("REST 채팅 - 질문 유형: {}, userId: {}", queryType, userId);
+        log.info("REST 채팅 - 질문 유형: {}, userId: {}", queryType, userId);
 
-            String response = invokeChatModel(context.session(), context.message(), systemPrompt);
-            saveAssistantMessage(context.session(), response);
+        String response = invokeChatModel(context.session(), context.message(), systemPrompt, toolContext,
+                promptPlan.retrievalContext());
+        saveAssistantMessage(context.session(), response);
 
-            return new ChatResult(context.session().getSessionId(), response, queryType);
-
-        } finally {
-            // ⚠️ 반드시 ThreadLocal 정리 (메모리 누수 방지)
-            UserContextHolder.clear();
-        }
+        return new ChatResult(context.session().getSessionId(), response, queryType);
     }
 
     /**
@@ -172,14 +185,10 @@ public class ChatService {
      * =========================
      * AI 응답 저장 + 제목 갱신
      * =========================
+     * 저장은 {@link ChatPersistenceWriter}에 맡기고 기다리지 않습니다.
      */
     private void saveAssistantMessage(ChatSession session, String content) {
-
-        chatMessageRepository.save(
-                ChatMessage.assistantMessage(session, content)
-        );
-
-        updateLastActivity(session);
+        chatPersistenceWriter.append(ChatMessage.assistantMessage(session, content));
         updateSessionTitleIfNeeded(session, content);
     }
 
@@ -196,18 +205,26 @@ public class ChatService {
                 ? content.substring(0, MAX_TITLE_LENGTH) + "..."
                 : content;
 
-        session.updateTitle(title);
-        chatSessionRepository.save(session);
+        chatPersistenceWriter.updateTitle(session, title, DEFAULT_SESSION_TITLE);
     }
 
     /**
      * =========================
      * 채팅 히스토리 조회
      * =========================
+     * 저장 대기 중인 메시지를 먼저 커밋한 뒤 조회 트랜잭션을 시작해야 조회 스냅숏에 보이므로,
+     * 메서드 전체가 아니라 조회 부분만 트랜잭션으로 묶습니다.
      */
-    @Transactional(readOnly = true)
     public List<ChatMessageResponse> getChatHistory(String sessionId) {
 
+        // 저장 대기 중인 메시지까지 보이도록 조회 전에 (트랜잭션 밖에서) 먼저 반영
+        chatPersistenceWriter.flush();
+
+        return transactionTemplate.execute(status -> readChatHistory(sessionId));
+    }
+
+    private List<ChatMessageResponse> readChatHistory(String sessionId) {
+
         // 1. sessionId로 세션 조회
         ChatSession session = chatSessionRepository
                 .findBySessionId(sessionId)
@@ -237,10 +254,19 @@ public class ChatService {
      * 익명 사용자(비로그인)인 경우 null을 반환합니다.
      */
     private Long resolveCurrentUserId() {
+        UserJpaEntity user = resolveCurrentUser();
+        return user != null ? user.getId() : null;  // 익명 사용자
+    }
+
+    /**
+     * 현재 사용자를 안전하게 조회합니다 (요청 안에서는 메모된 사용자 재사용).
+     * 익명 사용자(비로그인)인 경우 null을 반환합니다.
+     */
+    private UserJpaEntity resolveCurrentUser() {
         try {
-            return userFacade.currentUser().getId();
+            return userFacade.currentUser();
         } catch (Exception e) {
-            return null;  // 익명 사용자
+            return null;
         }
     }
 
@@ -260,8 +286,9 @@ public class ChatService {
      * =========================
      * 세션 삭제
      * =========================
+     * 저장기에서 세션을 먼저 제외한 뒤(진행 중인 저장은 커밋까지 대기) 짧은 트랜잭션으로 삭제하므로,
+     * 스트리밍 중이던 답변이 삭제 뒤에 저장되지 않습니다.
      */
-    @Transactional
     public void deleteSession(String sessionId) {
 
         // 1. sessionId로 세션 조회
@@ -282,164 +309,99 @@ public class ChatService {
 
         log.info("세션 삭제 - sessionId: {}, userId: {}", sessionId, currentUserId);
 
+        // 저장 대기 중이거나 이후에 추가되는 메시지가 삭제 뒤에 들어가지 않도록 먼저 제외
+        chatPersistenceWriter.discard(session);
         chatMemory.clear(sessionId);
-        chatMessageRepository.deleteByChatSession(session);
-        chatSessionRepository.delete(session);
+        transactionTemplate.executeWithoutResult(status -> {
+            chatMessageRepository.deleteByChatSession(session);
+            chatSessionRepository.delete(session);
+        });
     }
 
     /**
      * =========================
      * VectorStore 초기화
      * =========================
-     * ✅ QuestionAnswerAdvisor가 활성화되어 RAG(Retrieval-Augmented Generation)를 사용합니다.
+     * ✅ RetrievalAugmentationAdvisor가 활성화되어 RAG(Retrieval-Augmented Generation)를 사용합니다.
      *
      * 설정:
-     * - similarityThreshold: 0.95 (매우 유사한 문서만 검색)
+     * - 사용자 지역/생애주기 메타데이터 필터 + similarityThreshold ({@code chatbot.retrieval})
      * - Tool 결과 우선 사용, RAG는 보조적 컨텍스트 제공
-     * - Batch + Chunk 방식으로 효율적 초기화
+     * - 페이지 단위 읽기 + 병렬 Chunk + 동시 임베딩 배치 ({@link VectorStoreIngestionPipeline})
+     * - 본문이 바뀐(또는 추가/삭제된) 서비스만 다시 임베딩 (full이면 전체)
      *
      * 초기화 후 복지 서비스 데이터가 벡터 임베딩으로 저장되어
      * 의미론적 검색(Semantic Search)이 가능합니다.
      */
-    @Transactional(readOnly = true)
-    public void initializeVectorStore() {
-
-        log.info("✅ VectorStore 초기화 시작 (Batch + Chunk 적용, RAG 활성화)");
-
-        List<WelfareServiceJpaEntity> services =
-                welfareServiceRepository.findAll();
-
-        if (services.isEmpty()) {
-            log.warn("복지 서비스 데이터가 없습니다.");
-            return;
-        }
-
-        List<Document> buffer = new ArrayList<>(BATCH_SIZE);
-        int totalChunks = 0;
-
-        for (WelfareServiceJpaEntity service : services) {
-
-            List<Document> docs = toDocuments(service);
-            totalChunks += docs.size();
+    public IngestionReport initializeVectorStore(boolean full) {
+        return vectorStoreIngestionPipeline.ingest(full);
+    }
 
-            for (Document doc : docs) {
-                buffer.add(doc);
+    /**
+     * 질문 분류와 RAG 검색을 가상 스레드에서 시작합니다.
+     *
+     * <p>둘 다 DB 트랜잭션이 필요 없으므로, 트랜잭션이 묶인 호출 스레드는 그동안 세션/메시지를 저장하고
+     * 프롬프트를 만들기 직전에 {@link #awaitPlan(CompletableFuture)}로 합류합니다.
+     * 분류가 캐시/규칙으로 끝나지 않는 경우 응답 지연이 저장 시간만큼 줄어듭니다.
+     */
+    private CompletableFuture<PromptPlan> planPrompt(String message, UserJpaEntity user) {
+        return CompletableFuture.supplyAsync(() -> {
+            QueryType queryType = queryTypeClassifier.classify(message);
+            return new PromptPlan(queryType, welfareDocumentRetriever.prefetch(message, queryType, user));
+        }, promptPlanningExecutor);
+    }
 
-                if (buffer.size() == BATCH_SIZE) {
-                    vectorStore.add(buffer);
-                    log.info("VectorStore batch add 완료 ({}건)", buffer.size());
-                    buffer.clear();
-                }
+    /**
+     * 종료 시 질문 분류/RAG 검색 스레드를 정리합니다.
+     * 진행 중인 작업은 잠시 기다리고, 그래도 끝나지 않으면 인터럽트합니다.
+     */
+    @PreDestroy
+    public void shutdownPromptPlanning() {
+        promptPlanningExecutor.shutdown();
+        try {
+            if (!promptPlanningExecutor.awaitTermination(
+                    PROMPT_PLANNING_SHUTDOWN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("질문 분류/RAG 검색 작업이 끝나지 않아 중단합니다.");
+                promptPlanningExecutor.shutdownNow();
             }
+        } catch (InterruptedException e) {
+            promptPlanningExecutor.shutdownNow();
+            Thread.currentThread().interrupt();
         }
+    }
 
-        if (!buffer.isEmpty()) {
-            vectorStore.add(buffer);
-            log.info("VectorStore 마지막 batch add 완료 ({}건)", buffer.size());
+    private PromptPlan awaitPlan(CompletableFuture<PromptPlan> plan) {
+        try {
+            return plan.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
         }
-
-        log.info("VectorStore 초기화 완료 - 서비스 {}건 → 총 Chunk {}건",
-                services.size(), totalChunks);
     }
 
-    private ChatContext prepareContext(String sessionId, String message, Long userId) {
-        ChatSession session = getOrCreateSession(sessionId, userId);
-        chatMessageRepository.save(ChatMessage.userMessage(session, message));
-        updateLastActivity(session);
-        return new ChatContext(session, message);
+    private ChatContext prepareContext(String sessionId, String message, Long userId,
+                                       CompletableFuture<PromptPlan> plan) {
+        try {
+            // 조회 + 생성을 하나의 짧은 트랜잭션으로 (메시지/활동 시간은 write-behind)
+            ChatSession session = transactionTemplate.execute(status -> getOrCreateSession(sessionId, userId));
+            chatPersistenceWriter.append(ChatMessage.userMessage(session, message));
+            return new ChatContext(session, message);
+        } catch (RuntimeException e) {
+            // 저장에 실패하면 응답하지 않으므로 분류/검색 결과를 기다리지 않음
+            plan.cancel(false);
+            throw e;
+        }
     }
 
-    private String invokeChatModel(ChatSession session, String message, String systemPrompt) {
+    private String invokeChatModel(ChatSession session, String message, String systemPrompt,
+                                   Map<String, Object> toolContext, Map<String, Object> retrievalContext) {
         return chatClient.prompt()
                 .system(systemPrompt)
                 .user(message)
-                .advisors(advisor -> advisor.param(
-                        MEMORY_CONVERSATION_ID,
-                        session.getSessionId()
-                ))
+                .advisors(advisor -> advisor
+                        .param(MEMORY_CONVERSATION_ID, session.getSessionId())
+                        .params(retrievalContext))
+                .toolContext(toolContext)
                 .call()
                 .content();
     }
-
-    private void handleStreamingError(Consumer<Throwable> onError, Throwable error) {
-        log.error("스트리밍 채팅 처리 실패", error);
-        onError.accept(error);
-    }
-
-    private void updateLastActivity(ChatSession session) {
-        session.updateLastActivity(java.time.LocalDateTime.now());
-        chatSessionRepository.save(session);
-    }
-
-    private List<Document> toDocuments(WelfareServiceJpaEntity w) {
-
-        String fullText = buildContent(w);
-
-        List<Document> documents = new ArrayList<>();
-
-        for (int start = 0; start < fullText.length(); start += (CHUNK_SIZE - CHUNK_OVERLAP)) {
-
-            int end = Math.min(start + CHUNK_SIZE, fullText.length());
-            String chunk = fullText.substring(start, end);
-
-            Map<String, Object> metadata = buildMetadata(w);
-            metadata.put("chunkStart", start);
-
-            documents.add(new Document(chunk, metadata));
-
-            if (end == fullText.length()) {
-                break;
-            }
-        }
-
-        return documents;
-    }
-
-    private String buildContent(WelfareServiceJpaEntity w) {
-
-        StringBuilder content = new StringBuilder();
-
-        content.append("서비스명: ").append(w.getServiceName()).append("\n");
-
-        String summary =
-                w.getAiSummary() != null
-                        ? w.getAiSummary()
-                        : w.getServiceSummary();
-
-        if (summary != null && !summary.isBlank()) {
-            content.append("요약: ").append(summary).append("\n");
-        }
-
-        if (w.getServiceContent() != null && !w.getServiceContent().isBlank()) {
-            content.append("내용: ").append(w.getServiceContent()).append("\n");
-        }
-
-        if (w.getCtpvNm() != null) {
-            content.append("지역: ").append(w.getCtpvNm());
-            if (w.getSggNm() != null) {
-                content.append(" ").append(w.getSggNm());
-            }
-            content.append("\n");
-        }
-
-        return content.toString();
-    }
-
-    private Map<String, Object> buildMetadata(WelfareServiceJpaEntity w) {
-
-        Map<String, Object> metadata = new HashMap<>();
-
-        metadata.put("serviceId", w.getServiceId());
-        metadata.put("serviceName", w.getServiceName());
-        metadata.put("serviceType", w.getServiceType());
-
-        if (w.getCtpvNm() != null) {
-            metadata.put("ctpvNm", w.getCtpvNm());
-        }
-        if (w.getSggNm() != null) {
-            metadata.put("sggNm", w.getSggNm());
-        }
-
-        return metadata;
-    }
 }
@@ -1,27 +1,54 @@
 package team.java.facto_be.domain.chatbot.service;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.chat.model.ChatModel;
 import org.springframework.ai.chat.prompt.Prompt;
 import org.springframework.ai.chat.prompt.PromptTemplate;
 import org.springframework.stereotype.Service;
+import team.java.facto_be.domain.chatbot.service.classifier.LocalQueryTypeModel;
+import team.java.facto_be.domain.chatbot.service.classifier.QueryClassificationLog;
+import team.java.facto_be.domain.chatbot.service.classifier.QueryClassifierProperties;
+import team.java.facto_be.domain.chatbot.service.classifier.QueryTypeCache;
+import team.java.facto_be.domain.chatbot.service.classifier.QueryTypePrediction;
+import team.java.facto_be.domain.chatbot.service.classifier.RuleBasedQueryScorer;
 import team.java.facto_be.domain.chatbot.service.enums.QueryType;
 
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 
 /**
- * 사용자 질문의 유형을 AI를 사용하여 분류하는 서비스.
+ * 사용자 질문의 유형을 분류하는 서비스.
  *
- * <p>1인칭 표현은 정규식으로 먼저 감지하여 개인화 추천 여부를 정확하게 판단합니다.
+ * <p>정규화한 질문이 {@link QueryTypeCache}에 있으면 그대로 반환하고, 없으면
+ * 비용이 낮은 단계부터 차례로 시도하여 확신도가 기준 이상인 단계에서 확정합니다.
+ * <ol>
+ *   <li>키워드/정규식 규칙 ({@link RuleBasedQueryScorer})</li>
+ *   <li>LLM 분류 기록으로 학습한 문자 n-gram 모델 ({@link LocalQueryTypeModel})</li>
+ *   <li>LLM - 1인칭 표현은 정규식으로 먼저 감지하여 힌트로 전달하고, 결과는 2단계 학습 데이터로 기록</li>
+ * </ol>
+ * 단계별 처리 건수와 지연 시간은 {@code chatbot.query.classification} 타이머({@code stage} 태그)로 노출되므로
+ * 로컬에서 끝난 비율과 절약한 시간(로컬 건수 × LLM 평균 지연)을 계산할 수 있습니다.
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class QueryTypeClassifier {
 
     private final ChatModel chatModel;
+    private final RuleBasedQueryScorer ruleScorer;
+    private final LocalQueryTypeModel localModel;
+    private final QueryClassificationLog classificationLog;
+    private final QueryClassifierProperties properties;
+    private final QueryTypeCache queryTypeCache;
+
+    private final Timer cacheTimer;
+    private final Timer ruleTimer;
+    private final Timer modelTimer;
+    private final Timer llmTimer;
+    private final Timer fallbackTimer;
 
     /**
      * 1인칭 표현 감지 패턴.
@@ -29,7 +56,9 @@ public class QueryTypeClassifier {
      */
     private static final Pattern FIRST_PERSON_PATTERN = Pattern.compile(
             "\\b(내가|나는|나의|나에게|나한테|내|나|저는|저의|제가|저에게|저한테|제|우리|우리가|우리의|" +
-            "받을\\s*수\\s*있는|해당되는|적용되는|맞는|맞춤|추천|가능한)\\b"
+            "받을\\s*수\\s*있는|해당되는|적용되는|맞는|맞춤|추천|가능한)\\b",
+            // JDK 19부터 \b가 ASCII 기준으로 바뀌어 한글을 단어 문자로 보도록 지정해야 함
+            Pattern.UNICODE_CHARACTER_CLASS
     );
 
     private static final String CLASSIFICATION_PROMPT = """
@@ -57,58 +86,137 @@ public class QueryTypeClassifier {
             다른 설명 없이 분류 결과만 출력하세요.
             """;
 
+    public QueryTypeClassifier(
+            ChatModel chatModel,
+            RuleBasedQueryScorer ruleScorer,
+            LocalQueryTypeModel localModel,
+            QueryClassificationLog classificationLog,
+            QueryClassifierProperties properties,
+            QueryTypeCache queryTypeCache,
+            MeterRegistry meterRegistry
+    ) {
+        this.chatModel = chatModel;
+        this.ruleScorer = ruleScorer;
+        this.localModel = localModel;
+        this.classificationLog = classificationLog;
+        this.properties = properties;
+        this.queryTypeCache = queryTypeCache;
+        this.cacheTimer = stageTimer("cache", meterRegistry);
+        this.ruleTimer = stageTimer("rule", meterRegistry);
+        this.modelTimer = stageTimer("model", meterRegistry);
+        this.llmTimer = stageTimer("llm", meterRegistry);
+        this.fallbackTimer = stageTimer("fallback", meterRegistry);
+    }
+
     /**
      * 사용자 질문을 분석하여 QueryType을 반환합니다.
      *
-     * <p>1인칭 표현이 포함된 경우 정규식으로 먼저 감지하여
-     * 개인화 추천이 필요함을 명시적으로 표시합니다.
+     * <p>캐시 → 규칙 → 로컬 모델 → LLM 순으로 시도하며, LLM 호출이 실패하거나 알 수 없는 응답을 주면
+     * TOPIC을 반환합니다. 실패로 대체한 TOPIC은 학습 데이터로 기록하거나 캐시하지 않습니다.
      *
      * @param userMessage 사용자 질문
      * @return 분류된 QueryType
      */
     public QueryType classify(String userMessage) {
-        try {
-            // 1단계: 1인칭 표현 정규식 감지
-            boolean hasFirstPerson = FIRST_PERSON_PATTERN.matcher(userMessage).find();
-
-            // 2단계: AI 분류
-            PromptTemplate template = new PromptTemplate(CLASSIFICATION_PROMPT);
-            Map<String, Object> params = Map.of(
-                    "userMessage", userMessage,
-                    "firstPersonHint", hasFirstPerson
-                            ? "⚠️ 주의: 이 질문은 1인칭 표현('나', '내', '저' 등)을 포함합니다. 개인화 추천이 필요할 수 있습니다."
-                            : ""
-            );
-            Prompt prompt = template.create(params);
-
-            String classification = chatModel.call(prompt)
-                    .getResult()
-                    .getOutput()
-                    .getText()
-                    .trim()
-                    .toUpperCase();
-
-            QueryType queryType = parseQueryType(classification);
-            log.info("질문 분류 - 입력: '{}', 1인칭 감지: {} → 분류: {}",
-                    userMessage, hasFirstPerson, queryType);
-
-            return queryType;
+        long start = System.nanoTime();
+
+        Optional<QueryType> cached = queryTypeCache.get(userMessage);
+        if (cached.isPresent()) {
+            cacheTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            log.debug("질문 분류(캐시) - 입력: '{}' → 분류: {}", userMessage, cached.get());
+            return cached.get();
+        }
 
+        // 1단계: 규칙
+        QueryTypePrediction rule = ruleScorer.score(userMessage);
+        if (rule.confidence() >= properties.ruleConfidence()) {
+            return resolved(ruleTimer, start, "규칙", userMessage, rule);
+        }
+
+        // 2단계: 로컬 n-gram 모델
+        Optional<QueryTypePrediction> local = localModel.predict(userMessage);
+        if (local.isPresent() && local.get().confidence() >= properties.modelConfidence()) {
+            return resolved(modelTimer, start, "모델", userMessage, local.get());
+        }
+
+        // 3단계: LLM
+        Optional<QueryType> classified;
+        try {
+            classified = classifyWithChatModel(userMessage);
         } catch (Exception e) {
             log.error("질문 분류 실패, TOPIC으로 대체", e);
+            classified = Optional.empty();
+        }
+        if (classified.isEmpty()) {
+            // 대체한 TOPIC은 실제 분류가 아니므로 학습 데이터로 기록하거나 캐시하지 않음
+            fallbackTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
             return QueryType.TOPIC; // 기본값
         }
+        llmTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        classificationLog.append(userMessage, classified.get());
+        queryTypeCache.put(userMessage, classified.get());
+        return classified.get();
+    }
+
+    private QueryType resolved(Timer timer, long start, String stage, String userMessage,
+                               QueryTypePrediction prediction) {
+        timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        queryTypeCache.put(userMessage, prediction.type());
+        log.info("질문 분류({}) - 입력: '{}' → 분류: {} (확신도 {})",
+                stage, userMessage, prediction.type(), String.format("%.2f", prediction.confidence()));
+        return prediction.type();
+    }
+
+    /**
+     * LLM으로 질문을 분류합니다.
+     *
+     * <p>1인칭 표현이 포함된 경우 정규식으로 먼저 감지하여
+     * 개인화 추천이 필요함을 명시적으로 표시합니다.
+     *
+     * @return 분류 결과 (응답이 유형 이름이 아니면 empty)
+     */
+    private Optional<QueryType> classifyWithChatModel(String userMessage) {
+        // 1인칭 표현 정규식 감지
+        boolean hasFirstPerson = FIRST_PERSON_PATTERN.matcher(userMessage).find();
+
+        PromptTemplate template = new PromptTemplate(CLASSIFICATION_PROMPT);
+        Map<String, Object> params = Map.of(
+                "userMessage", userMessage,
+                "firstPersonHint", hasFirstPerson
+                        ? "⚠️ 주의: 이 질문은 1인칭 표현('나', '내', '저' 등)을 포함합니다. 개인화 추천이 필요할 수 있습니다."
+                        : ""
+        );
+        Prompt prompt = template.create(params);
+
+        String classification = chatModel.call(prompt)
+                .getResult()
+                .getOutput()
+                .getText()
+                .trim()
+                .toUpperCase();
+
+        Optional<QueryType> queryType = parseQueryType(classification);
+        log.info("질문 분류(LLM) - 입력: '{}', 1인칭 감지: {} → 분류: {}",
+                userMessage, hasFirstPerson, queryType.map(QueryType::name).orElse("알 수 없음"));
+
+        return queryType;
     }
 
     /**
      * 문자열을 QueryType으로 파싱합니다.
      */
-    private QueryType parseQueryType(String classification) {
+    private Optional<QueryType> parseQueryType(String classification) {
         try {
-            return QueryType.valueOf(classification);
+            return Optional.of(QueryType.valueOf(classification));
         } catch (IllegalArgumentException e) {
             log.warn("알 수 없는 분류 결과: {}, TOPIC으로 대체", classification);
-            return QueryType.TOPIC;
+            return Optional.empty();
         }
     }
+
+    private static Timer stageTimer(String stage, MeterRegistry meterRegistry) {
+        return Timer.builder("chatbot.query.classification")
+                .tag("stage", stage)
+                .register(meterRegistry);
+    }
 }
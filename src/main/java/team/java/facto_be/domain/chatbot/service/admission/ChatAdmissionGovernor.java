@@ -0,0 +1,254 @@
+package team.java.facto_be.domain.chatbot.service.admission;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.security.Principal;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 채팅 요청(REST/WebSocket 공통)이 모델을 호출하기 전에 통과하는 수락 제어기.
+ *
+ * <p>다음 순서로 요청을 수락하거나 거절합니다.
+ * <ol>
+ *   <li>사용자별 토큰 버킷 ({@code user-burst}, {@code user-refill-interval}): 비어 있으면 바로 거절</li>
+ *   <li>동시 처리 수가 {@code max-concurrent} 미만이고 기다리는 요청이 없으면 바로 수락</li>
+ *   <li>아니면 사용자별 대기열에 넣고, 자리가 나면 사용자들을 돌아가며 한 건씩 수락 (한 사용자가 많이 보내도
+ *       다른 사용자가 그 뒤에 밀리지 않음)</li>
+ *   <li>전체 대기 수가 {@code max-queued}면 바로 거절하고, {@code max-wait} 안에 차례가 오지 않아도 거절</li>
+ * </ol>
+ * 과부하 시 요청이 모델 호출 타임아웃까지 쌓이지 않고 빠르게 거절되므로, 클라이언트는 {@code retryAfter} 후 다시 시도합니다.
+ *
+ * <p>지표: {@code chatbot.admission.active}, {@code chatbot.admission.queue.depth} (게이지),
+ * {@code chatbot.admission.wait} (대기 시간), {@code chatbot.admission.rejected} ({@code reason} 태그).
+ */
+@Slf4j
+@Component
+public class ChatAdmissionGovernor {
+
+    private final ChatAdmissionProperties properties;
+    private final Cache<String, UserTokenBucket> buckets;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    /** 사용자 키 → 대기 요청 (순서 유지) */
+    private final Map<String, ArrayDeque<Waiter>> queues = new HashMap<>();
+    /** 대기 요청이 있는 사용자 키 (돌아가며 수락하는 순서) */
+    private final ArrayDeque<String> turns = new ArrayDeque<>();
+    private int active;
+    private int queued;
+
+    private final Timer waitTimer;
+    private final Counter rateLimitedCounter;
+    private final Counter queueFullCounter;
+    private final Counter timeoutCounter;
+
+    public ChatAdmissionGovernor(ChatAdmissionProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.buckets = Caffeine.newBuilder()
+                .expireAfterAccess(properties.userIdleTtl())
+                .build();
+
+        Gauge.builder("chatbot.admission.active", this, ChatAdmissionGovernor::active)
+                .description("모델을 호출 중인 채팅 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("chatbot.admission.queue.depth", this, ChatAdmissionGovernor::queued)
+                .description("차례를 기다리는 채팅 요청 수")
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("chatbot.admission.wait")
+                .description("대기열에서 수락될 때까지 기다린 시간")
+                .register(meterRegistry);
+        this.rateLimitedCounter = rejectedCounter(ChatAdmissionRejectedException.Reason.RATE_LIMITED, meterRegistry);
+        this.queueFullCounter = rejectedCounter(ChatAdmissionRejectedException.Reason.QUEUE_FULL, meterRegistry);
+        this.timeoutCounter = rejectedCounter(ChatAdmissionRejectedException.Reason.TIMEOUT, meterRegistry);
+    }
+
+    /**
+     * 처리 권한을 얻을 때까지 기다립니다 (가상 스레드에서 호출).
+     * 반환된 {@link Permit}은 응답이 끝나면(스트리밍이면 스트림이 끝나거나 취소되면) 반드시 닫아야 합니다.
+     *
+     * @param userKey 사용자 키 ({@link #userKey(Principal, String)})
+     * @return 처리 권한
+     * @throws ChatAdmissionRejectedException 요청 빈도 초과, 대기열 가득 참, 대기 시간 초과
+     */
+    public Permit acquire(String userKey) {
+        UserTokenBucket bucket = buckets.get(userKey, key -> new UserTokenBucket(
+                properties.userBurst(), properties.userRefillInterval().toNanos()));
+        long refillNanos = bucket.tryConsume();
+        if (refillNanos > 0) {
+            rateLimitedCounter.increment();
+            throw new ChatAdmissionRejectedException(ChatAdmissionRejectedException.Reason.RATE_LIMITED,
+                    Duration.ofNanos(refillNanos), "질문이 너무 잦습니다. 잠시 후 다시 시도해 주세요.");
+        }
+
+        Waiter waiter;
+        lock.lock();
+        try {
+            if (active < properties.maxConcurrent() && queued == 0) {
+                active++;
+                return new Permit();
+            }
+            if (queued >= properties.maxQueued()) {
+                queueFullCounter.increment();
+                throw overloaded(ChatAdmissionRejectedException.Reason.QUEUE_FULL);
+            }
+            waiter = new Waiter();
+            queues.computeIfAbsent(userKey, key -> {
+                turns.addLast(key);
+                return new ArrayDeque<>();
+            }).addLast(waiter);
+            queued++;
+        } finally {
+            lock.unlock();
+        }
+
+        long start = System.nanoTime();
+        try {
+            waiter.admitted.get(properties.maxWait().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            if (cancel(userKey, waiter)) {
+                timeoutCounter.increment();
+                log.warn("채팅 요청 대기 시간 초과 - user: {}", userKey);
+                throw overloaded(ChatAdmissionRejectedException.Reason.TIMEOUT);
+            }
+            // 취소하기 직전에 수락됨
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (cancel(userKey, waiter)) {
+                throw new IllegalStateException("채팅 요청 대기 중 중단되었습니다.", e);
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+        waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return new Permit();
+    }
+
+    /**
+     * 토큰 버킷/대기열을 나누는 사용자 키를 만듭니다.
+     *
+     * <p>클라이언트가 본문에 담아 보내는 값(WebSocket 메시지의 userId 등)은 바꿔 보내면 제한을 피하거나
+     * 다른 사용자의 버킷을 소진시킬 수 있으므로 쓰지 않고, 서버가 확인한 값만 사용합니다.
+     *
+     * @param principal JWT로 인증된 사용자 (HTTP 요청/WebSocket 핸드셰이크, 없으면 null)
+     * @param remoteAddress 접속 주소 (비로그인 사용자 구분용)
+     * @return 사용자 키
+     */
+    public static String userKey(Principal principal, String remoteAddress) {
+        return principal != null ? "user:" + principal.getName() : "addr:" + remoteAddress;
+    }
+
+    /**
+     * 대기 중인 요청을 대기열에서 뺍니다.
+     *
+     * @return 뺐으면 true, 이미 수락되어 처리 권한을 받았으면 false
+     */
+    private boolean cancel(String userKey, Waiter waiter) {
+        lock.lock();
+        try {
+            if (waiter.admitted.isDone()) {
+                return false;
+            }
+            ArrayDeque<Waiter> queue = queues.get(userKey);
+            if (queue != null && queue.remove(waiter)) {
+                queued--;
+                if (queue.isEmpty()) {
+                    queues.remove(userKey);
+                    turns.remove(userKey);
+                }
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void release() {
+        lock.lock();
+        try {
+            active--;
+            // 사용자별 대기열을 돌아가며 한 건씩 수락
+            while (active < properties.maxConcurrent() && queued > 0) {
+                String userKey = turns.pollFirst();
+                ArrayDeque<Waiter> queue = queues.get(userKey);
+                Waiter next = queue.pollFirst();
+                queued--;
+                if (queue.isEmpty()) {
+                    queues.remove(userKey);
+                } else {
+                    turns.addLast(userKey);
+                }
+                active++;
+                next.admitted.complete(null);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private ChatAdmissionRejectedException overloaded(ChatAdmissionRejectedException.Reason reason) {
+        return new ChatAdmissionRejectedException(reason, properties.maxWait(),
+                "현재 질문이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.");
+    }
+
+    private int active() {
+        lock.lock();
+        try {
+            return active;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int queued() {
+        lock.lock();
+        try {
+            return queued;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static Counter rejectedCounter(ChatAdmissionRejectedException.Reason reason, MeterRegistry meterRegistry) {
+        return Counter.builder("chatbot.admission.rejected")
+                .description("수락하지 못한 채팅 요청 수")
+                .tag("reason", reason.name().toLowerCase())
+                .register(meterRegistry);
+    }
+
+    private static final class Waiter {
+        private final CompletableFuture<Void> admitted = new CompletableFuture<>();
+    }
+
+    /**
+     * 채팅 요청 하나의 처리 권한. 여러 번 닫아도 한 번만 반납합니다.
+     */
+    public final class Permit implements AutoCloseable {
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit() {
+        }
+
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                release();
+            }
+        }
+    }
+}
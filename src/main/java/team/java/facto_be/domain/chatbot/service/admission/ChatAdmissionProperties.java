@@ -0,0 +1,46 @@
+package team.java.facto_be.domain.chatbot.service.admission;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 채팅 요청 수락(동시 처리/대기열/사용자별 요청 빈도) 설정 프로퍼티.
+ *
+ * @param maxConcurrent 동시에 모델을 호출하는 채팅 요청 수 상한 (REST + WebSocket 합계)
+ * @param maxQueued 차례를 기다리는 요청 수 상한 (넘으면 바로 거절)
+ * @param maxWait 대기열에서 기다리는 최대 시간 (넘으면 거절)
+ * @param userBurst 사용자별 토큰 버킷 크기 (연속으로 보낼 수 있는 질문 수)
+ * @param userRefillInterval 사용자별 토큰 버킷에 토큰 하나가 다시 채워지는 간격
+ * @param userIdleTtl 이 시간 동안 요청이 없는 사용자의 버킷은 제거 (다시 오면 가득 찬 버킷으로 시작)
+ */
+@ConfigurationProperties(prefix = "chatbot.admission")
+public record ChatAdmissionProperties(
+        Integer maxConcurrent,
+        Integer maxQueued,
+        Duration maxWait,
+        Integer userBurst,
+        Duration userRefillInterval,
+        Duration userIdleTtl
+) {
+    public ChatAdmissionProperties {
+        if (maxConcurrent == null || maxConcurrent < 1) {
+            maxConcurrent = 32;
+        }
+        if (maxQueued == null || maxQueued < 0) {
+            maxQueued = 100;
+        }
+        if (maxWait == null || maxWait.isNegative()) {
+            maxWait = Duration.ofSeconds(5);
+        }
+        if (userBurst == null || userBurst < 1) {
+            userBurst = 5;
+        }
+        if (userRefillInterval == null || userRefillInterval.isZero() || userRefillInterval.isNegative()) {
+            userRefillInterval = Duration.ofSeconds(6);
+        }
+        if (userIdleTtl == null || userIdleTtl.isZero() || userIdleTtl.isNegative()) {
+            userIdleTtl = Duration.ofMinutes(10);
+        }
+    }
+}
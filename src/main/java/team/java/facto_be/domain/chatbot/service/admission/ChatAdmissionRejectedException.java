@@ -0,0 +1,33 @@
+package team.java.facto_be.domain.chatbot.service.admission;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * 채팅 요청을 수락하지 못했을 때 발생하는 예외.
+ */
+@Getter
+public class ChatAdmissionRejectedException extends IllegalStateException {
+
+    /**
+     * 거절 사유.
+     */
+    public enum Reason {
+        /** 사용자별 토큰 버킷이 비어 있음 */
+        RATE_LIMITED,
+        /** 대기열이 가득 참 */
+        QUEUE_FULL,
+        /** 대기 시간 초과 */
+        TIMEOUT
+    }
+
+    private final Reason reason;
+    private final Duration retryAfter;
+
+    ChatAdmissionRejectedException(Reason reason, Duration retryAfter, String message) {
+        super(message);
+        this.reason = reason;
+        this.retryAfter = retryAfter;
+    }
+}
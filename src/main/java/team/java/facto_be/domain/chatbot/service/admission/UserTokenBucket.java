@@ -0,0 +1,39 @@
+package team.java.facto_be.domain.chatbot.service.admission;
+
+/**
+ * 사용자 한 명의 요청 빈도를 제한하는 토큰 버킷.
+ *
+ * <p>가득 찬 상태({@code capacity}개)로 시작하고, {@code refillNanos}마다 토큰 하나가 다시 채워집니다.
+ */
+final class UserTokenBucket {
+
+    private final int capacity;
+    private final long refillNanos;
+
+    private double tokens;
+    private long refilledAt;
+
+    UserTokenBucket(int capacity, long refillNanos) {
+        this.capacity = capacity;
+        this.refillNanos = refillNanos;
+        this.tokens = capacity;
+        this.refilledAt = System.nanoTime();
+    }
+
+    /**
+     * 토큰 하나를 사용합니다.
+     *
+     * @return 사용했으면 0, 토큰이 없으면 다음 토큰이 채워질 때까지 남은 시간(나노초)
+     */
+    synchronized long tryConsume() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (double) (now - refilledAt) / refillNanos);
+        refilledAt = now;
+
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+        return Math.max(1, (long) ((1 - tokens) * refillNanos));
+    }
+}
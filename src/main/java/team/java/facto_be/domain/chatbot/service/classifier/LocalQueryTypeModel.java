@@ -0,0 +1,60 @@
+package team.java.facto_be.domain.chatbot.service.classifier;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * LLM 분류 기록으로 학습한 {@link NgramQueryTypeModel}을 보관하는 2단계 분류기.
+ *
+ * <p>기동 직후와 {@code chatbot.classifier.retrain-interval}마다 최근 기록으로 다시 학습합니다.
+ * 기록이 {@code chatbot.classifier.model-min-samples}건보다 적으면 모델 없이 동작하며,
+ * 그동안은 규칙으로 확정하지 못한 질문이 모두 LLM으로 분류됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LocalQueryTypeModel {
+
+    private final QueryClassificationLog classificationLog;
+    private final QueryClassifierProperties properties;
+
+    private volatile NgramQueryTypeModel model;
+
+    /**
+     * 질문 유형을 예측합니다.
+     *
+     * @param message 사용자 질문
+     * @return 예측 결과 (모델이 없으면 empty)
+     */
+    public Optional<QueryTypePrediction> predict(String message) {
+        NgramQueryTypeModel current = model;
+        return current == null ? Optional.empty() : Optional.of(current.predict(message));
+    }
+
+    /**
+     * 최근 LLM 분류 기록으로 모델을 다시 학습합니다.
+     */
+    @Scheduled(fixedDelayString = "${chatbot.classifier.retrain-interval:PT1H}")
+    public void retrain() {
+        if (!properties.modelEnabled()) {
+            return;
+        }
+        try {
+            long start = System.currentTimeMillis();
+            List<NgramQueryTypeModel.Sample> samples = classificationLog.readRecent(properties.maxTrainingSamples());
+            if (samples.size() < properties.modelMinSamples()) {
+                log.info("질문 분류 모델 학습 생략 - 기록 {}건 (최소 {}건)", samples.size(), properties.modelMinSamples());
+                return;
+            }
+            model = NgramQueryTypeModel.train(samples);
+            log.info("질문 분류 모델 학습 완료 - {}건, {} ms", samples.size(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.warn("질문 분류 모델 학습 실패 - 기존 모델 유지", e);
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package team.java.facto_be.domain.chatbot.service.classifier;
+
+import team.java.facto_be.domain.chatbot.service.enums.QueryType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * 문자 n-gram(1~3) 특징을 쓰는 다중 클래스 로지스틱 회귀 모델.
+ *
+ * <p>한국어는 조사/어미가 붙어 형태가 자주 바뀌므로 형태소 분석 대신 문자 n-gram을 특징으로 씁니다.
+ * n-gram은 해시하여 고정 크기({@value #FEATURE_BUCKETS}) 공간에 매핑하므로 사전이 필요 없습니다.
+ *
+ * <p>학습 후에는 가중치를 바꾸지 않으므로 여러 스레드에서 동시에 예측해도 됩니다.
+ */
+public final class NgramQueryTypeModel {
+
+    /**
+     * 학습 데이터 한 건.
+     *
+     * @param message 사용자 질문
+     * @param type 정답 유형 (LLM 분류 결과)
+     */
+    public record Sample(String message, QueryType type) {
+    }
+
+    private static final int FEATURE_BUCKETS = 1 << 16;
+    private static final int MAX_NGRAM = 3;
+    private static final QueryType[] TYPES = QueryType.values();
+
+    private static final int EPOCHS = 8;
+    private static final double LEARNING_RATE = 0.5;
+    private static final double L2 = 1e-6;
+    private static final long SHUFFLE_SEED = 42L;
+
+    /** 유형별 가중치: [유형 * FEATURE_BUCKETS + 특징] */
+    private final float[] weights;
+    private final float[] bias;
+
+    private NgramQueryTypeModel(float[] weights, float[] bias) {
+        this.weights = weights;
+        this.bias = bias;
+    }
+
+    /**
+     * 확률적 경사 하강법으로 모델을 학습합니다.
+     *
+     * @param samples 학습 데이터
+     * @return 학습된 모델
+     * @throws IllegalArgumentException 학습 데이터가 비어 있는 경우
+     */
+    public static NgramQueryTypeModel train(List<Sample> samples) {
+        if (samples.isEmpty()) {
+            throw new IllegalArgumentException("학습 데이터가 비어 있습니다.");
+        }
+
+        float[] weights = new float[TYPES.length * FEATURE_BUCKETS];
+        float[] bias = new float[TYPES.length];
+        NgramQueryTypeModel model = new NgramQueryTypeModel(weights, bias);
+
+        List<int[]> features = new ArrayList<>(samples.size());
+        for (Sample sample : samples) {
+            features.add(features(sample.message()));
+        }
+        List<Integer> order = new ArrayList<>(samples.size());
+        for (int i = 0; i < samples.size(); i++) {
+            order.add(i);
+        }
+
+        Random random = new Random(SHUFFLE_SEED);
+        double[] probabilities = new double[TYPES.length];
+        for (int epoch = 0; epoch < EPOCHS; epoch++) {
+            Collections.shuffle(order, random);
+            double rate = LEARNING_RATE / (1 + epoch);
+
+            for (int index : order) {
+                int[] x = features.get(index);
+                if (x.length == 0) {
+                    continue;
+                }
+                // 특징 수가 다른 질문끼리 스케일을 맞추기 위해 1/sqrt(n)으로 정규화
+                double value = 1 / Math.sqrt(x.length);
+                model.probabilities(x, value, probabilities);
+                int label = samples.get(index).type().ordinal();
+
+                for (int c = 0; c < TYPES.length; c++) {
+                    double gradient = probabilities[c] - (c == label ? 1 : 0);
+                    int offset = c * FEATURE_BUCKETS;
+                    for (int feature : x) {
+                        int w = offset + feature;
+                        weights[w] -= (float) (rate * (gradient * value + L2 * weights[w]));
+                    }
+                    bias[c] -= (float) (rate * gradient);
+                }
+            }
+        }
+        return model;
+    }
+
+    /**
+     * 질문 유형을 예측합니다.
+     *
+     * @param message 사용자 질문
+     * @return 예측 결과
+     */
+    public QueryTypePrediction predict(String message) {
+        int[] x = features(message);
+        double[] probabilities = new double[TYPES.length];
+        probabilities(x, x.length == 0 ? 0 : 1 / Math.sqrt(x.length), probabilities);
+
+        int best = 0;
+        for (int c = 1; c < TYPES.length; c++) {
+            if (probabilities[c] > probabilities[best]) {
+                best = c;
+            }
+        }
+        return new QueryTypePrediction(TYPES[best], probabilities[best]);
+    }
+
+    private void probabilities(int[] x, double value, double[] out) {
+        double max = Double.NEGATIVE_INFINITY;
+        for (int c = 0; c < TYPES.length; c++) {
+            int offset = c * FEATURE_BUCKETS;
+            double logit = bias[c];
+            for (int feature : x) {
+                logit += weights[offset + feature] * value;
+            }
+            out[c] = logit;
+            max = Math.max(max, logit);
+        }
+        double sum = 0;
+        for (int c = 0; c < TYPES.length; c++) {
+            out[c] = Math.exp(out[c] - max);
+            sum += out[c];
+        }
+        for (int c = 0; c < TYPES.length; c++) {
+            out[c] /= sum;
+        }
+    }
+
+    /**
+     * 공백을 정리한 질문 앞뒤에 경계 문자를 붙이고 1~3글자 n-gram의 해시 버킷을 뽑습니다.
+     */
+    static int[] features(String message) {
+        String text = " " + message.strip().toLowerCase(Locale.ROOT).replaceAll("\\s+", " ") + " ";
+        int length = text.length();
+        int[] features = new int[length * MAX_NGRAM];
+        int count = 0;
+
+        for (int start = 0; start < length; start++) {
+            int hash = 0;
+            for (int n = 1; n <= MAX_NGRAM && start + n <= length; n++) {
+                hash = 31 * hash + text.charAt(start + n - 1);
+                if (n == 1 && text.charAt(start) == ' ') {
+                    continue;
+                }
+                features[count++] = bucket(hash * 0x9E3779B9 + n);
+            }
+        }
+        return Arrays.copyOf(features, count);
+    }
+
+    private static int bucket(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        hash ^= hash >>> 13;
+        return hash & (FEATURE_BUCKETS - 1);
+    }
+}
@@ -0,0 +1,161 @@
+package team.java.facto_be.domain.chatbot.service.classifier;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import team.java.facto_be.domain.chatbot.service.enums.QueryType;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * LLM이 분류한 질문을 파일에 기록하여 로컬 모델의 학습 데이터로 사용합니다.
+ *
+ * <p>한 줄에 {@code 기록시각(epoch 초)<TAB>유형<TAB>질문} 형식으로 추가만 하며, 질문의 탭/줄바꿈은 공백으로 바꿉니다.
+ * 쓰기는 LLM 분류 한 건당 한 줄이라 LLM 호출 비용에 비해 무시할 수 있습니다.
+ *
+ * <p>사용자 질문 원문이 DB 밖에 남고 세션 삭제와도 연결되지 않으므로 {@code chatbot.classifier.log-enabled}로
+ * 켠 경우에만 기록하며, 주기적으로 {@code log-retention}이 지난 줄과 최근 {@code max-training-samples}건을
+ * 넘는 줄을 삭제합니다 (기록을 끈 뒤에도 남은 파일은 계속 정리).
+ */
+@Slf4j
+@Component
+public class QueryClassificationLog {
+
+    private final Path path;
+    private final boolean enabled;
+    private final Duration retention;
+    private final int maxLines;
+
+    public QueryClassificationLog(QueryClassifierProperties properties) {
+        this.path = Path.of(properties.logPath());
+        this.enabled = properties.logEnabled();
+        this.retention = properties.logRetention();
+        this.maxLines = properties.maxTrainingSamples();
+    }
+
+    /**
+     * 분류 결과를 기록합니다. 기록 실패는 채팅에 영향을 주지 않도록 로그만 남깁니다.
+     *
+     * @param message 사용자 질문
+     * @param type LLM 분류 결과
+     */
+    public synchronized void append(String message, QueryType type) {
+        if (!enabled) {
+            return;
+        }
+        String line = Instant.now().getEpochSecond() + "\t" + type.name() + '\t'
+                + message.replaceAll("[\\t\\r\\n]+", " ").strip() + '\n';
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            Files.writeString(path, line, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            log.warn("질문 분류 기록 실패 - {}", path, e);
+        }
+    }
+
+    /**
+     * 가장 최근 기록부터 최대 {@code limit}건을 읽습니다 (파일 순서 유지).
+     * 형식이 맞지 않거나, 알 수 없는 유형이거나, 보관 기간이 지난 줄은 건너뜁니다.
+     *
+     * @param limit 최대 건수
+     * @return 학습 데이터
+     */
+    public synchronized List<NgramQueryTypeModel.Sample> readRecent(int limit) {
+        if (!Files.exists(path)) {
+            return List.of();
+        }
+
+        Instant cutoff = Instant.now().minus(retention);
+        Deque<NgramQueryTypeModel.Sample> recent = new ArrayDeque<>(limit);
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                NgramQueryTypeModel.Sample sample = parse(line, cutoff);
+                if (sample == null) {
+                    continue;
+                }
+                if (recent.size() == limit) {
+                    recent.removeFirst();
+                }
+                recent.addLast(sample);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("질문 분류 기록을 읽을 수 없습니다: " + path, e);
+        }
+        return new ArrayList<>(recent);
+    }
+
+    /**
+     * 보관 기간이 지났거나 최근 {@code max-training-samples}건을 넘는 줄을 삭제합니다.
+     * 임시 파일에 쓴 뒤 교체하므로 도중에 실패해도 기존 파일은 그대로 남습니다.
+     */
+    @Scheduled(fixedDelayString = "${chatbot.classifier.log-prune-interval:PT1H}")
+    public synchronized void prune() {
+        if (!Files.exists(path)) {
+            return;
+        }
+
+        Instant cutoff = Instant.now().minus(retention);
+        Deque<String> kept = new ArrayDeque<>();
+        int total = 0;
+        try {
+            try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    total++;
+                    if (parse(line, cutoff) == null) {
+                        continue;
+                    }
+                    if (kept.size() == maxLines) {
+                        kept.removeFirst();
+                    }
+                    kept.addLast(line);
+                }
+            }
+            if (kept.size() == total) {
+                return;
+            }
+
+            Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+            Files.write(temp, kept, StandardCharsets.UTF_8);
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.info("질문 분류 기록 정리 - {}줄 중 {}줄 삭제", total, total - kept.size());
+        } catch (IOException e) {
+            log.warn("질문 분류 기록 정리 실패 - {}", path, e);
+        }
+    }
+
+    /**
+     * 한 줄을 학습 데이터로 읽습니다. 기록 시각이 없는 이전 형식의 줄은 보관 기간을 알 수 없으므로 버립니다.
+     */
+    private static NgramQueryTypeModel.Sample parse(String line, Instant cutoff) {
+        String[] fields = line.split("\t", 3);
+        if (fields.length != 3 || fields[2].isEmpty()) {
+            return null;
+        }
+        try {
+            if (Instant.ofEpochSecond(Long.parseLong(fields[0])).isBefore(cutoff)) {
+                return null;
+            }
+            return new NgramQueryTypeModel.Sample(fields[2], QueryType.valueOf(fields[1]));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package team.java.facto_be.domain.chatbot.service.classifier;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 질문 유형 분류기 설정 프로퍼티.
+ *
+ * @param ruleConfidence 규칙 점수만으로 확정할 최소 확신도 (0~1)
+ * @param modelEnabled 로컬 n-gram 모델 사용 여부
+ * @param modelConfidence 로컬 모델 결과로 확정할 최소 확신도 (0~1)
+ * @param modelMinSamples 로컬 모델을 학습하기 위한 최소 LLM 분류 기록 수
+ * @param maxTrainingSamples 학습에 사용할 최근 LLM 분류 기록 수 상한
+ * @param logEnabled LLM 분류 기록 사용 여부. 사용자 질문 원문이 DB 밖 파일에 남으므로 기본값은 false
+ *                   (끄면 로컬 모델을 학습할 데이터가 쌓이지 않음)
+ * @param logPath LLM 분류 기록 파일 경로 (로컬 모델 학습 데이터)
+ * @param logRetention LLM 분류 기록 보관 기간 (지나면 정리 시 삭제, 건수는 {@code maxTrainingSamples}까지만 보관)
+ * @param cacheMaximumSize 분류 결과 캐시에 보관하는 최대 질문 수
+ * @param cacheTtl 분류 결과 보관 기간
+ * @param cachePreloadSize 기동 시 미리 분류할 자주 나온 질문 수 (0이면 예열하지 않음)
+ * @param cachePreloadWindow 예열 대상 질문을 집계할 최근 기간
+ */
+@ConfigurationProperties(prefix = "chatbot.classifier")
+public record QueryClassifierProperties(
+        Double ruleConfidence,
+        Boolean modelEnabled,
+        Double modelConfidence,
+        Integer modelMinSamples,
+        Integer maxTrainingSamples,
+        Boolean logEnabled,
+        String logPath,
+        Duration logRetention,
+        Long cacheMaximumSize,
+        Duration cacheTtl,
+        Integer cachePreloadSize,
+        Duration cachePreloadWindow
+) {
+    public QueryClassifierProperties {
+        if (ruleConfidence == null) {
+            ruleConfidence = 0.90;
+        }
+        if (modelEnabled == null) {
+            modelEnabled = true;
+        }
+        if (modelConfidence == null) {
+            modelConfidence = 0.90;
+        }
+        if (modelMinSamples == null || modelMinSamples < 1) {
+            modelMinSamples = 200;
+        }
+        if (maxTrainingSamples == null || maxTrainingSamples < 1) {
+            maxTrainingSamples = 20_000;
+        }
+        if (logEnabled == null) {
+            logEnabled = false;
+        }
+        if (logPath == null || logPath.isBlank()) {
+            logPath = "data/query-classifications.tsv";
+        }
+        if (logRetention == null || logRetention.isNegative() || logRetention.isZero()) {
+            logRetention = Duration.ofDays(30);
+        }
+        if (cacheMaximumSize == null) {
+            cacheMaximumSize = 10_000L;
+        }
+        if (cacheTtl == null) {
+            cacheTtl = Duration.ofHours(6);
+        }
+        if (cachePreloadSize == null || cachePreloadSize < 0) {
+            cachePreloadSize = 0;
+        }
+        if (cachePreloadWindow == null) {
+            cachePreloadWindow = Duration.ofDays(30);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package team.java.facto_be.domain.chatbot.service.classifier;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 분류 캐시 키를 만들기 위해 질문을 정규화합니다.
+ *
+ * <p>소문자화, 문장부호/기호 제거 후 어절 끝의 조사를 떼고 어절을 공백 없이 이어 붙여
+ * "청년 주거 지원!", "청년  주거 지원은?", "청년 주거지원" 정도의 차이는 같은 키({@code 청년주거지원})가 되도록 합니다.
+ * 한국어는 띄어쓰기가 사람마다 달라 공백을 키에 남기지 않습니다.
+ * 조사 제거는 표기만 보고 하므로 "문의"처럼 조사로 끝나는 듯한 단어도 잘릴 수 있지만,
+ * 같은 입력은 항상 같은 키가 되므로 캐시 키로는 문제가 없습니다.
+ */
+public final class QueryTextNormalizer {
+
+    private static final Pattern PUNCTUATION = Pattern.compile("[\\p{P}\\p{S}]+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    /** 긴 조사부터 검사해야 "에서"가 "서"만 떼어지지 않음 */
+    private static final List<String> LONG_PARTICLES = List.of(
+            "이랑", "에서", "에게", "한테", "으로", "까지", "부터", "처럼", "보다");
+    private static final List<String> SHORT_PARTICLES = List.of(
+            "은", "는", "이", "가", "을", "를", "에", "의", "도", "로", "와", "과", "랑", "만");
+
+    private QueryTextNormalizer() {
+    }
+
+    /**
+     * 질문을 캐시 키로 정규화합니다.
+     *
+     * @param message 사용자 질문
+     * @return 정규화된 문자열 (공백 없음, 비어 있을 수 있음)
+     */
+    public static String normalize(String message) {
+        String text = PUNCTUATION.matcher(message.toLowerCase(Locale.ROOT)).replaceAll(" ");
+        String[] tokens = WHITESPACE.split(text.strip());
+
+        StringBuilder normalized = new StringBuilder(text.length());
+        for (String token : tokens) {
+            if (token.isEmpty()) {
+                continue;
+            }
+            normalized.append(stripParticle(token));
+        }
+        return normalized.toString();
+    }
+
+    private static String stripParticle(String token) {
+        for (String particle : LONG_PARTICLES) {
+            if (token.length() > particle.length() && token.endsWith(particle)) {
+                return token.substring(0, token.length() - particle.length());
+            }
+        }
+        // 한 글자 조사는 두 글자 이상 남을 때만 제거 ("나는", "내가" 같은 짧은 대명사는 유지)
+        for (String particle : SHORT_PARTICLES) {
+            if (token.length() > 2 && token.endsWith(particle)) {
+                return token.substring(0, token.length() - 1);
+            }
+        }
+        return token;
+    }
+}
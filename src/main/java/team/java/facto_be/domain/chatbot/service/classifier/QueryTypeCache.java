@@ -0,0 +1,67 @@
+package team.java.facto_be.domain.chatbot.service.classifier;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import team.java.facto_be.domain.chatbot.service.enums.QueryType;
+
+import java.util.Optional;
+
+/**
+ * 정규화한 질문 → 분류 결과 캐시.
+ *
+ * <p>추천 질문 버튼이나 자주 묻는 질문처럼 같은 질문이 반복되면 분류 단계를 다시 거치지 않습니다.
+ * 키는 {@link QueryTextNormalizer}로 정규화하며, 로컬 모델 재학습 결과가 반영되도록
+ * {@code chatbot.classifier.cache-ttl}이 지나면 만료됩니다.
+ *
+ * <p>적중/미스 통계는 {@code chatbot.query.classification.cache} 이름으로 Micrometer에 노출됩니다.
+ */
+@Component
+public class QueryTypeCache {
+
+    private final Cache<String, QueryType> cache;
+
+    public QueryTypeCache(QueryClassifierProperties properties, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.cacheMaximumSize())
+                .expireAfterWrite(properties.cacheTtl())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "chatbot.query.classification.cache");
+    }
+
+    /**
+     * 캐시된 분류 결과를 조회합니다.
+     *
+     * @param message 사용자 질문 (원문)
+     * @return 분류 결과 (없으면 empty)
+     */
+    public Optional<QueryType> get(String message) {
+        String key = QueryTextNormalizer.normalize(message);
+        return key.isEmpty() ? Optional.empty() : Optional.ofNullable(cache.getIfPresent(key));
+    }
+
+    /**
+     * 분류 결과를 보관합니다.
+     *
+     * @param message 사용자 질문 (원문)
+     * @param type 분류 결과
+     */
+    public void put(String message, QueryType type) {
+        String key = QueryTextNormalizer.normalize(message);
+        if (!key.isEmpty()) {
+            cache.put(key, type);
+        }
+    }
+
+    /**
+     * 정규화한 키가 이미 캐시에 있는지 확인합니다 (통계에 집계하지 않음).
+     */
+    public boolean contains(String message) {
+        String key = QueryTextNormalizer.normalize(message);
+        return !key.isEmpty() && cache.asMap().containsKey(key);
+    }
+}
@@ -0,0 +1,62 @@
+package team.java.facto_be.domain.chatbot.service.classifier;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import team.java.facto_be.domain.chatbot.domain.entity.ChatMessage;
+import team.java.facto_be.domain.chatbot.domain.repository.ChatMessageRepository;
+import team.java.facto_be.domain.chatbot.service.QueryTypeClassifier;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 기동 시 최근 자주 나온 사용자 질문을 미리 분류하여 {@link QueryTypeCache}를 채웁니다.
+ *
+ * <p>{@code chatbot.classifier.cache-preload-size}가 0이면 동작하지 않습니다.
+ * 미리 분류하는 질문 중 규칙/로컬 모델로 확정되지 않는 질문은 LLM을 호출하므로,
+ * 기동을 막지 않도록 가상 스레드에서 실행합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QueryTypeCacheWarmer {
+
+    private final ChatMessageRepository chatMessageRepository;
+    private final QueryTypeClassifier queryTypeClassifier;
+    private final QueryTypeCache queryTypeCache;
+    private final QueryClassifierProperties properties;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        if (properties.cachePreloadSize() <= 0) {
+            return;
+        }
+        Thread.ofVirtual().name("query-type-cache-warmer").start(this::warmUp);
+    }
+
+    private void warmUp() {
+        try {
+            long start = System.currentTimeMillis();
+            List<String> messages = chatMessageRepository.findFrequentContents(
+                    ChatMessage.MessageRole.USER,
+                    LocalDateTime.now().minus(properties.cachePreloadWindow()),
+                    properties.cachePreloadSize());
+
+            int classified = 0;
+            for (String message : messages) {
+                // 정규화하면 같아지는 질문은 한 번만 분류
+                if (!queryTypeCache.contains(message)) {
+                    queryTypeClassifier.classify(message);
+                    classified++;
+                }
+            }
+            log.info("질문 분류 캐시 예열 완료 - 질문 {}건 중 {}건 분류, {} ms",
+                    messages.size(), classified, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.warn("질문 분류 캐시 예열 실패", e);
+        }
+    }
+}
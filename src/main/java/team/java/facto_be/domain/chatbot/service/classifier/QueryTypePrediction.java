@@ -0,0 +1,33 @@
+package team.java.facto_be.domain.chatbot.service.classifier;
+
+import team.java.facto_be.domain.chatbot.service.enums.QueryType;
+
+/**
+ * 로컬 분류 단계(규칙, n-gram 모델)의 예측 결과.
+ *
+ * @param type 가장 가능성이 높은 질문 유형
+ * @param confidence 해당 유형의 확률 (0~1)
+ */
+public record QueryTypePrediction(QueryType type, double confidence) {
+
+    /**
+     * 유형별 점수(ordinal 순서)를 softmax로 확률화하여 가장 높은 유형을 고릅니다.
+     *
+     * @param scores {@link QueryType#ordinal()} 순서의 점수
+     * @return 예측 결과
+     */
+    static QueryTypePrediction fromScores(double[] scores) {
+        int best = 0;
+        for (int i = 1; i < scores.length; i++) {
+            if (scores[i] > scores[best]) {
+                best = i;
+            }
+        }
+        // 최댓값을 빼서 exp 오버플로 방지
+        double sum = 0;
+        for (double score : scores) {
+            sum += Math.exp(score - scores[best]);
+        }
+        return new QueryTypePrediction(QueryType.values()[best], 1 / sum);
+    }
+}
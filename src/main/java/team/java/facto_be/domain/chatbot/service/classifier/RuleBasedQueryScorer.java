@@ -0,0 +1,91 @@
+package team.java.facto_be.domain.chatbot.service.classifier;
+
+import org.springframework.stereotype.Component;
+import team.java.facto_be.domain.chatbot.service.enums.QueryType;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 키워드/정규식 규칙으로 질문 유형 점수를 매기는 1단계 분류기.
+ *
+ * <p>규칙마다 한 유형에 가중치를 더하고, 점수를 softmax로 확률화합니다.
+ * 인사("안녕?"), 스키마 질문("DB에 테이블 뭐 있어?"), 뚜렷한 주제 질문("청년 주거 혜택")처럼
+ * 단서가 한쪽으로 몰린 질문은 확신도가 높게 나오고, 단서가 섞인 질문
+ * ("북한이탈주민 취업 지원에 대해 자세히")은 낮게 나와 다음 단계로 넘어갑니다.
+ *
+ * <p>한글은 Java 버전에 따라 {@code \b}의 단어 경계로 취급되지 않을 수 있으므로 규칙에서 {@code \b}를 쓰지 않습니다.
+ */
+@Component
+public class RuleBasedQueryScorer {
+
+    private record Rule(QueryType type, Pattern pattern, double weight) {
+    }
+
+    /** 복지 관련 단서가 전혀 없는 짧은 메시지는 일반 대화일 가능성이 높음 */
+    private static final int SHORT_MESSAGE_LENGTH = 20;
+    private static final double SHORT_MESSAGE_WEIGHT = 1.0;
+
+    private static final List<Rule> RULES = List.of(
+            // GENERAL - 인사, 감사, 잡담, 단답
+            rule(QueryType.GENERAL, 4.0, "^(안녕|하이|헬로|hi|hello|hey|ㅎㅇ|반가워|반갑습니다)"),
+            rule(QueryType.GENERAL, 3.0, "(고마워|고맙습니다|감사합니다|감사해요|땡큐|thank)"),
+            rule(QueryType.GENERAL, 3.0, "(날씨|몇\\s*시야|심심|농담|넌\\s*누구|너는\\s*누구|이름이\\s*뭐)"),
+            rule(QueryType.GENERAL, 4.0, "^(ㅋ+|ㅎ+|ㅇㅇ|응|네|넵|아니|그래|알겠어|알겠습니다|오케이|ok)[.!?~\\s]*$"),
+
+            // DISCOVERY - 데이터 구조, 서비스 목록 탐색
+            rule(QueryType.DISCOVERY, 4.0, "(테이블|데이터\\s*베이스|(?<![a-z])db(?![a-z])|스키마|컬럼|칼럼)"),
+            rule(QueryType.DISCOVERY, 4.0, "(어떤|무슨)\\s*(복지|서비스|지원|혜택)[가-힣\\s]*(있|종류)"),
+            rule(QueryType.DISCOVERY, 2.0, "(종류|목록|카테고리|전체\\s*(복지|서비스))"),
+            rule(QueryType.DISCOVERY, 1.5, "몇\\s*(개|가지)"),
+
+            // SERVICE_FOCUS - 특정 서비스의 신청/자격/내용, 특정 대상
+            rule(QueryType.SERVICE_FOCUS, 3.0,
+                    "(신청\\s*(방법|기간|절차|자격|서류|하려면|하는\\s*법)|어디서\\s*신청|어떻게\\s*신청)"),
+            rule(QueryType.SERVICE_FOCUS, 3.0,
+                    "(자격\\s*(요건|조건)|선정\\s*기준|구비\\s*서류|필요\\s*서류|제출\\s*서류|문의처|지원\\s*(금액|내용|기간))"),
+            rule(QueryType.SERVICE_FOCUS, 2.0,
+                    "(북한이탈주민|탈북|다문화|한부모|조손|입양|국가유공자|보훈|위기가구|자립준비청년|보호종료)"),
+            rule(QueryType.SERVICE_FOCUS, 1.5, "자세히"),
+
+            // TOPIC - 생애주기/대상, 주제
+            rule(QueryType.TOPIC, 2.0,
+                    "(청년|청소년|노인|어르신|아동|영유아|임신|출산|신혼|중장년|대학생|장애인|저소득|기초생활|차상위)"),
+            rule(QueryType.TOPIC, 2.0,
+                    "(주거|월세|전세|일자리|취업|창업|교육|의료|건강|돌봄|생계|교통|대출|양육|보육)"),
+            rule(QueryType.TOPIC, 1.0, "(지원|혜택|보조금|수당)")
+    );
+
+    private static final int TYPE_COUNT = QueryType.values().length;
+
+    /**
+     * 질문의 유형별 규칙 점수를 확률로 바꾸어 가장 높은 유형을 반환합니다.
+     *
+     * @param message 사용자 질문
+     * @return 예측 결과 (확신도가 낮으면 다음 단계에서 다시 분류해야 함)
+     */
+    public QueryTypePrediction score(String message) {
+        String text = message.strip().toLowerCase(Locale.ROOT);
+        double[] scores = new double[TYPE_COUNT];
+
+        for (Rule rule : RULES) {
+            if (rule.pattern().matcher(text).find()) {
+                scores[rule.type().ordinal()] += rule.weight();
+            }
+        }
+
+        boolean welfareCue = scores[QueryType.DISCOVERY.ordinal()] > 0
+                || scores[QueryType.TOPIC.ordinal()] > 0
+                || scores[QueryType.SERVICE_FOCUS.ordinal()] > 0;
+        if (!welfareCue && text.length() <= SHORT_MESSAGE_LENGTH) {
+            scores[QueryType.GENERAL.ordinal()] += SHORT_MESSAGE_WEIGHT;
+        }
+
+        return QueryTypePrediction.fromScores(scores);
+    }
+
+    private static Rule rule(QueryType type, double weight, String regex) {
+        return new Rule(type, Pattern.compile(regex), weight);
+    }
+}
@@ -0,0 +1,60 @@
+package team.java.facto_be.domain.chatbot.service.context;
+
+import org.springframework.ai.chat.model.ToolContext;
+import team.java.facto_be.domain.user.entity.UserJpaEntity;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 채팅 Tool에 전달하는 사용자 컨텍스트.
+ *
+ * <p>Spring AI의 {@link ToolContext}로 채팅 요청마다 전달되므로, Tool이 스트리밍 응답의
+ * Reactor 스레드나 다른 스레드에서 실행되어도 ThreadLocal 없이 사용자를 알 수 있습니다.
+ * 요청 스레드에서 이미 조회한 사용자 스냅샷을 함께 넘겨 Tool에서 사용자를 다시 조회하지 않게 합니다.
+ *
+ * <p>ToolContext를 받는 Tool 메서드는 빈 컨텍스트로 호출할 수 없으므로 세션 ID는 항상 포함합니다.
+ */
+public final class ChatToolContext {
+
+    private static final String SESSION_ID = "sessionId";
+    private static final String USER_ID = "userId";
+    private static final String USER = "user";
+
+    private ChatToolContext() {
+    }
+
+    /**
+     * Tool 컨텍스트를 생성합니다.
+     *
+     * @param sessionId 채팅 세션 ID
+     * @param userId 사용자 ID (비로그인 시 null)
+     * @param user 이미 조회한 사용자 스냅샷 (없으면 null)
+     * @return Tool 컨텍스트 맵
+     */
+    public static Map<String, Object> of(String sessionId, Long userId, UserJpaEntity user) {
+        Map<String, Object> context = new HashMap<>();
+        context.put(SESSION_ID, sessionId);
+        if (userId != null) {
+            context.put(USER_ID, userId);
+        }
+        if (user != null && user.getId().equals(userId)) {
+            context.put(USER, user);
+        }
+        return context;
+    }
+
+    /**
+     * @return 사용자 ID (비로그인 시 null)
+     */
+    public static Long userId(ToolContext toolContext) {
+        return toolContext != null ? (Long) toolContext.getContext().get(USER_ID) : null;
+    }
+
+    /**
+     * @return 요청 스레드에서 조회한 사용자 스냅샷 (없으면 null)
+     */
+    public static UserJpaEntity user(ToolContext toolContext) {
+        return toolContext != null ? (UserJpaEntity) toolContext.getContext().get(USER) : null;
+    }
+}
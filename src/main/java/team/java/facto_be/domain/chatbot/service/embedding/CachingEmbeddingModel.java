@@ -0,0 +1,116 @@
+package team.java.facto_be.domain.chatbot.service.embedding;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.document.MetadataMode;
+import org.springframework.ai.embedding.Embedding;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.embedding.EmbeddingOptions;
+import org.springframework.ai.embedding.EmbeddingRequest;
+import org.springframework.ai.embedding.EmbeddingResponse;
+import org.springframework.ai.embedding.EmbeddingResponseMetadata;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 임베딩 결과를 {@link EmbeddingCacheStore}에 보관하는 {@link EmbeddingModel} 래퍼.
+ *
+ * <p>(모델, 차원 수, 텍스트)의 SHA-256을 키로 사용하여, 이미 임베딩한 텍스트는 외부 API를 호출하지 않고
+ * 파일에서 읽어 반환합니다. 벡터 스토어 적재의 반복 청크(공통 신청 안내, 지역별로 같은 중앙 사업 등)와
+ * RAG 검색의 반복 질문 임베딩이 모두 이 경로를 지납니다.
+ *
+ * <p>요청 안의 캐시에 없는 텍스트만 중복을 제거해 한 번에 위임 모델로 요청하며,
+ * 적중/미스 건수는 {@code embedding.cache.requests} 카운터로 노출됩니다.
+ */
+public class CachingEmbeddingModel implements EmbeddingModel {
+
+    private final EmbeddingModel delegate;
+    private final EmbeddingCacheStore store;
+    private final String defaultModel;
+    private final Counter hits;
+    private final Counter misses;
+
+    public CachingEmbeddingModel(EmbeddingModel delegate, EmbeddingCacheStore store, String defaultModel,
+                                 MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.store = store;
+        this.defaultModel = defaultModel;
+        this.hits = Counter.builder("embedding.cache.requests").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("embedding.cache.requests").tag("result", "miss").register(meterRegistry);
+    }
+
+    @Override
+    public EmbeddingResponse call(EmbeddingRequest request) {
+        List<String> texts = request.getInstructions();
+        EmbeddingOptions options = request.getOptions();
+        String model = options != null && options.getModel() != null ? options.getModel() : defaultModel;
+        Integer dimensions = options != null ? options.getDimensions() : null;
+
+        float[][] embeddings = new float[texts.size()][];
+        // 캐시에 없는 텍스트 → 요청 내 위치 목록 (같은 텍스트는 한 번만 요청)
+        Map<String, List<Integer>> missing = new LinkedHashMap<>();
+
+        for (int i = 0; i < texts.size(); i++) {
+            float[] cached = store.get(key(model, dimensions, texts.get(i)));
+            if (cached != null) {
+                embeddings[i] = cached;
+            } else {
+                missing.computeIfAbsent(texts.get(i), text -> new ArrayList<>()).add(i);
+            }
+        }
+        hits.increment(texts.size() - missing.values().stream().mapToInt(List::size).sum());
+
+        EmbeddingResponseMetadata metadata = new EmbeddingResponseMetadata();
+        if (!missing.isEmpty()) {
+            List<String> missingTexts = new ArrayList<>(missing.keySet());
+            EmbeddingResponse response = delegate.call(new EmbeddingRequest(missingTexts, options));
+            List<Embedding> results = response.getResults();
+
+            for (int i = 0; i < results.size(); i++) {
+                String text = missingTexts.get(i);
+                float[] embedding = results.get(i).getOutput();
+                store.put(key(model, dimensions, text), embedding);
+                for (int position : missing.get(text)) {
+                    embeddings[position] = embedding;
+                }
+            }
+            misses.increment(missingTexts.size());
+            metadata = response.getMetadata();
+        }
+
+        List<Embedding> results = new ArrayList<>(embeddings.length);
+        for (int i = 0; i < embeddings.length; i++) {
+            results.add(new Embedding(embeddings[i], i));
+        }
+        return new EmbeddingResponse(results, metadata);
+    }
+
+    @Override
+    public float[] embed(Document document) {
+        // 위임 모델(OpenAI)의 기본값과 같이 임베딩용 메타데이터를 포함한 본문을 사용
+        return embed(document.getFormattedContent(MetadataMode.EMBED));
+    }
+
+    @Override
+    public int dimensions() {
+        return delegate.dimensions();
+    }
+
+    private static byte[] key(String model, Integer dimensions, String text) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((model + ":" + dimensions + "\n").getBytes(StandardCharsets.UTF_8));
+            digest.update(text.getBytes(StandardCharsets.UTF_8));
+            return digest.digest();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package team.java.facto_be.domain.chatbot.service.embedding;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 임베딩 캐시 설정 프로퍼티.
+ *
+ * @param enabled 임베딩 캐시 사용 여부
+ * @param path 임베딩 캐시 파일 경로
+ */
+@ConfigurationProperties(prefix = "chatbot.embedding-cache")
+public record EmbeddingCacheProperties(
+        Boolean enabled,
+        String path
+) {
+    public EmbeddingCacheProperties {
+        if (enabled == null) {
+            enabled = true;
+        }
+        if (path == null || path.isBlank()) {
+            path = "data/embedding-cache.bin";
+        }
+    }
+}
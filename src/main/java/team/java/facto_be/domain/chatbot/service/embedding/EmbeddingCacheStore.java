@@ -0,0 +1,194 @@
+package team.java.facto_be.domain.chatbot.service.embedding;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 임베딩 벡터를 파일에 보관하는 키-값 저장소.
+ *
+ * <p>파일은 (키 32바이트, 차원 수, float 벡터) 레코드를 뒤에 덧붙이기만 하는 로그이고,
+ * 메모리에는 키 → 파일 위치 색인만 둡니다. 벡터 본문은 조회할 때마다 위치 지정 읽기로 가져오므로
+ * 자주 쓰는 벡터는 OS 페이지 캐시에서 읽히고, 힙은 항목 수에 비례한 색인 크기만 차지합니다.
+ *
+ * <p>기동 시 파일을 처음부터 읽어 색인을 만들며, 비정상 종료로 마지막 레코드가 잘려 있으면
+ * 그 앞까지로 파일을 자릅니다. 조회는 여러 스레드에서 동시에 할 수 있고 쓰기는 락으로 직렬화합니다.
+ */
+@Slf4j
+public class EmbeddingCacheStore implements AutoCloseable {
+
+    /** 키 길이 (SHA-256) */
+    public static final int KEY_BYTES = 32;
+
+    private static final int HEADER_BYTES = KEY_BYTES + Integer.BYTES;
+
+    /** 손상된 레코드를 걸러내기 위한 차원 수 상한 */
+    private static final int MAX_DIMENSIONS = 1 << 16;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final Map<Key, Location> index = new ConcurrentHashMap<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    /** 다음 레코드를 쓸 위치 (writeLock 안에서만 변경) */
+    private long end;
+
+    public EmbeddingCacheStore(Path path) {
+        this.path = path;
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            this.channel = FileChannel.open(path,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            this.end = load();
+        } catch (IOException e) {
+            throw new IllegalStateException("임베딩 캐시 파일을 열 수 없습니다: " + path, e);
+        }
+        log.info("임베딩 캐시 로드 완료 - {}건, {}bytes ({})", index.size(), end, path);
+    }
+
+    /**
+     * 저장된 벡터를 조회합니다.
+     *
+     * @param key 키 ({@link #KEY_BYTES}바이트)
+     * @return 벡터 (없거나 읽기에 실패하면 null)
+     */
+    public float[] get(byte[] key) {
+        Location location = index.get(Key.of(key));
+        if (location == null) {
+            return null;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(location.dimensions() * Float.BYTES);
+        try {
+            readFully(buffer, location.offset() + HEADER_BYTES);
+        } catch (IOException e) {
+            log.warn("임베딩 캐시 읽기 실패 - offset: {}", location.offset(), e);
+            return null;
+        }
+
+        float[] embedding = new float[location.dimensions()];
+        buffer.flip().asFloatBuffer().get(embedding);
+        return embedding;
+    }
+
+    /**
+     * 벡터를 저장합니다. 이미 있는 키는 무시하며, 쓰기에 실패해도 예외를 던지지 않습니다.
+     *
+     * @param key 키 ({@link #KEY_BYTES}바이트)
+     * @param embedding 벡터
+     */
+    public void put(byte[] key, float[] embedding) {
+        Key indexKey = Key.of(key);
+        if (index.containsKey(indexKey)) {
+            return;
+        }
+
+        ByteBuffer record = ByteBuffer.allocate(HEADER_BYTES + embedding.length * Float.BYTES);
+        record.put(key).putInt(embedding.length);
+        record.asFloatBuffer().put(embedding);
+        record.rewind();
+
+        writeLock.lock();
+        try {
+            if (index.containsKey(indexKey)) {
+                return;
+            }
+            long offset = end;
+            while (record.hasRemaining()) {
+                channel.write(record, offset + record.position());
+            }
+            end = offset + record.capacity();
+            index.put(indexKey, new Location(offset, embedding.length));
+        } catch (IOException e) {
+            log.warn("임베딩 캐시 쓰기 실패 ({})", path, e);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 저장된 벡터 수를 반환합니다.
+     */
+    public int size() {
+        return index.size();
+    }
+
+    @Override
+    public void close() throws IOException {
+        writeLock.lock();
+        try {
+            channel.force(true);
+            channel.close();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 파일을 처음부터 읽어 색인을 만들고, 마지막 정상 레코드의 끝 위치를 반환합니다.
+     */
+    private long load() throws IOException {
+        long size = channel.size();
+        long offset = 0;
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        byte[] key = new byte[KEY_BYTES];
+
+        while (offset + HEADER_BYTES <= size) {
+            header.clear();
+            readFully(header, offset);
+            header.flip();
+            header.get(key);
+            int dimensions = header.getInt();
+
+            long next = offset + HEADER_BYTES + (long) dimensions * Float.BYTES;
+            if (dimensions <= 0 || dimensions > MAX_DIMENSIONS || next > size) {
+                break;
+            }
+            index.put(Key.of(key), new Location(offset, dimensions));
+            offset = next;
+        }
+
+        if (offset < size) {
+            log.warn("임베딩 캐시 파일 끝의 불완전한 레코드 제거 - {}bytes", size - offset);
+            channel.truncate(offset);
+        }
+        return offset;
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + buffer.position());
+            if (read < 0) {
+                throw new IOException("임베딩 캐시 파일이 예상보다 짧습니다.");
+            }
+        }
+    }
+
+    /**
+     * SHA-256 키 (배열 대신 long 4개로 보관하여 색인 크기를 줄임).
+     */
+    private record Key(long a, long b, long c, long d) {
+
+        static Key of(byte[] bytes) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            return new Key(buffer.getLong(), buffer.getLong(), buffer.getLong(), buffer.getLong());
+        }
+    }
+
+    /**
+     * 레코드 위치와 차원 수.
+     */
+    private record Location(long offset, int dimensions) {
+    }
+}
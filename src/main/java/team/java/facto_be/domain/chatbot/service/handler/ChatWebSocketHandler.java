@@ -1,66 +1,246 @@
 package team.java.facto_be.domain.chatbot.service.handler;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.CloseStatus;
 import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.SessionLimitExceededException;
 import org.springframework.web.socket.handler.TextWebSocketHandler;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
 import team.java.facto_be.domain.chatbot.service.dto.WebSocketMessage;
 import team.java.facto_be.domain.chatbot.service.ChatService;
+import team.java.facto_be.domain.chatbot.service.admission.ChatAdmissionGovernor;
+import team.java.facto_be.domain.chatbot.service.admission.ChatAdmissionRejectedException;
+import team.java.facto_be.domain.chatbot.service.streaming.ChatStreamingMetrics;
+import team.java.facto_be.domain.chatbot.service.streaming.ChatStreamingProperties;
+import team.java.facto_be.domain.chatbot.service.streaming.StreamingChunkCoalescer;
+import team.java.facto_be.domain.chatbot.service.streaming.StreamingFrameEncoder;
+import team.java.facto_be.global.datasource.ConnectionHoldTimeDataSource;
 
 import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.security.Principal;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * 채팅 WebSocket 핸들러.
+ *
+ * <p>전송 계층은 다음과 같이 동작합니다.
+ * <ul>
+ *   <li>질문 처리(세션 저장, 질문 분류)는 가상 스레드에서 하므로 WebSocket 컨테이너 스레드를 막지 않음</li>
+ *   <li>전송은 {@link ConcurrentWebSocketSessionDecorator}로 감싸, 다른 스레드가 전송 중이면 버퍼에 쌓고 바로 반환.
+ *       버퍼가 {@code chatbot.streaming.send-buffer-size-limit}을 넘거나 한 번의 전송이
+ *       {@code send-time-limit}을 넘기면 느린 클라이언트로 보고 연결을 끊음</li>
+ *   <li>응답 조각은 {@link StreamingChunkCoalescer}로 모으고, {@link StreamingFrameEncoder}로 미리 만든 JSON 앞/뒤에
+ *       본문만 이어 붙여 전송</li>
+ *   <li>연결이 끊기면 진행 중인 응답 스트림을 취소하여 모델 요청도 중단</li>
+ *   <li>연결 하나에서 동시에 처리하는 질문 수를 {@code max-in-flight-per-connection}으로 제한</li>
+ *   <li>모델 호출 전에 {@link ChatAdmissionGovernor}의 처리 권한을 받고, 응답 스트림이 끝나거나 취소되면 반납</li>
+ * </ul>
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class ChatWebSocketHandler extends TextWebSocketHandler {
 
+    /** DB 커넥션 점유 시간 지표의 endpoint 태그 (HTTP 요청 밖에서 처리하므로 직접 지정) */
+    private static final String METRIC_ENDPOINT = "WS /ws/chat";
+
+    /** 질문 처리용 가상 스레드 (빈 종료 시 닫음) */
+    private final ExecutorService requestExecutor =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("chat-ws-", 0).factory());
+
     private final ChatService chatService;
     private final ObjectMapper objectMapper;
+    private final ChatStreamingProperties properties;
+    private final ChatStreamingMetrics metrics;
+    private final ChatAdmissionGovernor chatAdmissionGovernor;
+
+    /** WebSocket 세션 ID → 연결 상태 */
+    private final Map<String, Connection> connections = new ConcurrentHashMap<>();
+
+    /**
+     * 연결별 전송 세션과 진행 중인 응답 스트림.
+     */
+    private record Connection(
+            WebSocketSession session,
+            Disposable.Composite streams,
+            AtomicInteger inFlight,
+            Principal principal,
+            String remoteAddress
+    ) {
+    }
 
     @Override
     public void afterConnectionEstablished(WebSocketSession session) {
+        WebSocketSession decorated = new ConcurrentWebSocketSessionDecorator(
+                session,
+                (int) properties.sendTimeLimit().toMillis(),
+                properties.sendBufferSizeLimit(),
+                ConcurrentWebSocketSessionDecorator.OverflowStrategy.TERMINATE);
+        // 수락 제어 키와 채팅 사용자는 메시지 본문의 userId가 아니라 핸드셰이크에서 확인한 사용자/접속 주소로 정함
+        connections.put(session.getId(), new Connection(decorated, Disposables.composite(), new AtomicInteger(),
+                session.getPrincipal(), remoteAddress(session)));
         log.info("WebSocket 연결됨 - sessionId: {}", session.getId());
     }
 
     @Override
     protected void handleTextMessage(WebSocketSession session, TextMessage message) {
+        Connection connection = connections.get(session.getId());
+        if (connection == null) {
+            return;
+        }
+
+        WebSocketMessage.Request request;
         try {
-            WebSocketMessage.Request request = parseRequest(message);
-            log.info("메시지 수신 - sessionId: {}, message: {}", request.getSessionId(), request.getMessage());
-            sendMessage(session, WebSocketMessage.Response.start(request.getSessionId()));
-            chatService.streamChat(
-                    request,
-                    content -> sendMessage(session, WebSocketMessage.Response.streaming(request.getSessionId(), content)),
-                    () -> sendMessage(session, WebSocketMessage.Response.end(request.getSessionId())),
-                    error -> handleStreamingError(session, request.getSessionId(), error)
-            );
+            request = parseRequest(message);
         } catch (Exception e) {
-            handleStreamingError(session, null, e);
+            handleStreamingError(connection.session(), null, e);
+            return;
+        }
+
+        if (connection.inFlight().incrementAndGet() > properties.maxInFlightPerConnection()) {
+            connection.inFlight().decrementAndGet();
+            log.warn("동시 처리 한도 초과 - sessionId: {}", request.getSessionId());
+            sendMessage(connection.session(), WebSocketMessage.Response.error(
+                    request.getSessionId(), "이전 질문의 답변이 끝난 뒤 다시 시도해 주세요."));
+            return;
         }
+
+        requestExecutor.execute(() -> {
+            try (ConnectionHoldTimeDataSource.EndpointScope ignored =
+                         ConnectionHoldTimeDataSource.endpoint(METRIC_ENDPOINT)) {
+                stream(connection, request);
+            }
+        });
     }
 
     @Override
     public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        Connection connection = connections.remove(session.getId());
+        if (connection != null) {
+            // 진행 중인 응답 스트림을 취소하여 모델 요청과 전송 버퍼를 정리
+            connection.streams().dispose();
+        }
         log.info("WebSocket 연결 종료 - sessionId: {}, status: {}", session.getId(), status);
     }
 
+    /**
+     * 종료 시 남은 연결의 응답 스트림을 취소하고 질문 처리 스레드를 정리합니다.
+     */
+    @PreDestroy
+    public void shutdown() {
+        connections.values().forEach(connection -> connection.streams().dispose());
+        requestExecutor.shutdownNow();
+    }
+
     @Override
     public void handleTransportError(WebSocketSession session, Throwable exception) {
         log.error("WebSocket 에러 - sessionId: {}", session.getId(), exception);
     }
 
+    private void stream(Connection connection, WebSocketMessage.Request request) {
+        String sessionId = request.getSessionId();
+        ChatAdmissionGovernor.Permit permit;
+        try {
+            permit = chatAdmissionGovernor.acquire(
+                    ChatAdmissionGovernor.userKey(connection.principal(), connection.remoteAddress()));
+        } catch (ChatAdmissionRejectedException e) {
+            connection.inFlight().decrementAndGet();
+            log.warn("메시지 거절 - sessionId: {}, 사유: {}", sessionId, e.getReason());
+            sendMessage(connection.session(), WebSocketMessage.Response.error(sessionId, e.getMessage()));
+            return;
+        }
+
+        try {
+            log.info("메시지 수신 - sessionId: {}, message: {}", sessionId, request.getMessage());
+            sendMessage(connection.session(), WebSocketMessage.Response.start(sessionId));
+
+            Flux<String> content = StreamingChunkCoalescer.coalesce(
+                    chatService.streamChat(request, connection.principal()),
+                    properties.coalesceWindow(),
+                    properties.coalesceMaxBytes());
+            StreamingFrameEncoder encoder = StreamingFrameEncoder.of(objectMapper, sessionId);
+            AtomicInteger frames = new AtomicInteger();
+
+            // 연결이 이미 닫혔으면 add가 실패하고, 등록 후 닫히면 구독이 함께 취소됨
+            Disposable.Swap subscription = Disposables.swap();
+            if (!connection.streams().add(subscription)) {
+                connection.inFlight().decrementAndGet();
+                permit.close();
+                return;
+            }
+            subscription.update(content
+                    .doFinally(signal -> {
+                        permit.close();
+                        connection.inFlight().decrementAndGet();
+                        connection.streams().remove(subscription);
+                        metrics.recordResponse(frames.get());
+                    })
+                    .subscribe(
+                            chunk -> {
+                                sendFrame(connection.session(), encoder.encode(chunk));
+                                frames.incrementAndGet();
+                            },
+                            error -> handleStreamingError(connection.session(), sessionId, error),
+                            () -> sendMessage(connection.session(), WebSocketMessage.Response.end(sessionId))));
+        } catch (Exception e) {
+            connection.inFlight().decrementAndGet();
+            permit.close();
+            handleStreamingError(connection.session(), sessionId, e);
+        }
+    }
+
     private void sendMessage(WebSocketSession session, WebSocketMessage.Response response) {
+        try {
+            sendText(session, objectMapper.writeValueAsString(response));
+        } catch (IOException e) {
+            log.error("메시지 전송 실패", e);
+        }
+    }
+
+    private void sendFrame(WebSocketSession session, String json) {
+        metrics.recordFrame(StreamingFrameEncoder.utf8Length(json));
+        try {
+            sendText(session, json);
+        } catch (IOException e) {
+            log.error("메시지 전송 실패", e);
+        }
+    }
+
+    private void sendText(WebSocketSession session, String json) throws IOException {
         try {
             if (session.isOpen()) {
-                String json = objectMapper.writeValueAsString(response);
                 session.sendMessage(new TextMessage(json));
             }
+        } catch (SessionLimitExceededException e) {
+            // 느린 클라이언트: 연결을 닫으면 afterConnectionClosed에서 응답 스트림이 취소됨
+            log.warn("전송 한도 초과로 연결 종료 - sessionId: {}, 원인: {}", session.getId(), e.getMessage());
+            closeQuietly(session, e.getStatus());
+        }
+    }
+
+    private static String remoteAddress(WebSocketSession session) {
+        InetSocketAddress address = session.getRemoteAddress();
+        return address != null ? address.getHostString() : session.getId();
+    }
+
+    private void closeQuietly(WebSocketSession session, CloseStatus status) {
+        try {
+            session.close(status);
         } catch (IOException e) {
-            log.error("메시지 전송 실패", e);
+            log.debug("연결 종료 실패 - sessionId: {}", session.getId(), e);
         }
     }
 
@@ -0,0 +1,35 @@
+package team.java.facto_be.domain.chatbot.service.ingest;
+
+import java.time.Duration;
+
+/**
+ * 벡터 스토어 적재 결과.
+ *
+ * @param services 읽은 복지 서비스 수
+ * @param changedServices 본문이 바뀌어(또는 새로 추가되어) 다시 적재한 서비스 수
+ * @param removedServices 삭제되어 청크를 지운 서비스 수
+ * @param chunks 저장에 성공한 청크 수
+ * @param failedChunks 임베딩/저장에 실패한 청크 수
+ * @param batches 임베딩/저장 요청 수
+ * @param elapsed 총 소요 시간
+ */
+public record IngestionReport(
+        long services,
+        long changedServices,
+        long removedServices,
+        long chunks,
+        long failedChunks,
+        long batches,
+        Duration elapsed
+) {
+
+    /**
+     * 초당 저장 청크 수를 반환합니다.
+     *
+     * @return 처리량 (chunks/s)
+     */
+    public double chunksPerSecond() {
+        long millis = Math.max(1, elapsed.toMillis());
+        return chunks * 1000.0 / millis;
+    }
+}
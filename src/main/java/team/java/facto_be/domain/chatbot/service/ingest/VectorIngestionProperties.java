@@ -0,0 +1,29 @@
+package team.java.facto_be.domain.chatbot.service.ingest;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 벡터 스토어 적재 설정 프로퍼티.
+ *
+ * @param pageSize DB에서 한 번에 읽는 복지 서비스 수
+ * @param batchSize 임베딩/저장 요청 한 번에 담는 청크 수
+ * @param concurrency 동시에 진행하는 임베딩/저장 요청 수 (초과하면 DB 읽기가 대기)
+ */
+@ConfigurationProperties(prefix = "chatbot.ingestion")
+public record VectorIngestionProperties(
+        Integer pageSize,
+        Integer batchSize,
+        Integer concurrency
+) {
+    public VectorIngestionProperties {
+        if (pageSize == null) {
+            pageSize = 200;
+        }
+        if (batchSize == null) {
+            batchSize = 50;
+        }
+        if (concurrency == null) {
+            concurrency = 4;
+        }
+    }
+}
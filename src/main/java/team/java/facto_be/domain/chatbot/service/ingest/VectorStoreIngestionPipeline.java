@@ -0,0 +1,290 @@
+package team.java.facto_be.domain.chatbot.service.ingest;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.vectorstore.VectorStore;
+import org.springframework.ai.vectorstore.filter.FilterExpressionBuilder;
+import org.springframework.stereotype.Component;
+import team.java.facto_be.domain.chatbot.domain.entity.VectorDocumentManifest;
+import team.java.facto_be.domain.chatbot.domain.repository.VectorDocumentManifestRepository;
+import team.java.facto_be.domain.chatbot.service.ingest.WelfareDocumentChunker.ServiceChunks;
+import team.java.facto_be.domain.welfare.repository.WelfareServiceRepository;
+import team.java.facto_be.domain.welfare.repository.projection.WelfareServiceDocumentSource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 복지 서비스 → 벡터 스토어 적재 파이프라인.
+ *
+ * <p>단계별로 다음과 같이 처리합니다.
+ * <ol>
+ *   <li>읽기: 문서 생성에 필요한 컬럼만 서비스 ID 순으로 한 페이지씩 조회 (엔티티 전체를 메모리에 올리지 않음)</li>
+ *   <li>청크: 페이지 안의 서비스를 병렬 스트림으로 청크 문서로 변환</li>
+ *   <li>비교: 적재 목록({@link VectorDocumentManifest})의 본문 해시와 같은 서비스는 건너뜀</li>
+ *   <li>임베딩/저장: 바뀐 서비스의 청크를 배치로 묶어 가상 스레드에서 {@link VectorStore#add}로 동시에 요청</li>
+ *   <li>정리: 이번에 읽히지 않은(삭제된) 서비스의 청크와 적재 목록을 삭제</li>
+ * </ol>
+ *
+ * <p>청크 ID가 (서비스 ID, 청크 시작 위치)로 고정되어 있어 다시 적재하면 기존 청크를 덮어쓰고,
+ * 본문이 짧아져 남는 뒤쪽 청크는 이전 청크 수로 ID를 계산해 지웁니다.
+ * 적재 목록은 배치 저장이 성공한 뒤에만 갱신하므로 실패한 서비스는 다음 재색인에서 다시 적재됩니다.
+ *
+ * <p>동시에 진행 중인 배치 수는 {@link Semaphore}로 제한합니다. 임베딩이 밀리면 다음 배치를 넘기지 못한
+ * 읽기 단계가 대기하므로, 메모리에 쌓이는 청크는 (동시 요청 수 + 1) 배치와 한 페이지를 넘지 않습니다.
+ *
+ * <p>실패한 배치는 전체를 중단하지 않고 건수만 집계하며, 진행 상황과 처리량은 주기적으로 로그에 남깁니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VectorStoreIngestionPipeline {
+
+    private static final long PROGRESS_LOG_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    private static final String SERVICE_ID_KEY = "serviceId";
+
+    private final VectorStore vectorStore;
+    private final WelfareServiceRepository welfareServiceRepository;
+    private final VectorDocumentManifestRepository vectorDocumentManifestRepository;
+    private final WelfareDocumentChunker welfareDocumentChunker;
+    private final VectorIngestionProperties properties;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    /**
+     * 복지 서비스를 벡터 스토어에 적재합니다.
+     *
+     * @param full true면 본문 해시와 관계없이 모든 서비스를 다시 적재 (벡터 스토어를 비웠을 때 사용)
+     * @return 적재 결과
+     * @throws IllegalStateException 이미 적재가 진행 중이거나 적재 도중 인터럽트된 경우
+     */
+    public IngestionReport ingest(boolean full) {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("벡터 스토어 적재가 이미 진행 중입니다.");
+        }
+
+        try {
+            return run(full);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private IngestionReport run(boolean full) {
+        long startedAt = System.nanoTime();
+        Progress progress = new Progress();
+        Semaphore permits = new Semaphore(properties.concurrency());
+
+        Map<String, VectorDocumentManifest> manifests = vectorDocumentManifestRepository.findAll().stream()
+                .collect(Collectors.toMap(VectorDocumentManifest::getServiceId, Function.identity()));
+        Set<String> seen = new HashSet<>();
+
+        log.info("VectorStore 적재 시작 - full={}, 적재 목록 {}건, pageSize={}, batchSize={}, concurrency={}",
+                full, manifests.size(), properties.pageSize(), properties.batchSize(), properties.concurrency());
+
+        // close()가 제출된 배치가 모두 끝날 때까지 기다림
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Batch batch = new Batch();
+            long lastLoggedAt = startedAt;
+            String afterServiceId = null;
+
+            while (true) {
+                List<WelfareServiceDocumentSource> page =
+                        welfareServiceRepository.findDocumentSourcesAfter(afterServiceId, properties.pageSize());
+                if (page.isEmpty()) {
+                    break;
+                }
+
+                List<ServiceChunks> chunked = page.parallelStream()
+                        .map(welfareDocumentChunker::toDocuments)
+                        .toList();
+                progress.services.add(page.size());
+
+                for (ServiceChunks service : chunked) {
+                    seen.add(service.serviceId());
+                    VectorDocumentManifest previous = manifests.get(service.serviceId());
+                    if (!full && previous != null && previous.getContentHash().equals(service.contentHash())) {
+                        continue;
+                    }
+
+                    // 서비스 하나의 청크는 같은 배치에 담아 적재 목록을 서비스 단위로 갱신
+                    if (!batch.isEmpty() && batch.chunkCount + service.documents().size() > properties.batchSize()) {
+                        submit(executor, permits, batch, progress);
+                        batch = new Batch();
+                    }
+                    batch.add(service, previous);
+                }
+
+                long now = System.nanoTime();
+                if (now - lastLoggedAt >= PROGRESS_LOG_INTERVAL_NANOS) {
+                    logProgress(progress, now - startedAt);
+                    lastLoggedAt = now;
+                }
+
+                if (page.size() < properties.pageSize()) {
+                    break;
+                }
+                afterServiceId = page.get(page.size() - 1).serviceId();
+            }
+
+            if (!batch.isEmpty()) {
+                submit(executor, permits, batch, progress);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("벡터 스토어 적재가 중단되었습니다.", e);
+        }
+
+        // 복지 서비스를 하나도 읽지 못했으면 전체 삭제로 이어지지 않도록 정리를 건너뜀
+        if (!seen.isEmpty()) {
+            removeDeletedServices(manifests, seen, progress);
+        }
+
+        IngestionReport report = new IngestionReport(
+                progress.services.sum(),
+                progress.changed.sum(),
+                progress.removed.sum(),
+                progress.stored.sum(),
+                progress.failed.sum(),
+                progress.batches.sum(),
+                Duration.ofNanos(System.nanoTime() - startedAt)
+        );
+
+        if (report.services() == 0) {
+            log.warn("복지 서비스 데이터가 없습니다.");
+        }
+        log.info("VectorStore 적재 완료 - 서비스 {}건 (변경 {}건, 삭제 {}건), 청크 {}건 (실패 {}건), 배치 {}건, {}ms, {} chunks/s",
+                report.services(), report.changedServices(), report.removedServices(),
+                report.chunks(), report.failedChunks(), report.batches(),
+                report.elapsed().toMillis(), String.format("%.1f", report.chunksPerSecond()));
+        return report;
+    }
+
+    /**
+     * 동시 요청 수에 여유가 생길 때까지 기다린 뒤 배치를 가상 스레드에 넘깁니다.
+     */
+    private void submit(ExecutorService executor, Semaphore permits, Batch batch, Progress progress)
+            throws InterruptedException {
+        permits.acquire();
+        progress.batches.increment();
+
+        executor.execute(() -> {
+            try {
+                store(batch);
+                progress.stored.add(batch.chunkCount);
+                progress.changed.add(batch.services.size());
+            } catch (Exception e) {
+                progress.failed.add(batch.chunkCount);
+                log.warn("VectorStore batch add 실패 ({}건)", batch.chunkCount, e);
+            } finally {
+                permits.release();
+            }
+        });
+    }
+
+    private void store(Batch batch) {
+        // 적재 목록에 없는 서비스는 고정 ID 도입 전의 임의 ID 청크가 남아 있을 수 있으므로 서비스 ID로 먼저 삭제
+        if (!batch.unlisted.isEmpty()) {
+            vectorStore.delete(new FilterExpressionBuilder()
+                    .in(SERVICE_ID_KEY, new ArrayList<Object>(batch.unlisted))
+                    .build());
+        }
+
+        vectorStore.add(batch.documents);
+
+        if (!batch.staleIds.isEmpty()) {
+            vectorStore.delete(batch.staleIds);
+        }
+
+        vectorDocumentManifestRepository.saveAll(batch.services.stream()
+                .map(service -> VectorDocumentManifest.builder()
+                        .serviceId(service.serviceId())
+                        .contentHash(service.contentHash())
+                        .chunkCount(service.documents().size())
+                        .build())
+                .toList());
+    }
+
+    /**
+     * 적재 목록에는 있지만 이번에 읽히지 않은 서비스의 청크와 적재 목록을 삭제합니다.
+     */
+    private void removeDeletedServices(Map<String, VectorDocumentManifest> manifests, Set<String> seen,
+                                       Progress progress) {
+        List<VectorDocumentManifest> deleted = manifests.values().stream()
+                .filter(manifest -> !seen.contains(manifest.getServiceId()))
+                .toList();
+
+        for (VectorDocumentManifest manifest : deleted) {
+            try {
+                vectorStore.delete(welfareDocumentChunker.chunkIds(
+                        manifest.getServiceId(), 0, manifest.getChunkCount()));
+                vectorDocumentManifestRepository.delete(manifest);
+                progress.removed.increment();
+            } catch (Exception e) {
+                log.warn("삭제된 서비스의 청크 삭제 실패 - serviceId: {}", manifest.getServiceId(), e);
+            }
+        }
+    }
+
+    private static void logProgress(Progress progress, long elapsedNanos) {
+        long stored = progress.stored.sum();
+        double seconds = Math.max(1, TimeUnit.NANOSECONDS.toMillis(elapsedNanos)) / 1000.0;
+        log.info("VectorStore 적재 중 - 서비스 {}건 (변경 {}건), 청크 {}건 저장 (실패 {}건), {} chunks/s",
+                progress.services.sum(), progress.changed.sum(), stored, progress.failed.sum(),
+                String.format("%.1f", stored / seconds));
+    }
+
+    /**
+     * 한 번에 임베딩/저장할 서비스 묶음.
+     */
+    private final class Batch {
+        private final List<ServiceChunks> services = new ArrayList<>();
+        private final List<Document> documents = new ArrayList<>();
+        private final List<String> staleIds = new ArrayList<>();
+        private final List<String> unlisted = new ArrayList<>();
+        private int chunkCount;
+
+        void add(ServiceChunks service, VectorDocumentManifest previous) {
+            services.add(service);
+            documents.addAll(service.documents());
+            chunkCount += service.documents().size();
+
+            if (previous == null) {
+                unlisted.add(service.serviceId());
+            } else if (previous.getChunkCount() > service.documents().size()) {
+                staleIds.addAll(welfareDocumentChunker.chunkIds(
+                        service.serviceId(), service.documents().size(), previous.getChunkCount()));
+            }
+        }
+
+        boolean isEmpty() {
+            return services.isEmpty();
+        }
+    }
+
+    /**
+     * 적재 진행 집계 (읽기 스레드와 배치 스레드가 함께 갱신).
+     */
+    private static final class Progress {
+        private final LongAdder services = new LongAdder();
+        private final LongAdder changed = new LongAdder();
+        private final LongAdder removed = new LongAdder();
+        private final LongAdder stored = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final LongAdder batches = new LongAdder();
+    }
+}
@@ -0,0 +1,251 @@
+package team.java.facto_be.domain.chatbot.service.ingest;
+
+import org.springframework.ai.document.Document;
+import org.springframework.stereotype.Component;
+import team.java.facto_be.domain.welfare.repository.projection.WelfareServiceDocumentSource;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * 복지 서비스를 벡터 스토어 문서(청크)로 변환합니다.
+ *
+ * <p>서비스명/요약/내용/지역을 하나의 본문으로 만든 뒤 겹치는 구간을 두고 고정 길이로 나눕니다.
+ * 상태가 없으므로 여러 스레드에서 동시에 호출할 수 있습니다.
+ *
+ * <p>청크 ID는 (서비스 ID, 청크 시작 위치)로 정해지는 UUID이므로 같은 서비스를 다시 적재하면
+ * 기존 청크를 덮어씁니다. 본문 해시는 메타데이터({@code contentHash})에도 함께 저장합니다.
+ *
+ * <p>벡터 스토어 필터는 "배열에 포함" 조건을 지원하지 않으므로, 생애주기는 값마다
+ * {@code lifeCycle_<값> = true} 키로 펼쳐 저장하고 생애주기 제한이 없으면 {@code lifeCycleAll = true}를 저장합니다.
+ * 서비스 데이터는 생애주기를 코드("004")로, 사용자 프로필은 이름("청년")으로 가지므로 키는 이름으로 맞춥니다.
+ *
+ * <p>필터는 부분 일치도 지원하지 않으므로, 시도는 "대전광역시"와 "대전"이 같은 값이 되도록
+ * 행정구역 접미사를 뗀 {@code sidoKey}를 함께 저장합니다 ({@link #sidoKey(String)}).
+ */
+@Component
+public class WelfareDocumentChunker {
+
+    private static final int CHUNK_SIZE = 700;
+    private static final int CHUNK_OVERLAP = 100;
+    private static final int CHUNK_STEP = CHUNK_SIZE - CHUNK_OVERLAP;
+
+    /** 생애주기 값별 메타데이터 키 접두사 */
+    public static final String LIFE_CYCLE_KEY_PREFIX = "lifeCycle_";
+
+    /** 생애주기 제한이 없는 서비스 표시 키 */
+    public static final String LIFE_CYCLE_ALL_KEY = "lifeCycleAll";
+
+    /** 정규화한 시도 이름의 메타데이터 키 */
+    public static final String SIDO_KEY = "sidoKey";
+
+    /**
+     * 메타데이터 형식 버전. 올리면 본문 해시가 달라져 모든 서비스가 다시 적재됩니다.
+     * 2: 생애주기 코드를 이름으로 변환, {@code sidoKey} 추가
+     */
+    private static final int METADATA_VERSION = 2;
+
+    /** 생애주기 코드 → 이름 ({@code WelfareServiceJpaEntity#lifeCycleArray} 참고) */
+    private static final Map<String, String> LIFE_CYCLE_NAMES = Map.of(
+            "001", "영유아",
+            "002", "아동",
+            "003", "청소년",
+            "004", "청년",
+            "005", "중장년",
+            "006", "노년",
+            "007", "임신·출산");
+
+    /** 시도 이름에서 떼는 접미사 (긴 것부터) */
+    private static final List<String> SIDO_SUFFIXES = List.of("특별자치시", "특별자치도", "특별시", "광역시", "시", "도");
+
+    /** 접미사를 떼도 줄임말과 다른 도 이름 ("충청북도" → "충청북" → "충북") */
+    private static final Map<String, String> SIDO_ABBREVIATIONS = Map.of(
+            "충청북", "충북",
+            "충청남", "충남",
+            "전라북", "전북",
+            "전라남", "전남",
+            "경상북", "경북",
+            "경상남", "경남");
+
+    /** 배열 컬럼의 원소 구분 문자 (JSON 대괄호/따옴표/쉼표 등) */
+    private static final Pattern TOKEN_DELIMITER = Pattern.compile("[\\[\\]\",|]+");
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    /**
+     * 복지 서비스 하나를 청크 문서 목록으로 변환합니다.
+     *
+     * @param w 문서 생성용 복지 서비스 프로젝션
+     * @return 본문 해시와 청크 문서 목록 (본문 순서)
+     */
+    public ServiceChunks toDocuments(WelfareServiceDocumentSource w) {
+
+        String fullText = buildContent(w);
+        String contentHash = contentHash(w, fullText);
+
+        List<Document> documents = new ArrayList<>();
+
+        for (int start = 0; start < fullText.length(); start += CHUNK_STEP) {
+
+            int end = Math.min(start + CHUNK_SIZE, fullText.length());
+            String chunk = fullText.substring(start, end);
+
+            Map<String, Object> metadata = buildMetadata(w);
+            metadata.put("chunkStart", start);
+            metadata.put("contentHash", contentHash);
+
+            documents.add(new Document(chunkId(w.serviceId(), start), chunk, metadata));
+
+            if (end == fullText.length()) {
+                break;
+            }
+        }
+
+        return new ServiceChunks(w.serviceId(), contentHash, documents);
+    }
+
+    /**
+     * 서비스의 청크 중 fromIndex번째부터 toIndex번째 전까지의 청크 ID를 반환합니다.
+     * 본문이 짧아지거나 서비스가 삭제되어 남은 청크를 지울 때 사용합니다.
+     *
+     * @param serviceId 복지 서비스 ID
+     * @param fromIndex 시작 청크 순번 (포함)
+     * @param toIndex 끝 청크 순번 (제외)
+     * @return 청크 ID 목록
+     */
+    public List<String> chunkIds(String serviceId, int fromIndex, int toIndex) {
+        List<String> ids = new ArrayList<>(Math.max(0, toIndex - fromIndex));
+        for (int index = fromIndex; index < toIndex; index++) {
+            ids.add(chunkId(serviceId, index * CHUNK_STEP));
+        }
+        return ids;
+    }
+
+    private static String chunkId(String serviceId, int chunkStart) {
+        return UUID.nameUUIDFromBytes((serviceId + ":" + chunkStart).getBytes(StandardCharsets.UTF_8)).toString();
+    }
+
+    /**
+     * 본문과 본문에 없는 메타데이터, 청크 설정을 합친 SHA-256 해시.
+     * 청크 설정이나 메타데이터 형식이 바뀌면 모든 서비스가 다시 적재됩니다.
+     */
+    private static String contentHash(WelfareServiceDocumentSource w, String fullText) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((METADATA_VERSION + ":" + CHUNK_SIZE + ":" + CHUNK_OVERLAP + ":" + w.serviceType() + ":" + w.lifeCycleArray() + "\n")
+                    .getBytes(StandardCharsets.UTF_8));
+            digest.update(fullText.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private String buildContent(WelfareServiceDocumentSource w) {
+
+        StringBuilder content = new StringBuilder();
+
+        content.append("서비스명: ").append(w.serviceName()).append("\n");
+
+        String summary =
+                w.aiSummary() != null
+                        ? w.aiSummary()
+                        : w.serviceSummary();
+
+        if (summary != null && !summary.isBlank()) {
+            content.append("요약: ").append(summary).append("\n");
+        }
+
+        if (w.serviceContent() != null && !w.serviceContent().isBlank()) {
+            content.append("내용: ").append(w.serviceContent()).append("\n");
+        }
+
+        if (w.ctpvNm() != null) {
+            content.append("지역: ").append(w.ctpvNm());
+            if (w.sggNm() != null) {
+                content.append(" ").append(w.sggNm());
+            }
+            content.append("\n");
+        }
+
+        return content.toString();
+    }
+
+    private Map<String, Object> buildMetadata(WelfareServiceDocumentSource w) {
+
+        Map<String, Object> metadata = new HashMap<>();
+
+        metadata.put("serviceId", w.serviceId());
+        metadata.put("serviceName", w.serviceName());
+        metadata.put("serviceType", w.serviceType());
+
+        if (w.ctpvNm() != null) {
+            metadata.put("ctpvNm", w.ctpvNm());
+            metadata.put(SIDO_KEY, sidoKey(w.ctpvNm()));
+        }
+        if (w.sggNm() != null) {
+            metadata.put("sggNm", w.sggNm());
+        }
+
+        boolean restricted = false;
+        if (w.lifeCycleArray() != null) {
+            for (String lifeCycle : TOKEN_DELIMITER.split(w.lifeCycleArray())) {
+                if (!lifeCycle.isBlank()) {
+                    metadata.put(lifeCycleKey(lifeCycle), true);
+                    restricted = true;
+                }
+            }
+        }
+        metadata.put(LIFE_CYCLE_ALL_KEY, !restricted);
+
+        return metadata;
+    }
+
+    /**
+     * 생애주기 값의 메타데이터 키를 반환합니다. 코드는 이름으로 바꾸고 공백을 제거하므로
+     * "004"와 "청년", "임신 · 출산"과 "임신·출산"은 각각 같은 키입니다.
+     *
+     * @param lifeCycle 생애주기 코드 또는 이름
+     * @return 메타데이터 키
+     */
+    public static String lifeCycleKey(String lifeCycle) {
+        String value = WHITESPACE.matcher(lifeCycle).replaceAll("");
+        return LIFE_CYCLE_KEY_PREFIX + LIFE_CYCLE_NAMES.getOrDefault(value, value);
+    }
+
+    /**
+     * 시도 이름을 필터용 값으로 정규화합니다. 공백과 행정구역 접미사를 떼므로
+     * "대전광역시"와 "대전", "서울특별시"와 "서울시", "충청북도"와 "충북"은 각각 같은 값입니다.
+     *
+     * @param sidoName 시도 이름
+     * @return 정규화한 시도 이름
+     */
+    public static String sidoKey(String sidoName) {
+        String value = WHITESPACE.matcher(sidoName).replaceAll("");
+        for (String suffix : SIDO_SUFFIXES) {
+            if (value.endsWith(suffix) && value.length() - suffix.length() >= 2) {
+                value = value.substring(0, value.length() - suffix.length());
+                break;
+            }
+        }
+        return SIDO_ABBREVIATIONS.getOrDefault(value, value);
+    }
+
+    /**
+     * 복지 서비스 하나의 청크 변환 결과.
+     *
+     * @param serviceId 복지 서비스 ID
+     * @param contentHash 본문 해시
+     * @param documents 청크 문서 목록
+     */
+    public record ServiceChunks(String serviceId, String contentHash, List<Document> documents) {
+    }
+}
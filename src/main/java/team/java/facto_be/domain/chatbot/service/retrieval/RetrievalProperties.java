@@ -0,0 +1,24 @@
+package team.java.facto_be.domain.chatbot.service.retrieval;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * RAG 검색 설정 프로퍼티.
+ *
+ * @param topK 검색할 최대 문서 수
+ * @param similarityThreshold 최소 코사인 유사도 (지역/생애주기 필터로 후보를 좁힌 뒤 적용)
+ */
+@ConfigurationProperties(prefix = "chatbot.retrieval")
+public record RetrievalProperties(
+        Integer topK,
+        Double similarityThreshold
+) {
+    public RetrievalProperties {
+        if (topK == null) {
+            topK = 5;
+        }
+        if (similarityThreshold == null) {
+            similarityThreshold = 0.80;
+        }
+    }
+}
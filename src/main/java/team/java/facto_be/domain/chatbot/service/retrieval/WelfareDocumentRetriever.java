@@ -0,0 +1,132 @@
+package team.java.facto_be.domain.chatbot.service.retrieval;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.rag.Query;
+import org.springframework.ai.rag.retrieval.search.DocumentRetriever;
+import org.springframework.ai.vectorstore.SearchRequest;
+import org.springframework.ai.vectorstore.VectorStore;
+import org.springframework.ai.vectorstore.filter.Filter;
+import org.springframework.ai.vectorstore.filter.FilterExpressionBuilder;
+import org.springframework.stereotype.Component;
+import team.java.facto_be.domain.chatbot.service.enums.QueryType;
+import team.java.facto_be.domain.chatbot.service.ingest.WelfareDocumentChunker;
+import team.java.facto_be.domain.user.entity.UserJpaEntity;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 질문 유형과 사용자 프로필로 후보를 좁혀 복지 서비스 문서를 검색하는 RAG 검색기.
+ *
+ * <p>요청마다 {@link #context(QueryType, UserJpaEntity)}로 만든 값을 advisor 파라미터로 넘기면
+ * 다음과 같이 동작합니다.
+ * <ul>
+ *   <li>{@link QueryType#GENERAL}: 검색하지 않음 (질의 임베딩/검색 비용 없음)</li>
+ *   <li>사용자 시도가 있으면: 중앙부처 서비스 또는 해당 시도의 지자체 서비스만
+ *       ("대전"과 "대전광역시"처럼 줄임말과 정식 이름은 같은 시도, {@link WelfareDocumentChunker#sidoKey(String)})</li>
+ *   <li>사용자 생애주기가 있으면: 해당 생애주기 또는 생애주기 제한이 없는 서비스만</li>
+ * </ul>
+ * 필터는 유사도 계산 전에 벡터 스토어에서 적용되므로 좁혀진 후보 안에서만 상위 K개를 고릅니다.
+ *
+ * <p>{@link #prefetch(String, QueryType, UserJpaEntity)}로 미리 검색한 결과가 파라미터에 있으면
+ * advisor 호출 시 다시 검색하지 않고 그 결과를 사용합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WelfareDocumentRetriever implements DocumentRetriever {
+
+    private static final String QUERY_TYPE_KEY = "welfare_retrieval_query_type";
+    private static final String SIDO_NAME_KEY = "welfare_retrieval_sido_name";
+    private static final String LIFE_CYCLE_KEY = "welfare_retrieval_life_cycle";
+    private static final String DOCUMENTS_KEY = "welfare_retrieval_documents";
+
+    private static final String CENTRAL_SERVICE_TYPE = "CENTRAL";
+
+    private final VectorStore vectorStore;
+    private final RetrievalProperties properties;
+
+    /**
+     * 검색 조건을 advisor 파라미터로 만듭니다.
+     *
+     * @param queryType 분류된 질문 유형
+     * @param user 사용자 (비로그인이면 null)
+     * @return advisor 파라미터
+     */
+    public static Map<String, Object> context(QueryType queryType, UserJpaEntity user) {
+        Map<String, Object> context = new HashMap<>();
+        context.put(QUERY_TYPE_KEY, queryType);
+        if (user != null) {
+            if (user.getSidoName() != null && !user.getSidoName().isBlank()) {
+                context.put(SIDO_NAME_KEY, user.getSidoName().trim());
+            }
+            if (user.getLifeCycle() != null && !user.getLifeCycle().isBlank()) {
+                context.put(LIFE_CYCLE_KEY, user.getLifeCycle().trim());
+            }
+        }
+        return context;
+    }
+
+    /**
+     * 미리 검색하여 검색 결과까지 담은 advisor 파라미터를 만듭니다.
+     * 프롬프트 준비(세션 저장 등)와 동시에 검색하기 위해 사용합니다.
+     *
+     * @param message 사용자 질문 (advisor가 검색할 질의와 같아야 함)
+     * @param queryType 분류된 질문 유형
+     * @param user 사용자 (비로그인이면 null)
+     * @return 검색 결과를 포함한 advisor 파라미터
+     */
+    public Map<String, Object> prefetch(String message, QueryType queryType, UserJpaEntity user) {
+        Map<String, Object> context = context(queryType, user);
+        context.put(DOCUMENTS_KEY, retrieve(Query.builder().text(message).context(context).build()));
+        return context;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Document> retrieve(Query query) {
+        Map<String, Object> context = query.context();
+        if (context.get(DOCUMENTS_KEY) instanceof List<?> prefetched) {
+            return (List<Document>) prefetched;
+        }
+        if (context.get(QUERY_TYPE_KEY) == QueryType.GENERAL) {
+            return List.of();
+        }
+
+        Filter.Expression filter = buildFilter(
+                (String) context.get(SIDO_NAME_KEY), (String) context.get(LIFE_CYCLE_KEY));
+
+        List<Document> documents = vectorStore.similaritySearch(SearchRequest.builder()
+                .query(query.text())
+                .topK(properties.topK())
+                .similarityThreshold(properties.similarityThreshold())
+                .filterExpression(filter)
+                .build());
+
+        log.debug("RAG 검색 - 필터: {}, 결과: {}건", filter, documents.size());
+        return documents;
+    }
+
+    private static Filter.Expression buildFilter(String sidoName, String lifeCycle) {
+        FilterExpressionBuilder b = new FilterExpressionBuilder();
+
+        FilterExpressionBuilder.Op region = sidoName == null ? null : b.or(
+                b.eq("serviceType", CENTRAL_SERVICE_TYPE),
+                b.eq(WelfareDocumentChunker.SIDO_KEY, WelfareDocumentChunker.sidoKey(sidoName)));
+
+        FilterExpressionBuilder.Op lifeCycleOp = lifeCycle == null ? null : b.or(
+                b.eq(WelfareDocumentChunker.lifeCycleKey(lifeCycle), true),
+                b.eq(WelfareDocumentChunker.LIFE_CYCLE_ALL_KEY, true));
+
+        if (region != null && lifeCycleOp != null) {
+            return b.and(region, lifeCycleOp).build();
+        }
+        if (region != null) {
+            return region.build();
+        }
+        return lifeCycleOp == null ? null : lifeCycleOp.build();
+    }
+}
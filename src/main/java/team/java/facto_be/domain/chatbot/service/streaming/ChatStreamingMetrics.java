@@ -0,0 +1,38 @@
+package team.java.facto_be.domain.chatbot.service.streaming;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * WebSocket 스트리밍 전송 지표.
+ *
+ * <ul>
+ *   <li>{@code chatbot.streaming.frames}: 응답 하나에 보낸 STREAMING 프레임 수</li>
+ *   <li>{@code chatbot.streaming.frame.bytes}: STREAMING 프레임 하나의 크기 (UTF-8 바이트)</li>
+ * </ul>
+ */
+@Component
+public class ChatStreamingMetrics {
+
+    private final DistributionSummary framesPerResponse;
+    private final DistributionSummary bytesPerFrame;
+
+    public ChatStreamingMetrics(MeterRegistry meterRegistry) {
+        this.framesPerResponse = DistributionSummary.builder("chatbot.streaming.frames")
+                .description("STREAMING frames per response")
+                .register(meterRegistry);
+        this.bytesPerFrame = DistributionSummary.builder("chatbot.streaming.frame.bytes")
+                .baseUnit("bytes")
+                .description("UTF-8 size of a STREAMING frame")
+                .register(meterRegistry);
+    }
+
+    public void recordFrame(int bytes) {
+        bytesPerFrame.record(bytes);
+    }
+
+    public void recordResponse(int frames) {
+        framesPerResponse.record(frames);
+    }
+}
@@ -0,0 +1,41 @@
+package team.java.facto_be.domain.chatbot.service.streaming;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * WebSocket 스트리밍 전송 설정 프로퍼티.
+ *
+ * @param sendTimeLimit 한 프레임 전송이 이 시간을 넘기면 느린 클라이언트로 보고 연결을 끊음
+ * @param sendBufferSizeLimit 전송 대기 버퍼 상한 (바이트, 넘으면 연결을 끊음)
+ * @param maxInFlightPerConnection 연결 하나에서 동시에 처리하는 최대 질문 수
+ * @param coalesceWindow 응답 조각을 모아 보내는 최대 대기 시간
+ * @param coalesceMaxBytes 모은 조각이 이 크기(UTF-8 바이트) 이상이면 대기 시간과 관계없이 바로 전송
+ */
+@ConfigurationProperties(prefix = "chatbot.streaming")
+public record ChatStreamingProperties(
+        Duration sendTimeLimit,
+        Integer sendBufferSizeLimit,
+        Integer maxInFlightPerConnection,
+        Duration coalesceWindow,
+        Integer coalesceMaxBytes
+) {
+    public ChatStreamingProperties {
+        if (sendTimeLimit == null) {
+            sendTimeLimit = Duration.ofSeconds(10);
+        }
+        if (sendBufferSizeLimit == null || sendBufferSizeLimit < 1) {
+            sendBufferSizeLimit = 512 * 1024;
+        }
+        if (maxInFlightPerConnection == null || maxInFlightPerConnection < 1) {
+            maxInFlightPerConnection = 2;
+        }
+        if (coalesceWindow == null) {
+            coalesceWindow = Duration.ofMillis(50);
+        }
+        if (coalesceMaxBytes == null || coalesceMaxBytes < 1) {
+            coalesceMaxBytes = 1024;
+        }
+    }
+}
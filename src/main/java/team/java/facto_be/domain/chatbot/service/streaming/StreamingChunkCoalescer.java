@@ -0,0 +1,91 @@
+package team.java.facto_be.domain.chatbot.service.streaming;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 모델이 토큰 단위로 내보내는 응답 조각을 모아서 내보냅니다.
+ *
+ * <p>조각은 {@code window}마다, 또는 모은 크기가 {@code maxBytes}(UTF-8) 이상이 되면 즉시 하나로 합쳐 내보내므로
+ * 클라이언트가 받는 프레임 수가 토큰 수가 아닌 시간/크기 기준으로 제한됩니다.
+ * 스트림이 끝나거나 실패하면 남은 조각을 먼저 내보냅니다.
+ * 결과 스트림을 취소하면 원본 스트림도 취소됩니다.
+ */
+public final class StreamingChunkCoalescer {
+
+    private StreamingChunkCoalescer() {
+    }
+
+    /**
+     * 응답 조각 스트림을 시간/크기 기준으로 묶습니다.
+     *
+     * @param chunks 원본 응답 조각
+     * @param window 조각을 모으는 최대 시간
+     * @param maxBytes 즉시 내보낼 크기 기준 (UTF-8 바이트)
+     * @return 묶인 응답 조각
+     */
+    public static Flux<String> coalesce(Flux<String> chunks, Duration window, int maxBytes) {
+        return Flux.create(sink -> {
+            Buffer buffer = new Buffer(sink, maxBytes);
+            Disposable ticker = Schedulers.parallel().schedulePeriodically(
+                    buffer::flush, window.toNanos(), window.toNanos(), TimeUnit.NANOSECONDS);
+
+            Disposable upstream = chunks.subscribe(
+                    buffer::append,
+                    error -> {
+                        ticker.dispose();
+                        buffer.flush();
+                        sink.error(error);
+                    },
+                    () -> {
+                        ticker.dispose();
+                        buffer.flush();
+                        sink.complete();
+                    });
+
+            sink.onDispose(() -> {
+                ticker.dispose();
+                upstream.dispose();
+            });
+        });
+    }
+
+    /**
+     * 모델 스레드(append)와 타이머 스레드(flush)가 함께 접근하므로 동기화합니다.
+     */
+    private static final class Buffer {
+
+        private final FluxSink<String> sink;
+        private final int maxBytes;
+        private final StringBuilder pending = new StringBuilder();
+        private int pendingBytes;
+
+        private Buffer(FluxSink<String> sink, int maxBytes) {
+            this.sink = sink;
+            this.maxBytes = maxBytes;
+        }
+
+        synchronized void append(String chunk) {
+            pending.append(chunk);
+            pendingBytes += StreamingFrameEncoder.utf8Length(chunk);
+            if (pendingBytes >= maxBytes) {
+                flush();
+            }
+        }
+
+        synchronized void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            String content = pending.toString();
+            pending.setLength(0);
+            pendingBytes = 0;
+            sink.next(content);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package team.java.facto_be.domain.chatbot.service.streaming;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import team.java.facto_be.domain.chatbot.service.dto.WebSocketMessage;
+
+/**
+ * 한 응답의 {@code STREAMING} 프레임 JSON을 미리 만든 앞/뒤 부분과 이스케이프한 본문을 이어 붙여 만듭니다.
+ *
+ * <p>응답 하나에서 세션 ID와 타입은 바뀌지 않으므로, 시작할 때 {@link ObjectMapper}로 한 번만 직렬화하여
+ * 본문 자리의 앞({@code {"session_id":"...","content":"})과 뒤({@code ","type":"STREAMING"})를 잘라 둡니다.
+ * 이후 프레임마다 DTO 생성과 직렬화 없이 본문만 JSON 문자열로 이스케이프하므로,
+ * 같은 ObjectMapper 설정(필드명 전략 등)으로 {@link ObjectMapper#writeValueAsString(Object)}한 결과와
+ * 바이트 단위로 같습니다.
+ */
+public final class StreamingFrameEncoder {
+
+    private static final String CONTENT_MARKER = "__streaming_content__";
+
+    private final String prefix;
+    private final String suffix;
+
+    private StreamingFrameEncoder(String prefix, String suffix) {
+        this.prefix = prefix;
+        this.suffix = suffix;
+    }
+
+    /**
+     * 세션의 STREAMING 프레임 인코더를 만듭니다.
+     *
+     * @param objectMapper WebSocket 응답 직렬화에 쓰는 ObjectMapper
+     * @param sessionId 채팅 세션 ID
+     * @return 인코더
+     * @throws IllegalStateException 응답 직렬화에 실패한 경우
+     */
+    public static StreamingFrameEncoder of(ObjectMapper objectMapper, String sessionId) {
+        String template;
+        try {
+            template = objectMapper.writeValueAsString(
+                    WebSocketMessage.Response.streaming(sessionId, CONTENT_MARKER));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("STREAMING 응답 템플릿을 만들 수 없습니다.", e);
+        }
+        // 본문 필드는 세션 ID 뒤에 직렬화되므로 마지막 위치가 본문 자리
+        int at = template.lastIndexOf(CONTENT_MARKER);
+        return new StreamingFrameEncoder(template.substring(0, at), template.substring(at + CONTENT_MARKER.length()));
+    }
+
+    /**
+     * 본문을 STREAMING 프레임 JSON으로 만듭니다.
+     *
+     * @param content 응답 조각
+     * @return 프레임 JSON
+     */
+    public String encode(String content) {
+        // 이스케이프로 늘어나는 만큼의 여유를 두고 한 번에 할당
+        StringBuilder frame = new StringBuilder(prefix.length() + content.length() + content.length() / 8 + suffix.length() + 8);
+        frame.append(prefix);
+        JsonStringEncoder.getInstance().quoteAsString(content, frame);
+        frame.append(suffix);
+        return frame.toString();
+    }
+
+    /**
+     * 문자열의 UTF-8 바이트 수를 인코딩하지 않고 계산합니다.
+     */
+    public static int utf8Length(CharSequence text) {
+        int bytes = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                bytes += 1;
+            } else if (c < 0x800) {
+                bytes += 2;
+            } else if (Character.isSurrogate(c)) {
+                // 서로게이트 쌍은 합쳐서 4바이트
+                bytes += 2;
+            } else {
+                bytes += 3;
+            }
+        }
+        return bytes;
+    }
+}
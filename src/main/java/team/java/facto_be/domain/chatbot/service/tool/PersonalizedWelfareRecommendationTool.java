@@ -2,13 +2,14 @@ package team.java.facto_be.domain.chatbot.service.tool;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.chat.model.ToolContext;
 import org.springframework.ai.tool.annotation.Tool;
 import org.springframework.stereotype.Component;
-import team.java.facto_be.domain.chatbot.service.context.UserContextHolder;
+import team.java.facto_be.domain.chatbot.service.context.ChatToolContext;
 import team.java.facto_be.domain.user.entity.UserJpaEntity;
 import team.java.facto_be.domain.user.repository.UserRepository;
-import team.java.facto_be.domain.welfare.entity.WelfareServiceJpaEntity;
 import team.java.facto_be.domain.welfare.repository.WelfareServiceRepository;
+import team.java.facto_be.domain.welfare.repository.projection.WelfareServiceDigest;
 
 import java.util.List;
 
@@ -39,21 +40,24 @@ public class PersonalizedWelfareRecommendationTool {
             주의:
             - 사용자 정보를 추측하거나 임의로 생성하지 마세요
             """)
-    public String recommendPersonalizedWelfare() {
+    public String recommendPersonalizedWelfare(ToolContext toolContext) {
 
         try {
-            // 1️⃣ ThreadLocal에서 userId 조회
-            Long userId = UserContextHolder.getUserId();
+            // 1️⃣ ToolContext에서 userId 조회
+            Long userId = ChatToolContext.userId(toolContext);
 
             if (userId == null) {
                 log.warn("개인화 복지 추천 실패 - userId 없음");
                 return "로그인 정보를 확인할 수 없습니다. 로그인 후 다시 시도해주세요.";
             }
 
-            // 2️⃣ 사용자 조회
-            UserJpaEntity user = userRepository.findById(userId)
-                    .orElseThrow(() ->
-                            new IllegalStateException("사용자를 찾을 수 없습니다. userId=" + userId));
+            // 2️⃣ 사용자 조회 (요청 스레드에서 조회한 스냅샷이 있으면 재사용)
+            UserJpaEntity user = ChatToolContext.user(toolContext);
+            if (user == null) {
+                user = userRepository.findById(userId)
+                        .orElseThrow(() ->
+                                new IllegalStateException("사용자를 찾을 수 없습니다. userId=" + userId));
+            }
 
             log.info("개인화 복지 추천 요청 - userId={}, lifeCycle={}, region={} {}",
                     userId,
@@ -70,8 +74,8 @@ public class PersonalizedWelfareRecommendationTool {
             // ============================
 
             // 1단계: 생애주기 + 지역 + 가구상태 (가장 정밀)
-            List<WelfareServiceJpaEntity> results =
-                    welfareServiceRepository.searchWelfareServices(
+            List<WelfareServiceDigest> results =
+                    welfareServiceRepository.searchWelfareServiceDigests(
                             user.getLifeCycle(),
                             user.getHouseholdStatus(),
                             user.getInterestTheme(),
@@ -85,7 +89,7 @@ public class PersonalizedWelfareRecommendationTool {
             if (results.size() < 5) {
                 log.info("1단계 결과 부족 ({}건) → 지역 기반 fallback", results.size());
 
-                results = welfareServiceRepository.searchByRegionAndCategory(
+                results = welfareServiceRepository.searchDigestsByRegionAndCategory(
                         user.getSidoName(),
                         user.getLifeCycle(),
                         null,
@@ -97,7 +101,7 @@ public class PersonalizedWelfareRecommendationTool {
             if (results.size() < 3) {
                 log.info("2단계 결과 부족 ({}건) → 키워드 기반 fallback", results.size());
 
-                results = welfareServiceRepository.searchByKeywordWithRegion(
+                results = welfareServiceRepository.searchDigestsByKeywordWithRegion(
                         user.getSidoName(),
                         user.getSigunguName(),
                         user.getLifeCycle(),
@@ -132,7 +136,7 @@ public class PersonalizedWelfareRecommendationTool {
     // =====================================================
 
     private String formatPersonalizedResults(
-            List<WelfareServiceJpaEntity> results,
+            List<WelfareServiceDigest> results,
             UserJpaEntity user
     ) {
         StringBuilder sb = new StringBuilder();
@@ -145,27 +149,27 @@ public class PersonalizedWelfareRecommendationTool {
         int displayCount = Math.min(results.size(), 10);
 
         for (int i = 0; i < displayCount; i++) {
-            WelfareServiceJpaEntity w = results.get(i);
+            WelfareServiceDigest w = results.get(i);
 
-            sb.append(String.format("[%d] %s\n", i + 1, w.getServiceName()));
+            sb.append(String.format("[%d] %s\n", i + 1, w.serviceName()));
 
             sb.append("→ 추천 이유: ").append(buildReason(w, user)).append("\n");
-            sb.append("→ 지역: ").append(composeRegion(w.getCtpvNm(), w.getSggNm())).append("\n");
+            sb.append("→ 지역: ").append(composeRegion(w.ctpvNm(), w.sggNm())).append("\n");
 
-            String summary = w.getAiSummary() != null
-                    ? w.getAiSummary()
-                    : w.getServiceSummary();
+            String summary = w.aiSummary() != null
+                    ? w.aiSummary()
+                    : w.serviceSummary();
 
             if (summary != null) {
                 sb.append("→ 내용: ").append(truncate(summary, 150)).append("\n");
             }
 
-            if (w.getApplicationMethod() != null) {
-                sb.append("→ 신청방법: ").append(w.getApplicationMethod()).append("\n");
+            if (w.applicationMethod() != null) {
+                sb.append("→ 신청방법: ").append(w.applicationMethod()).append("\n");
             }
 
-            if (w.getDetailLink() != null) {
-                sb.append("→ 상세링크: ").append(truncate(w.getDetailLink(), 80)).append("\n");
+            if (w.detailLink() != null) {
+                sb.append("→ 상세링크: ").append(truncate(w.detailLink(), 80)).append("\n");
             }
 
             sb.append("\n");
@@ -198,9 +202,9 @@ public class PersonalizedWelfareRecommendationTool {
         return sb.toString();
     }
 
-    private String buildReason(WelfareServiceJpaEntity w, UserJpaEntity user) {
-        if (w.getLifeCycleArray() != null &&
-                w.getLifeCycleArray().contains(user.getLifeCycle())) {
+    private String buildReason(WelfareServiceDigest w, UserJpaEntity user) {
+        if (w.lifeCycleArray() != null &&
+                w.lifeCycleArray().contains(user.getLifeCycle())) {
             return "생애주기 일치";
         }
         if (isRegionMatch(w, user)) {
@@ -209,17 +213,17 @@ public class PersonalizedWelfareRecommendationTool {
         return "관련 복지 서비스";
     }
 
-    private boolean isRegionMatch(WelfareServiceJpaEntity w, UserJpaEntity user) {
-        if (w.getCtpvNm() == null) return false;
+    private boolean isRegionMatch(WelfareServiceDigest w, UserJpaEntity user) {
+        if (w.ctpvNm() == null) return false;
 
         boolean sidoMatch =
-                w.getCtpvNm().contains(user.getSidoName()) ||
-                        user.getSidoName().contains(w.getCtpvNm());
+                w.ctpvNm().contains(user.getSidoName()) ||
+                        user.getSidoName().contains(w.ctpvNm());
 
-        if (w.getSggNm() != null && user.getSigunguName() != null) {
+        if (w.sggNm() != null && user.getSigunguName() != null) {
             boolean sigunguMatch =
-                    w.getSggNm().contains(user.getSigunguName()) ||
-                            user.getSigunguName().contains(w.getSggNm());
+                    w.sggNm().contains(user.getSigunguName()) ||
+                            user.getSigunguName().contains(w.sggNm());
             return sidoMatch && sigunguMatch;
         }
 
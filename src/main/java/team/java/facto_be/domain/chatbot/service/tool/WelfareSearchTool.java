@@ -5,8 +5,10 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.tool.annotation.Tool;
 import org.springframework.ai.tool.annotation.ToolParam;
 import org.springframework.stereotype.Component;
+import team.java.facto_be.domain.welfare.cache.WelfareServiceDetailCache;
 import team.java.facto_be.domain.welfare.entity.WelfareServiceJpaEntity;
 import team.java.facto_be.domain.welfare.repository.WelfareServiceRepository;
+import team.java.facto_be.domain.welfare.repository.projection.WelfareServiceDigest;
 
 import java.util.List;
 
@@ -19,6 +21,7 @@ import java.util.List;
 public class WelfareSearchTool {
 
     private final WelfareServiceRepository welfareServiceRepository;
+    private final WelfareServiceDetailCache welfareServiceDetailCache;
     private static final int DEFAULT_LIMIT = 10;
 
     @Tool(description = """
@@ -38,7 +41,7 @@ public class WelfareSearchTool {
         log.info("일반 복지 검색 - 지역: {}, 카테고리: {}", region, category);
 
         // 먼저 넓게 검색
-        List<WelfareServiceJpaEntity> results = welfareServiceRepository.searchByRegionAndCategory(
+        List<WelfareServiceDigest> results = welfareServiceRepository.searchDigestsByRegionAndCategory(
                 region, category, null, DEFAULT_LIMIT
         );
 
@@ -65,7 +68,7 @@ public class WelfareSearchTool {
         theme = normalize(theme);
         log.info("중앙 복지 검색 - 생애주기: {}, 대상: {}, 주제: {}", lifeCycle, target, theme);
 
-        List<WelfareServiceJpaEntity> results = welfareServiceRepository.searchWelfareServices(
+        List<WelfareServiceDigest> results = welfareServiceRepository.searchWelfareServiceDigests(
                 lifeCycle, target, theme, null, null, "CENTRAL", DEFAULT_LIMIT
         );
 
@@ -94,7 +97,7 @@ public class WelfareSearchTool {
         log.info("지역 복지 검색 - 생애주기: {}, 대상: {}, 주제: {}, 시도: {}, 시군구: {}",
                 lifeCycle, target, theme, sido, sigungu);
 
-        List<WelfareServiceJpaEntity> results = welfareServiceRepository.searchWelfareServices(
+        List<WelfareServiceDigest> results = welfareServiceRepository.searchWelfareServiceDigests(
                 lifeCycle, target, theme, sido, sigungu, "LOCAL", DEFAULT_LIMIT
         );
 
@@ -117,7 +120,7 @@ public class WelfareSearchTool {
             return "검색 키워드를 입력해주세요.";
         }
 
-        List<WelfareServiceJpaEntity> results = welfareServiceRepository.searchByKeyword(keyword, DEFAULT_LIMIT);
+        List<WelfareServiceDigest> results = welfareServiceRepository.searchDigestsByKeyword(keyword, DEFAULT_LIMIT);
         return formatResults(results, "키워드(전국)");
     }
 
@@ -137,7 +140,9 @@ public class WelfareSearchTool {
             return "서비스명을 입력해주세요.";
         }
 
-        List<WelfareServiceJpaEntity> results = welfareServiceRepository.searchByKeyword(serviceName, 5);
+        // 상세 정보는 상세 캐시에서 읽음 (DB에서는 ID만 검색)
+        List<WelfareServiceJpaEntity> results = welfareServiceDetailCache.findEntities(
+                welfareServiceRepository.searchIdsByKeyword(serviceName, 5));
         return formatDetailedResults(results, "서비스명 검색");
     }
 
@@ -213,7 +218,7 @@ public class WelfareSearchTool {
     /**
      * 검색 결과 포맷팅
      */
-    private String formatResults(List<WelfareServiceJpaEntity> results, String searchType) {
+    private String formatResults(List<WelfareServiceDigest> results, String searchType) {
         if (results.isEmpty()) {
             // 결과 없음을 매우 명확하게 표시
             return String.format("""
@@ -232,38 +237,38 @@ public class WelfareSearchTool {
         sb.append("========================================\n");
         sb.append(String.format("[%s 검색결과]\n\n", searchType));
 
-        for (WelfareServiceJpaEntity w : results) {
+        for (WelfareServiceDigest w : results) {
             sb.append("========================================\n");
-            sb.append("서비스ID: ").append(nullToDash(w.getServiceId())).append("\n");
-            sb.append("서비스명: ").append(nullToDash(w.getServiceName())).append("\n");
+            sb.append("서비스ID: ").append(nullToDash(w.serviceId())).append("\n");
+            sb.append("서비스명: ").append(nullToDash(w.serviceName())).append("\n");
 
-            sb.append("AI요약: ").append(truncate(firstNonNull(w.getAiSummary(), w.getServiceSummary()), 300)).append("\n");
-            sb.append("원문요약: ").append(truncate(w.getServiceSummary(), 200)).append("\n");
+            sb.append("AI요약: ").append(truncate(firstNonNull(w.aiSummary(), w.serviceSummary()), 300)).append("\n");
+            sb.append("원문요약: ").append(truncate(w.serviceSummary(), 200)).append("\n");
 
-            sb.append("지역: ").append(composeRegion(w.getCtpvNm(), w.getSggNm())).append("\n");
-            sb.append("주관/부서: ").append(nullToDash(w.getOrganization()))
-                    .append(" / ").append(nullToDash(w.getDepartment())).append("\n");
-            sb.append("담당부서명: ").append(nullToDash(w.getBizChrDeptNm())).append("\n");
+            sb.append("지역: ").append(composeRegion(w.ctpvNm(), w.sggNm())).append("\n");
+            sb.append("주관/부서: ").append(nullToDash(w.organization()))
+                    .append(" / ").append(nullToDash(w.department())).append("\n");
+            sb.append("담당부서명: ").append(nullToDash(w.bizChrDeptNm())).append("\n");
 
-            sb.append("지원유형: ").append(nullToDash(w.getSupportType()))
-                    .append(" / 주기: ").append(nullToDash(w.getSupportCycle())).append("\n");
+            sb.append("지원유형: ").append(nullToDash(w.supportType()))
+                    .append(" / 주기: ").append(nullToDash(w.supportCycle())).append("\n");
 
-            sb.append("신청방법: ").append(nullToDash(w.getApplicationMethod())).append("\n");
-            sb.append("신청방법상세: ").append(truncate(w.getApplicationMethodContent(), 200)).append("\n");
+            sb.append("신청방법: ").append(nullToDash(w.applicationMethod())).append("\n");
+            sb.append("신청방법상세: ").append(truncate(w.applicationMethodContent(), 200)).append("\n");
 
             sb.append("지원대상코드(생애주기/대상/주제): ")
-                    .append(nullToDash(w.getLifeCycleArray())).append(" / ")
-                    .append(nullToDash(w.getTargetArray())).append(" / ")
-                    .append(nullToDash(w.getInterestThemeArray())).append("\n");
-
-            sb.append("지원대상상세: ").append(truncate(w.getSupportTargetContent(), 200)).append("\n");
-            sb.append("선정기준: ").append(truncate(w.getSelectionCriteria(), 200)).append("\n");
-            sb.append("지원내용: ").append(truncate(w.getServiceContent(), 300)).append("\n");
-            sb.append("필수서류: ").append(truncate(w.getRequiredDocuments(), 150)).append("\n");
-            sb.append("기타: ").append(truncate(w.getEtc(), 150)).append("\n");
-
-            sb.append("문의: ").append(nullToDash(w.getContact())).append("\n");
-            sb.append("상세링크: ").append(nullToDash(w.getDetailLink())).append("\n");
+                    .append(nullToDash(w.lifeCycleArray())).append(" / ")
+                    .append(nullToDash(w.targetArray())).append(" / ")
+                    .append(nullToDash(w.interestThemeArray())).append("\n");
+
+            sb.append("지원대상상세: ").append(truncate(w.supportTargetContent(), 200)).append("\n");
+            sb.append("선정기준: ").append(truncate(w.selectionCriteria(), 200)).append("\n");
+            sb.append("지원내용: ").append(truncate(w.serviceContent(), 300)).append("\n");
+            sb.append("필수서류: ").append(truncate(w.requiredDocuments(), 150)).append("\n");
+            sb.append("기타: ").append(truncate(w.etc(), 150)).append("\n");
+
+            sb.append("문의: ").append(nullToDash(w.contact())).append("\n");
+            sb.append("상세링크: ").append(nullToDash(w.detailLink())).append("\n");
             sb.append("\n");
         }
 
@@ -290,8 +295,8 @@ public class WelfareSearchTool {
     /**
      * 지역 조건을 유지하며 키워드 검색 fallback
      */
-    private List<WelfareServiceJpaEntity> withKeywordFallbackIfEmpty(
-            List<WelfareServiceJpaEntity> primary,
+    private List<WelfareServiceDigest> withKeywordFallbackIfEmpty(
+            List<WelfareServiceDigest> primary,
             String keyword,
             String sido,
             String sigungu
@@ -306,25 +311,25 @@ public class WelfareSearchTool {
         // 지역 조건이 있으면 지역 조건을 유지하며 검색
         if (sido != null || sigungu != null) {
             log.info("지역 조건 유지 키워드 fallback - 시도: {}, 시군구: {}, 키워드: {}", sido, sigungu, keyword);
-            return welfareServiceRepository.searchByKeywordWithRegion(sido, sigungu, keyword, DEFAULT_LIMIT);
+            return welfareServiceRepository.searchDigestsByKeywordWithRegion(sido, sigungu, keyword, DEFAULT_LIMIT);
         }
 
         // 지역 조건이 없으면 전국 검색
-        return welfareServiceRepository.searchByKeyword(keyword, DEFAULT_LIMIT);
+        return welfareServiceRepository.searchDigestsByKeyword(keyword, DEFAULT_LIMIT);
     }
 
     /**
      * 지역 필터를 유지하며 키워드 검색 (일반 복지용)
      */
-    private List<WelfareServiceJpaEntity> searchByKeywordWithRegionFilter(String region, String keyword) {
+    private List<WelfareServiceDigest> searchByKeywordWithRegionFilter(String region, String keyword) {
         if (region == null || region.isBlank()) {
             // 지역이 없으면 전국 검색
-            return welfareServiceRepository.searchByKeyword(keyword, DEFAULT_LIMIT);
+            return welfareServiceRepository.searchDigestsByKeyword(keyword, DEFAULT_LIMIT);
         }
 
         // 지역이 있으면 시도명으로 간주하고 검색
         log.info("지역 조건 유지 키워드 검색 - 지역: {}, 키워드: {}", region, keyword);
-        return welfareServiceRepository.searchByKeywordWithRegion(region, null, keyword, DEFAULT_LIMIT);
+        return welfareServiceRepository.searchDigestsByKeywordWithRegion(region, null, keyword, DEFAULT_LIMIT);
     }
 
     private String buildKeyword(String... parts) {
@@ -0,0 +1,393 @@
+package team.java.facto_be.domain.chatbot.service.vectorstore;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.document.DocumentMetadata;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.vectorstore.SearchRequest;
+import org.springframework.ai.vectorstore.VectorStore;
+import org.springframework.ai.vectorstore.filter.Filter;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 프로세스 안에서 동작하는 {@link VectorStore} 구현체.
+ *
+ * <p>정규화한 벡터를 {@link VectorSlab}(힙 밖 메모리)에 연속으로 두고, 검색 시 전체를 순차 스캔하여
+ * 코사인 유사도 상위 K개를 고릅니다. 수천~수만 청크 규모에서는 근사 색인 없이도 정확한 결과를
+ * HTTP 왕복 없이 바로 반환하며, 외부 벡터 DB 없이 실행할 수 있습니다.
+ * 메타데이터 필터({@code serviceType}, {@code ctpvNm} 등)는 {@link MetadataFilter}로 스캔 중에 적용합니다.
+ *
+ * <p>변경이 있으면 주기적으로(그리고 종료 시) 스냅숏 파일을 임시 파일에 쓴 뒤 교체하고,
+ * 기동 시 스냅숏을 메모리 맵으로 열어 벡터를 그대로 복사하므로 다시 임베딩하지 않습니다.
+ *
+ * <p>검색은 읽기 락, 추가/삭제는 쓰기 락으로 보호합니다. 임베딩 계산은 락 밖에서 합니다.
+ */
+@Slf4j
+public class EmbeddedVectorStore implements VectorStore, AutoCloseable {
+
+    private static final int SNAPSHOT_MAGIC = 0x46564331;
+    private static final int SNAPSHOT_VERSION = 1;
+
+    private static final TypeReference<Map<String, Object>> METADATA_TYPE = new TypeReference<>() {
+    };
+
+    private final EmbeddingModel embeddingModel;
+    private final VectorQuantization quantization;
+    private final Path snapshotPath;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /** 주기 저장과 종료 시 저장이 같은 임시 파일을 동시에 쓰지 않도록 직렬화 */
+    private final ReentrantLock snapshotLock = new ReentrantLock();
+
+    /** 행 번호 → 문서 (삭제된 행은 null) */
+    private final List<Entry> entries = new ArrayList<>();
+    private final Map<String, Integer> rowsById = new HashMap<>();
+    private final Deque<Integer> freeRows = new ArrayDeque<>();
+
+    /** 첫 문서가 추가될 때 임베딩 차원 수로 생성 */
+    private VectorSlab slab;
+
+    private volatile boolean dirty;
+
+    public EmbeddedVectorStore(EmbeddingModel embeddingModel, VectorQuantization quantization, Path snapshotPath) {
+        this.embeddingModel = embeddingModel;
+        this.quantization = quantization;
+        this.snapshotPath = snapshotPath;
+        loadSnapshot();
+    }
+
+    @Override
+    public String getName() {
+        return "EmbeddedVectorStore";
+    }
+
+    @Override
+    public void add(List<Document> documents) {
+        if (documents.isEmpty()) {
+            return;
+        }
+
+        List<float[]> embeddings = embeddingModel.embed(documents.stream().map(Document::getText).toList());
+
+        lock.writeLock().lock();
+        try {
+            for (int i = 0; i < documents.size(); i++) {
+                Document document = documents.get(i);
+                float[] vector = normalize(embeddings.get(i));
+                if (slab == null) {
+                    slab = new VectorSlab(vector.length, quantization);
+                } else if (slab.dimensions() != vector.length) {
+                    throw new IllegalArgumentException("임베딩 차원 수가 다릅니다: "
+                            + vector.length + " (저장소: " + slab.dimensions() + ")");
+                }
+
+                Integer row = rowsById.get(document.getId());
+                if (row == null) {
+                    row = freeRows.isEmpty() ? entries.size() : freeRows.pop();
+                    rowsById.put(document.getId(), row);
+                }
+                slab.set(row, vector);
+                Entry entry = new Entry(document.getId(), document.getText(), new HashMap<>(document.getMetadata()));
+                if (row == entries.size()) {
+                    entries.add(entry);
+                } else {
+                    entries.set(row, entry);
+                }
+            }
+            dirty = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void delete(List<String> idList) {
+        lock.writeLock().lock();
+        try {
+            idList.forEach(this::remove);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void delete(Filter.Expression filterExpression) {
+        lock.writeLock().lock();
+        try {
+            List<String> matched = entries.stream()
+                    .filter(entry -> entry != null && MetadataFilter.matches(filterExpression, entry.metadata()))
+                    .map(Entry::id)
+                    .toList();
+            matched.forEach(this::remove);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Document> similaritySearch(SearchRequest request) {
+        float[] query = normalize(embeddingModel.embed(request.getQuery()));
+        Filter.Expression filter = request.hasFilterExpression() ? request.getFilterExpression() : null;
+        int topK = request.getTopK();
+        double threshold = request.getSimilarityThreshold();
+
+        // 최소 힙: 루트가 현재 상위 K개 중 가장 낮은 유사도
+        PriorityQueue<Hit> heap = new PriorityQueue<>(topK + 1, Comparator.comparingDouble(Hit::score));
+        List<Document> results;
+
+        lock.readLock().lock();
+        try {
+            if (slab == null) {
+                return List.of();
+            }
+            if (slab.dimensions() != query.length) {
+                throw new IllegalArgumentException("질의 임베딩 차원 수가 다릅니다: "
+                        + query.length + " (저장소: " + slab.dimensions() + ")");
+            }
+
+            VectorSlab.Scorer scorer = slab.scorer(query);
+            for (int row = 0; row < entries.size(); row++) {
+                Entry entry = entries.get(row);
+                if (entry == null || (filter != null && !MetadataFilter.matches(filter, entry.metadata()))) {
+                    continue;
+                }
+                float score = scorer.score(row);
+                if (score < threshold) {
+                    continue;
+                }
+                if (heap.size() < topK) {
+                    heap.add(new Hit(row, score));
+                } else if (score > heap.peek().score()) {
+                    heap.poll();
+                    heap.add(new Hit(row, score));
+                }
+            }
+
+            results = new ArrayList<>(heap.size());
+            List<Hit> ranked = new ArrayList<>(heap);
+            ranked.sort(Comparator.comparingDouble(Hit::score).reversed());
+            for (Hit hit : ranked) {
+                results.add(toDocument(entries.get(hit.row()), hit.score()));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return results;
+    }
+
+    /**
+     * 저장된 문서 수를 반환합니다.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return rowsById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 마지막 스냅숏 이후 변경이 있으면 스냅숏을 저장합니다.
+     */
+    @Scheduled(fixedDelayString = "${chatbot.vector-store.snapshot-interval:PT1M}")
+    public void snapshot() {
+        if (!dirty || snapshotPath == null) {
+            return;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        int count;
+        snapshotLock.lock();
+        lock.readLock().lock();
+        try {
+            // 추가/삭제는 쓰기 락이 필요하므로 저장하는 동안에는 바뀌지 않음
+            dirty = false;
+            count = writeSnapshot();
+        } catch (IOException e) {
+            dirty = true;
+            log.warn("벡터 스토어 스냅숏 저장 실패 ({})", snapshotPath, e);
+            return;
+        } finally {
+            lock.readLock().unlock();
+            snapshotLock.unlock();
+        }
+        log.info("벡터 스토어 스냅숏 저장 완료 - {}건, {}ms", count, System.currentTimeMillis() - startedAt);
+    }
+
+    @Override
+    public void close() {
+        snapshot();
+    }
+
+    private void remove(String id) {
+        Integer row = rowsById.remove(id);
+        if (row == null) {
+            return;
+        }
+        entries.set(row, null);
+        freeRows.push(row);
+        dirty = true;
+    }
+
+    private Document toDocument(Entry entry, float score) {
+        Map<String, Object> metadata = new HashMap<>(entry.metadata());
+        metadata.put(DocumentMetadata.DISTANCE.value(), 1 - score);
+        return Document.builder()
+                .id(entry.id())
+                .text(entry.text())
+                .metadata(metadata)
+                .score((double) score)
+                .build();
+    }
+
+    private static float[] normalize(float[] vector) {
+        double norm = 0;
+        for (float value : vector) {
+            norm += value * value;
+        }
+        norm = Math.sqrt(norm);
+
+        float[] normalized = new float[vector.length];
+        if (norm == 0) {
+            return normalized;
+        }
+        for (int i = 0; i < vector.length; i++) {
+            normalized[i] = (float) (vector[i] / norm);
+        }
+        return normalized;
+    }
+
+    /**
+     * 스냅숏 형식: magic, version, 저장 형식, 차원 수, 문서 수,
+     * 이후 문서마다 (ID, 본문, 메타데이터 JSON, 벡터 행 원본 바이트).
+     */
+    private int writeSnapshot() throws IOException {
+        Path parent = snapshotPath.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temp = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".tmp");
+
+        int count = 0;
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+             OutputStream stream = new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16);
+             DataOutputStream out = new DataOutputStream(stream)) {
+
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(SNAPSHOT_VERSION);
+            out.writeInt(quantization.ordinal());
+            out.writeInt(slab == null ? 0 : slab.dimensions());
+            out.writeInt(rowsById.size());
+
+            byte[] row = slab == null ? new byte[0] : new byte[slab.rowBytes()];
+            for (int i = 0; i < entries.size(); i++) {
+                Entry entry = entries.get(i);
+                if (entry == null) {
+                    continue;
+                }
+                writeBytes(out, entry.id().getBytes(StandardCharsets.UTF_8));
+                writeBytes(out, entry.text().getBytes(StandardCharsets.UTF_8));
+                writeBytes(out, objectMapper.writeValueAsBytes(entry.metadata()));
+                slab.row(i).get(row);
+                out.write(row);
+                count++;
+            }
+            out.flush();
+            channel.force(true);
+        }
+
+        Files.move(temp, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return count;
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private void loadSnapshot() {
+        if (snapshotPath == null || !Files.exists(snapshotPath)) {
+            return;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        try (FileChannel channel = FileChannel.open(snapshotPath, StandardOpenOption.READ)) {
+            MappedByteBuffer in = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+            if (in.getInt() != SNAPSHOT_MAGIC || in.getInt() != SNAPSHOT_VERSION) {
+                log.warn("벡터 스토어 스냅숏 형식이 다릅니다. 빈 저장소로 시작합니다 ({})", snapshotPath);
+                return;
+            }
+            int storedQuantization = in.getInt();
+            int dimensions = in.getInt();
+            int count = in.getInt();
+            if (storedQuantization != quantization.ordinal()) {
+                log.warn("벡터 스토어 스냅숏 저장 형식({})이 설정({})과 다릅니다. 빈 저장소로 시작합니다 - 전체 재적재 필요",
+                        VectorQuantization.values()[storedQuantization], quantization);
+                return;
+            }
+
+            if (count > 0) {
+                slab = new VectorSlab(dimensions, quantization);
+            }
+            for (int row = 0; row < count; row++) {
+                String id = new String(readBytes(in), StandardCharsets.UTF_8);
+                String text = new String(readBytes(in), StandardCharsets.UTF_8);
+                Map<String, Object> metadata = objectMapper.readValue(readBytes(in), METADATA_TYPE);
+                slab.putRow(row, in);
+                entries.add(new Entry(id, text, metadata));
+                rowsById.put(id, row);
+            }
+            log.info("벡터 스토어 스냅숏 로드 완료 - {}건, {}ms", count, System.currentTimeMillis() - startedAt);
+        } catch (IOException | RuntimeException e) {
+            // 일부만 읽힌 상태로 시작하지 않도록 비우고 시작 (다음 재적재 후 스냅숏이 새로 저장됨)
+            entries.clear();
+            rowsById.clear();
+            slab = null;
+            log.warn("벡터 스토어 스냅숏 로드 실패. 빈 저장소로 시작합니다 ({})", snapshotPath, e);
+        }
+    }
+
+    private static byte[] readBytes(ByteBuffer in) {
+        byte[] bytes = new byte[in.getInt()];
+        in.get(bytes);
+        return bytes;
+    }
+
+    private record Entry(String id, String text, Map<String, Object> metadata) {
+    }
+
+    private record Hit(int row, float score) {
+    }
+}
@@ -0,0 +1,24 @@
+package team.java.facto_be.domain.chatbot.service.vectorstore;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 내장 벡터 스토어 설정 프로퍼티 ({@code spring.ai.vectorstore.type=embedded}일 때 사용).
+ *
+ * @param snapshotPath 스냅숏 파일 경로
+ * @param quantization 벡터 저장 형식 (바꾸면 기존 스냅숏을 버리므로 전체 재적재 필요)
+ */
+@ConfigurationProperties(prefix = "chatbot.vector-store")
+public record EmbeddedVectorStoreProperties(
+        String snapshotPath,
+        VectorQuantization quantization
+) {
+    public EmbeddedVectorStoreProperties {
+        if (snapshotPath == null || snapshotPath.isBlank()) {
+            snapshotPath = "data/vector-store.snapshot";
+        }
+        if (quantization == null) {
+            quantization = VectorQuantization.FLOAT32;
+        }
+    }
+}
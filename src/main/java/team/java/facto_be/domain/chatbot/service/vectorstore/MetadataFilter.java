@@ -0,0 +1,100 @@
+package team.java.facto_be.domain.chatbot.service.vectorstore;
+
+import org.springframework.ai.vectorstore.filter.Filter;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Spring AI 필터 식({@link Filter.Expression})을 문서 메타데이터에 직접 적용합니다.
+ *
+ * <p>AND/OR/NOT, EQ/NE, IN/NIN, GT/GTE/LT/LTE를 지원합니다.
+ * 숫자는 타입과 관계없이 값으로 비교합니다 (스냅숏 복원 시 Integer/Long이 섞일 수 있음).
+ */
+final class MetadataFilter {
+
+    private MetadataFilter() {
+    }
+
+    /**
+     * 메타데이터가 필터 식을 만족하는지 확인합니다.
+     *
+     * @param expression 필터 식
+     * @param metadata 문서 메타데이터
+     * @return 만족하면 true
+     * @throws IllegalArgumentException 지원하지 않는 연산자인 경우
+     */
+    static boolean matches(Filter.Expression expression, Map<String, Object> metadata) {
+        return switch (expression.type()) {
+            case AND -> test(expression.left(), metadata) && test(expression.right(), metadata);
+            case OR -> test(expression.left(), metadata) || test(expression.right(), metadata);
+            case NOT -> !test(expression.left(), metadata);
+            case EQ -> isEqual(valueOf(expression, metadata), literal(expression));
+            case NE -> !isEqual(valueOf(expression, metadata), literal(expression));
+            case IN -> contains(literal(expression), valueOf(expression, metadata));
+            case NIN -> !contains(literal(expression), valueOf(expression, metadata));
+            case GT -> compare(expression, metadata) > 0;
+            case GTE -> compare(expression, metadata) >= 0;
+            case LT -> compare(expression, metadata) < 0;
+            case LTE -> compare(expression, metadata) <= 0;
+            default -> throw new IllegalArgumentException("지원하지 않는 필터 연산자입니다: " + expression.type());
+        };
+    }
+
+    private static boolean test(Filter.Operand operand, Map<String, Object> metadata) {
+        if (operand instanceof Filter.Group group) {
+            return matches(group.content(), metadata);
+        }
+        if (operand instanceof Filter.Expression expression) {
+            return matches(expression, metadata);
+        }
+        throw new IllegalArgumentException("필터 식이 아닌 피연산자입니다: " + operand);
+    }
+
+    private static Object valueOf(Filter.Expression expression, Map<String, Object> metadata) {
+        if (!(expression.left() instanceof Filter.Key key)) {
+            throw new IllegalArgumentException("필터 왼쪽 피연산자는 키여야 합니다: " + expression);
+        }
+        return metadata.get(key.key());
+    }
+
+    private static Object literal(Filter.Expression expression) {
+        if (!(expression.right() instanceof Filter.Value value)) {
+            throw new IllegalArgumentException("필터 오른쪽 피연산자는 값이어야 합니다: " + expression);
+        }
+        return value.value();
+    }
+
+    private static boolean contains(Object candidates, Object actual) {
+        if (candidates instanceof Collection<?> collection) {
+            return collection.stream().anyMatch(candidate -> isEqual(actual, candidate));
+        }
+        return isEqual(actual, candidates);
+    }
+
+    private static boolean isEqual(Object actual, Object expected) {
+        if (actual instanceof Number a && expected instanceof Number b) {
+            return Double.compare(a.doubleValue(), b.doubleValue()) == 0;
+        }
+        return Objects.equals(actual, expected);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compare(Filter.Expression expression, Map<String, Object> metadata) {
+        Object actual = valueOf(expression, metadata);
+        Object expected = literal(expression);
+        if (actual == null || expected == null) {
+            // 값이 없는 문서는 범위 조건을 만족하지 않도록 NaN처럼 취급
+            return expression.type() == Filter.ExpressionType.GT || expression.type() == Filter.ExpressionType.GTE
+                    ? -1 : 1;
+        }
+        if (actual instanceof Number a && expected instanceof Number b) {
+            return Double.compare(a.doubleValue(), b.doubleValue());
+        }
+        if (actual instanceof Comparable comparable && actual.getClass().isInstance(expected)) {
+            return comparable.compareTo(expected);
+        }
+        throw new IllegalArgumentException("비교할 수 없는 값입니다: " + actual + ", " + expected);
+    }
+}
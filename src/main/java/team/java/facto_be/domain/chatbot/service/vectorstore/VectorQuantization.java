@@ -0,0 +1,13 @@
+package team.java.facto_be.domain.chatbot.service.vectorstore;
+
+/**
+ * 내장 벡터 스토어의 벡터 저장 형식.
+ */
+public enum VectorQuantization {
+
+    /** 원소당 4바이트 (정확한 코사인 유사도) */
+    FLOAT32,
+
+    /** 원소당 1바이트 + 벡터별 배율 (메모리와 스캔량 약 1/4, 유사도는 근삿값) */
+    INT8
+}
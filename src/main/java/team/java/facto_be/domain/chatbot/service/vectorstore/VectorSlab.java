@@ -0,0 +1,169 @@
+package team.java.facto_be.domain.chatbot.service.vectorstore;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+
+/**
+ * 고정 차원 벡터를 힙 밖(direct buffer)에 행 단위로 연속 저장하는 배열.
+ *
+ * <p>각 행은 FLOAT32면 float {@code dimensions}개, INT8이면 배율(float) 1개 + byte {@code dimensions}개입니다.
+ * 저장하는 벡터는 길이 1로 정규화되어 있어야 하며, 내적이 곧 코사인 유사도가 됩니다.
+ *
+ * <p>스레드 안전하지 않으므로 호출 측에서 동기화해야 합니다 (읽기끼리는 동시에 해도 됨).
+ */
+final class VectorSlab {
+
+    private static final int INITIAL_ROWS = 1024;
+
+    private final int dimensions;
+    private final VectorQuantization quantization;
+    private final int rowBytes;
+
+    private ByteBuffer buffer;
+    private FloatBuffer floats;
+    private int capacity;
+
+    VectorSlab(int dimensions, VectorQuantization quantization) {
+        this.dimensions = dimensions;
+        this.quantization = quantization;
+        this.rowBytes = quantization == VectorQuantization.INT8
+                ? Float.BYTES + dimensions
+                : dimensions * Float.BYTES;
+        this.capacity = 0;
+        this.buffer = allocate(0);
+        this.floats = buffer.asFloatBuffer();
+    }
+
+    int dimensions() {
+        return dimensions;
+    }
+
+    int rowBytes() {
+        return rowBytes;
+    }
+
+    /**
+     * 행에 정규화된 벡터를 저장합니다.
+     */
+    void set(int row, float[] vector) {
+        ensureCapacity(row + 1);
+
+        if (quantization == VectorQuantization.FLOAT32) {
+            floats.put(row * dimensions, vector);
+            return;
+        }
+
+        int base = row * rowBytes;
+        float max = 0;
+        for (float value : vector) {
+            max = Math.max(max, Math.abs(value));
+        }
+        float scale = max == 0 ? 1 : max / 127f;
+        buffer.putFloat(base, scale);
+        for (int i = 0; i < dimensions; i++) {
+            buffer.put(base + Float.BYTES + i, (byte) Math.round(vector[i] / scale));
+        }
+    }
+
+    /**
+     * 질의 벡터와 각 행의 내적을 계산하는 스코어러를 만듭니다.
+     * 스코어러는 행 복사용 버퍼를 가지므로 검색 하나(스레드 하나)에서만 사용해야 합니다.
+     *
+     * @param query 정규화된 질의 벡터
+     * @return 스코어러
+     */
+    Scorer scorer(float[] query) {
+        return new Scorer(query);
+    }
+
+    /**
+     * 행의 원본 바이트를 반환합니다 (스냅숏 저장용, 복사하지 않은 읽기 전용 뷰).
+     */
+    ByteBuffer row(int row) {
+        return buffer.slice(row * rowBytes, rowBytes).asReadOnlyBuffer();
+    }
+
+    /**
+     * 스냅숏에서 읽은 원본 바이트를 행에 복사합니다.
+     */
+    void putRow(int row, ByteBuffer source) {
+        ensureCapacity(row + 1);
+        buffer.put(row * rowBytes, source, source.position(), rowBytes);
+        source.position(source.position() + rowBytes);
+    }
+
+    private void ensureCapacity(int rows) {
+        if (rows <= capacity) {
+            return;
+        }
+        int next = Math.max(INITIAL_ROWS, capacity);
+        while (next < rows) {
+            next *= 2;
+        }
+        ByteBuffer grown = allocate(next);
+        grown.put(0, buffer, 0, capacity * rowBytes);
+        buffer = grown;
+        floats = grown.asFloatBuffer();
+        capacity = next;
+    }
+
+    private ByteBuffer allocate(int rows) {
+        // 스냅숏 파일과 같은 바이트 순서를 쓰면 저장/복원 시 원본 바이트를 그대로 복사할 수 있음
+        return ByteBuffer.allocateDirect(rows * rowBytes).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * 행 하나씩 힙 배열로 일괄 복사한 뒤 내적을 계산합니다.
+     *
+     * <p>direct buffer를 원소마다 읽는 것보다 일괄 복사 + 배열 루프가 JIT 최적화가 잘 되어 빠르고,
+     * 누산기 4개로 나누어 더해 덧셈 간 의존성을 줄입니다.
+     */
+    final class Scorer {
+
+        private final float[] query;
+        private final float[] floatRow;
+        private final byte[] byteRow;
+
+        private Scorer(float[] query) {
+            this.query = query;
+            this.floatRow = quantization == VectorQuantization.FLOAT32 ? new float[dimensions] : null;
+            this.byteRow = quantization == VectorQuantization.INT8 ? new byte[dimensions] : null;
+        }
+
+        float score(int row) {
+            float s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+            int i = 0;
+            int bound = dimensions & ~3;
+
+            if (quantization == VectorQuantization.FLOAT32) {
+                float[] v = floatRow;
+                floats.get(row * dimensions, v);
+                for (; i < bound; i += 4) {
+                    s0 += v[i] * query[i];
+                    s1 += v[i + 1] * query[i + 1];
+                    s2 += v[i + 2] * query[i + 2];
+                    s3 += v[i + 3] * query[i + 3];
+                }
+                for (; i < dimensions; i++) {
+                    s0 += v[i] * query[i];
+                }
+                return (s0 + s1) + (s2 + s3);
+            }
+
+            byte[] v = byteRow;
+            int base = row * rowBytes;
+            buffer.get(base + Float.BYTES, v);
+            for (; i < bound; i += 4) {
+                s0 += v[i] * query[i];
+                s1 += v[i + 1] * query[i + 1];
+                s2 += v[i + 2] * query[i + 2];
+                s3 += v[i + 3] * query[i + 3];
+            }
+            for (; i < dimensions; i++) {
+                s0 += v[i] * query[i];
+            }
+            return ((s0 + s1) + (s2 + s3)) * buffer.getFloat(base);
+        }
+    }
+}
@@ -1,19 +1,28 @@
 package team.java.facto_be.domain.recentview.dto.response;
 
 import team.java.facto_be.domain.recentview.entity.RecentViewJpaEntity;
+import team.java.facto_be.domain.welfare.dto.response.WelfareServiceSummaryResponse;
 
 import java.time.LocalDateTime;
 
+/**
+ * 최근 본 복지 서비스 응답 DTO.
+ *
+ * <p>목록 화면에서 서비스마다 상세 조회를 다시 호출하지 않도록 복지 서비스 요약 정보를 함께 담습니다.
+ * 복지 서비스가 삭제된 경우 welfareService는 null입니다.
+ */
 public record RecentViewResponse(
         Long id,
         String welfareServiceId,
-        LocalDateTime viewedAt
+        LocalDateTime viewedAt,
+        WelfareServiceSummaryResponse welfareService
 ) {
-    public static RecentViewResponse from(RecentViewJpaEntity entity) {
+    public static RecentViewResponse from(RecentViewJpaEntity entity, WelfareServiceSummaryResponse welfareService) {
         return new RecentViewResponse(
                 entity.getId(),
                 entity.getWelfareServiceId(),
-                entity.getViewedAt()
+                entity.getViewedAt(),
+                welfareService
         );
     }
 }
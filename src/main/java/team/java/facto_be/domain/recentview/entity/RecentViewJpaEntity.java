@@ -5,6 +5,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
@@ -39,7 +40,8 @@ import java.time.LocalDateTime;
 @Entity(name = "RecentViewJpaEntity")
 @Table(
     name = "tbl_recent_view",
-    uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "welfare_service_id"})
+    uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "welfare_service_id"}),
+    indexes = @Index(name = "idx_user_viewed_at", columnList = "user_id, viewed_at")
 )
 @Getter
 @SuperBuilder
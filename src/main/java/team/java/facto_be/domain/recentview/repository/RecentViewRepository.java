@@ -1,13 +1,69 @@
 package team.java.facto_be.domain.recentview.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import team.java.facto_be.domain.recentview.entity.RecentViewJpaEntity;
 import team.java.facto_be.domain.recentview.repository.custom.RecentViewRepositoryCustom;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 /**
  * 최근 본 복지 서비스 Repository.
  *
  * <p>JpaRepository와 QueryDSL 기반 커스텀 메서드를 모두 제공합니다.
  */
 public interface RecentViewRepository extends JpaRepository<RecentViewJpaEntity, Long>, RecentViewRepositoryCustom {
+
+    /**
+     * 기준 시간 이후의 최근 본 기록을 조회합니다.
+     * 인기 복지 서비스 집계 엔진 초기화에 사용됩니다.
+     *
+     * @param since 기준 시간
+     * @return 사용자 ID, 복지 서비스 ID, 조회 시간 목록
+     */
+    @Query("SELECT rv.userId, rv.welfareServiceId, rv.viewedAt " +
+           "FROM RecentViewJpaEntity rv " +
+           "WHERE rv.viewedAt >= :since")
+    List<Object[]> findViewsSince(@Param("since") LocalDateTime since);
+
+    /**
+     * 최근 본 기록을 추가하거나, 이미 있으면 조회 시간만 갱신합니다.
+     * (user_id, welfare_service_id) 유니크 제약을 이용한 단일 UPSERT입니다.
+     *
+     * @param userId 사용자 ID
+     * @param welfareServiceId 복지 서비스 ID
+     * @param viewedAt 조회 시간
+     * @return 새로 추가되면 1, 조회 시간이 갱신되면 2, 변경이 없으면 0 (MySQL affected rows)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO tbl_recent_view (user_id, welfare_service_id, viewed_at, created_at, updated_at) " +
+                   "VALUES (:userId, :welfareServiceId, :viewedAt, :viewedAt, :viewedAt) " +
+                   "ON DUPLICATE KEY UPDATE viewed_at = VALUES(viewed_at), updated_at = VALUES(updated_at)",
+           nativeQuery = true)
+    int upsertRecentView(@Param("userId") Long userId,
+                         @Param("welfareServiceId") String welfareServiceId,
+                         @Param("viewedAt") LocalDateTime viewedAt);
+
+    /**
+     * 사용자의 최근 본 기록 중 최신 keep개를 제외한 나머지를 한 번에 삭제합니다.
+     * (user_id, viewed_at) 인덱스를 따라 최신 keep개만 읽습니다.
+     *
+     * <p>MySQL은 IN 서브쿼리 안의 LIMIT을 지원하지 않으므로 파생 테이블로 감쌉니다.
+     *
+     * @param userId 사용자 ID
+     * @param keep 남길 개수
+     * @return 삭제된 개수
+     */
+    @Modifying
+    @Query(value = "DELETE FROM tbl_recent_view " +
+                   "WHERE user_id = :userId " +
+                   "AND id NOT IN (SELECT id FROM (" +
+                   "    SELECT id FROM tbl_recent_view WHERE user_id = :userId " +
+                   "    ORDER BY viewed_at DESC, id DESC LIMIT :keep" +
+                   ") latest)",
+           nativeQuery = true)
+    int deleteOlderThanLatest(@Param("userId") Long userId, @Param("keep") int keep);
 }
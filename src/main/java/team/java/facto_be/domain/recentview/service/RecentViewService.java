@@ -7,12 +7,17 @@ import team.java.facto_be.domain.recentview.dto.response.RecentViewResponse;
 import team.java.facto_be.domain.recentview.dto.response.TrendingWelfareResponse;
 import team.java.facto_be.domain.recentview.entity.RecentViewJpaEntity;
 import team.java.facto_be.domain.recentview.repository.RecentViewRepository;
+import team.java.facto_be.domain.recentview.trending.TrendingWelfareEngine;
 import team.java.facto_be.domain.user.entity.UserJpaEntity;
 import team.java.facto_be.domain.user.facade.UserFacade;
+import team.java.facto_be.domain.welfare.dto.response.WelfareServiceSummaryResponse;
+import team.java.facto_be.domain.welfare.repository.WelfareServiceRepository;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 최근 본 복지 서비스 비즈니스 로직 서비스.
@@ -26,21 +31,30 @@ public class RecentViewService {
     /** 사용자당 최대 저장 가능한 최근 본 기록 수 */
     private static final int MAX_RECENT_VIEWS = 100;
 
+    /** 기존 행을 갱신한 UPSERT의 affected rows (MySQL) */
+    private static final int UPSERT_UPDATED = 2;
+
     /** 인기 복지 서비스 집계 기본 기간 (일) */
     private static final int DEFAULT_TRENDING_DAYS = 7;
 
     private final RecentViewRepository recentViewRepository;
     private final UserFacade userFacade;
+    private final TrendingWelfareEngine trendingWelfareEngine;
+    private final WelfareServiceRepository welfareServiceRepository;
 
     /**
      * 복지 서비스를 최근 본 목록에 추가합니다.
      *
      * <p>동작 흐름:
      * 1. JWT 토큰에서 현재 로그인한 사용자 정보 추출
-     * 2. 이미 본 적 있는 복지 서비스인지 확인
-     *    - 있으면: viewedAt 시간만 업데이트 (중복 저장 방지)
+     * 2. 단일 UPSERT로 저장
+     *    - 이미 본 적 있으면: viewedAt 시간만 업데이트 (중복 저장 방지)
      *    - 없으면: 새로운 기록 추가
-     * 3. 사용자의 최근 본 기록이 100개 초과하면 가장 오래된 것 삭제
+     * 3. 새로 추가된 경우에만 최신 100개를 제외한 나머지를 DELETE 한 번으로 삭제
+     * 4. 인기 복지 서비스 집계 엔진에 조회 반영
+     *
+     * <p>기존 기록을 읽어 수정하거나 전체 목록을 불러오지 않으므로
+     * 요청마다 쿼리 수가 일정합니다 (UPSERT 1회 + 필요 시 DELETE 1회).
      *
      * <p>이 데이터는 다음 용도로 사용됩니다:
      * - 개인별 최근 본 복지 서비스 목록 (GET /recent-views)
@@ -54,38 +68,16 @@ public class RecentViewService {
         UserJpaEntity user = userFacade.currentUser();
         LocalDateTime now = LocalDateTime.now();
 
-        // 2. 이미 본 적 있는지 확인
-        Optional<RecentViewJpaEntity> existingView = recentViewRepository
-                .findByUserIdAndWelfareServiceId(user.getId(), welfareServiceId);
-
-        if (existingView.isPresent()) {
-            // 2-1. 이미 본 적 있으면 조회 시간만 업데이트
-            existingView.get().updateViewedAt(now);
-        } else {
-            // 2-2. 처음 보는 복지 서비스면 새로 저장
-            long count = recentViewRepository.countByUserId(user.getId());
-
-            // 3. 100개 초과 시 가장 오래된 것 삭제
-            if (count >= MAX_RECENT_VIEWS) {
-                List<RecentViewJpaEntity> oldestViews = recentViewRepository
-                        .findByUserIdOrderByViewedAtDesc(user.getId());
-
-                if (!oldestViews.isEmpty()) {
-                    // 가장 마지막 = 가장 오래된 것
-                    RecentViewJpaEntity oldest = oldestViews.get(oldestViews.size() - 1);
-                    recentViewRepository.delete(oldest);
-                }
-            }
-
-            // 4. 새로운 최근 본 기록 저장
-            RecentViewJpaEntity recentView = RecentViewJpaEntity.builder()
-                    .userId(user.getId())
-                    .welfareServiceId(welfareServiceId)
-                    .viewedAt(now)
-                    .build();
-
-            recentViewRepository.save(recentView);
+        // 2. 추가 또는 조회 시간 갱신 (갱신이면 affected rows = 2)
+        int affected = recentViewRepository.upsertRecentView(user.getId(), welfareServiceId, now);
+
+        // 3. 새로 추가된 경우 100개 초과분 삭제
+        if (affected != UPSERT_UPDATED) {
+            recentViewRepository.deleteOlderThanLatest(user.getId(), MAX_RECENT_VIEWS);
         }
+
+        // 4. 인기 복지 서비스 집계에 반영
+        trendingWelfareEngine.record(welfareServiceId, user.getId(), now);
     }
 
     /**
@@ -95,6 +87,7 @@ public class RecentViewService {
      * 1. JWT 토큰에서 현재 로그인한 사용자 정보 추출
      * 2. DB에서 해당 사용자의 최근 본 기록 조회 (최신순)
      * 3. limit 개수만큼만 반환
+     * 4. 복지 서비스 요약 정보를 IN 쿼리 한 번으로 조회하여 함께 반환
      *
      * @param limit 조회 개수 (0 이하 또는 100 초과 시 100으로 조정)
      * @return 최근 본 복지 서비스 목록 (최신순)
@@ -109,11 +102,18 @@ public class RecentViewService {
             limit = MAX_RECENT_VIEWS;
         }
 
-        // 3. 최근 본 기록 조회 및 DTO 변환 (QueryDSL 사용)
-        return recentViewRepository
-                .findByUserIdOrderByViewedAtDesc(user.getId(), limit)
+        // 3. 최근 본 기록 조회 (QueryDSL 사용)
+        List<RecentViewJpaEntity> recentViews = recentViewRepository
+                .findByUserIdOrderByViewedAtDesc(user.getId(), limit);
+
+        // 4. 복지 서비스 요약 정보 일괄 조회 및 DTO 변환
+        Map<String, WelfareServiceSummaryResponse> summaries = welfareServiceRepository
+                .findSummariesByIdsInOrder(recentViews.stream().map(RecentViewJpaEntity::getWelfareServiceId).toList())
                 .stream()
-                .map(RecentViewResponse::from)
+                .collect(Collectors.toMap(WelfareServiceSummaryResponse::serviceId, Function.identity()));
+
+        return recentViews.stream()
+                .map(recentView -> RecentViewResponse.from(recentView, summaries.get(recentView.getWelfareServiceId())))
                 .toList();
     }
 
@@ -130,17 +130,15 @@ public class RecentViewService {
     /**
      * 전체 사용자가 최근에 가장 많이 본 복지 서비스 TOP N을 조회합니다.
      *
-     * <p>동작 흐름:
-     * 1. 최근 N일간의 데이터만 필터링 (days 파라미터)
-     * 2. 복지 서비스 ID별로 그룹핑
-     * 3. 각 복지 서비스를 본 고유 사용자 수 집계 (COUNT DISTINCT)
-     * 4. 조회수 많은 순으로 정렬하여 상위 limit개 반환
+     * <p>{@link TrendingWelfareEngine}이 시간 단위 HyperLogLog 스케치로 미리 계산해 둔
+     * 기간별 순위에서 상위 limit개를 잘라 반환합니다 (고유 사용자 수 추정값, 오차 약 2%).
+     * 엔진 초기화 전에는 DB에서 직접 집계합니다.
      *
      * <p>사용 예시:
      * - days=7, limit=10: 최근 7일간 가장 인기 있는 복지 서비스 TOP 10
      * - days=30, limit=20: 최근 30일간 가장 인기 있는 복지 서비스 TOP 20
      *
-     * @param days 집계 기간 (0 이하 시 기본 7일)
+     * @param days 집계 기간 (0 이하 시 기본 7일, 최대 30일)
      * @param limit 조회 개수 (0 이하 또는 100 초과 시 10으로 조정)
      * @return 인기 복지 서비스 목록 (조회수 많은 순)
      */
@@ -150,15 +148,18 @@ public class RecentViewService {
         if (days <= 0) {
             days = DEFAULT_TRENDING_DAYS;
         }
+        days = Math.min(days, TrendingWelfareEngine.MAX_DAYS);
         if (limit <= 0 || limit > 100) {
             limit = 10;
         }
 
-        // 2. 집계 시작 시점 계산 (현재 시간 - days)
-        LocalDateTime since = LocalDateTime.now().minusDays(days);
+        // 2. 집계 엔진의 미리 계산된 순위 사용
+        if (trendingWelfareEngine.isReady()) {
+            return trendingWelfareEngine.getTrending(days, limit);
+        }
 
-        // 3. 인기 복지 서비스 집계 쿼리 실행 (QueryDSL 사용)
-        // QueryDSL Projection으로 직접 TrendingWelfareResponse 생성
+        // 3. 엔진 초기화 전에는 DB 집계 (QueryDSL Projection으로 직접 TrendingWelfareResponse 생성)
+        LocalDateTime since = LocalDateTime.now().minusDays(days);
         return recentViewRepository.findTrendingWelfareServices(since, limit);
     }
 
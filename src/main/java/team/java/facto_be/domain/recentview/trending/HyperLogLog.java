@@ -0,0 +1,154 @@
+package team.java.facto_be.domain.recentview.trending;
+
+import java.util.Arrays;
+
+/**
+ * 고유 사용자 수 추정용 HyperLogLog 스케치.
+ *
+ * <p>레지스터 4096개(precision 12, 표준 오차 약 1.6%)를 사용합니다.
+ * 시간 버킷 하나에 들어오는 사용자는 대부분 적으므로 처음에는 (레지스터 번호, 값) 쌍만
+ * 희소 배열로 보관하고, 쌍이 일정 수를 넘으면 4KB 레지스터 배열로 전환합니다.
+ *
+ * <p>스레드 안전하지 않으므로 호출 측에서 동기화해야 합니다.
+ */
+final class HyperLogLog {
+
+    static final int PRECISION = 12;
+
+    static final int REGISTER_COUNT = 1 << PRECISION;
+
+    /** 희소 배열 최대 원소 수 (넘으면 레지스터 배열로 전환) */
+    private static final int SPARSE_LIMIT = 128;
+
+    private static final double ALPHA = 0.7213 / (1 + 1.079 / REGISTER_COUNT);
+
+    /** 희소 표현: (레지스터 번호 << 8 | 값) */
+    private int[] sparse = new int[8];
+    private int sparseSize;
+
+    /** 밀집 표현 (전환 전에는 null) */
+    private byte[] registers;
+
+    /**
+     * 사용자 ID를 추가합니다.
+     *
+     * @param userId 사용자 ID
+     */
+    void add(long userId) {
+        long hash = hash(userId);
+        int index = (int) (hash >>> (Long.SIZE - PRECISION));
+        // 하위 비트가 모두 0이어도 값이 (64 - PRECISION + 1)을 넘지 않도록 보호 비트를 둠
+        byte rank = (byte) (Long.numberOfLeadingZeros((hash << PRECISION) | (1L << (PRECISION - 1))) + 1);
+
+        if (registers != null) {
+            if (registers[index] < rank) {
+                registers[index] = rank;
+            }
+            return;
+        }
+
+        for (int i = 0; i < sparseSize; i++) {
+            if (sparse[i] >>> 8 == index) {
+                if ((sparse[i] & 0xFF) < rank) {
+                    sparse[i] = index << 8 | rank;
+                }
+                return;
+            }
+        }
+
+        if (sparseSize == SPARSE_LIMIT) {
+            toDense();
+            registers[index] = rank;
+            return;
+        }
+        if (sparseSize == sparse.length) {
+            sparse = Arrays.copyOf(sparse, sparse.length * 2);
+        }
+        sparse[sparseSize++] = index << 8 | rank;
+    }
+
+    /**
+     * 이 스케치를 합집합 누적기에 합칩니다 (레지스터별 최댓값).
+     *
+     * @param union 합집합 누적기
+     */
+    void mergeInto(Union union) {
+        if (registers != null) {
+            for (int i = 0; i < REGISTER_COUNT; i++) {
+                union.raise(i, registers[i]);
+            }
+            return;
+        }
+
+        for (int i = 0; i < sparseSize; i++) {
+            union.raise(sparse[i] >>> 8, (byte) (sparse[i] & 0xFF));
+        }
+    }
+
+    private void toDense() {
+        registers = new byte[REGISTER_COUNT];
+        for (int i = 0; i < sparseSize; i++) {
+            registers[sparse[i] >>> 8] = (byte) (sparse[i] & 0xFF);
+        }
+        sparse = null;
+        sparseSize = 0;
+    }
+
+    /**
+     * 64비트 해시 (MurmurHash3 fmix64).
+     */
+    private static long hash(long value) {
+        long h = value;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /**
+     * 여러 스케치의 합집합 누적기.
+     *
+     * <p>레지스터가 바뀔 때마다 조화 평균의 분모(2^-값의 합)와 0인 레지스터 수를 함께 갱신하므로
+     * 병합 도중 언제든 O(1)로 추정값을 구할 수 있습니다.
+     */
+    static final class Union {
+
+        private final byte[] registers = new byte[REGISTER_COUNT];
+        private double sum;
+        private int zeros;
+
+        Union() {
+            reset();
+        }
+
+        void reset() {
+            Arrays.fill(registers, (byte) 0);
+            sum = REGISTER_COUNT;
+            zeros = REGISTER_COUNT;
+        }
+
+        long estimate() {
+            double estimate = ALPHA * REGISTER_COUNT * REGISTER_COUNT / sum;
+
+            // 작은 값 구간은 linear counting이 더 정확함
+            if (estimate <= 2.5 * REGISTER_COUNT && zeros > 0) {
+                estimate = REGISTER_COUNT * Math.log((double) REGISTER_COUNT / zeros);
+            }
+            return Math.round(estimate);
+        }
+
+        private void raise(int index, byte rank) {
+            byte current = registers[index];
+            if (current >= rank) {
+                return;
+            }
+            if (current == 0) {
+                zeros--;
+            }
+            sum += Math.scalb(1.0, -rank) - Math.scalb(1.0, -current);
+            registers[index] = rank;
+        }
+    }
+}
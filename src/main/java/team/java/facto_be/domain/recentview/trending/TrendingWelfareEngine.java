@@ -0,0 +1,230 @@
+package team.java.facto_be.domain.recentview.trending;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import team.java.facto_be.domain.recentview.dto.response.TrendingWelfareResponse;
+import team.java.facto_be.domain.recentview.repository.RecentViewRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 인기 복지 서비스 집계 엔진.
+ *
+ * <p>복지 서비스마다 1시간 단위 버킷 720개(30일)의 HyperLogLog 스케치를 링 버퍼로 유지하고,
+ * 최근 본 기록이 추가될 때마다 해당 시간 버킷에 사용자를 추가합니다.
+ * 같은 사용자가 며칠에 걸쳐 다시 본 조회도 각 시간 버킷에 남으므로
+ * "마지막 조회 시간"만 남는 tbl_recent_view 집계보다 기간별 고유 사용자 수가 정확합니다.
+ *
+ * <p>주기적으로 서비스별 버킷을 최신 → 과거 순으로 한 번만 합치면서 1~30일 각 기간의 추정값을 구하고,
+ * 기간별 상위 {@link #MAX_RANKED}개를 힙으로 골라 순위 목록을 교체합니다.
+ * 조회는 미리 계산된 목록을 잘라 반환하므로 DB 집계 없이 즉시 응답합니다.
+ *
+ * <p>기간 경계는 시간 단위이며, 순위는 갱신 주기만큼 늦게 반영됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TrendingWelfareEngine {
+
+    /** 집계 가능한 최대 기간 (일) */
+    public static final int MAX_DAYS = 30;
+
+    /** 기간별로 미리 계산해 두는 최대 순위 수 */
+    public static final int MAX_RANKED = 100;
+
+    private static final int BUCKET_COUNT = MAX_DAYS * 24;
+
+    private static final long HOUR_MILLIS = Duration.ofHours(1).toMillis();
+
+    private static final Comparator<TrendingWelfareResponse> RANKING = Comparator
+            .comparing(TrendingWelfareResponse::viewCount).reversed()
+            .thenComparing(TrendingWelfareResponse::welfareServiceId);
+
+    private final RecentViewRepository recentViewRepository;
+
+    private final Map<String, ServiceSketches> sketches = new ConcurrentHashMap<>();
+
+    /** 기간(일)별 순위 목록, 인덱스 = 일수 (0번은 사용하지 않음) */
+    private volatile List<List<TrendingWelfareResponse>> rankings;
+
+    /**
+     * 집계 준비 여부를 반환합니다.
+     *
+     * @return 순위 목록이 한 번 이상 계산되었으면 true
+     */
+    public boolean isReady() {
+        return rankings != null;
+    }
+
+    /**
+     * 복지 서비스 조회를 반영합니다.
+     *
+     * @param welfareServiceId 복지 서비스 ID
+     * @param userId 사용자 ID
+     * @param viewedAt 조회 시간
+     */
+    public void record(String welfareServiceId, Long userId, LocalDateTime viewedAt) {
+        long hour = hourOf(viewedAt);
+        // 오래된 서비스 제거(refresh)와 겹쳐도 조회가 유실되지 않도록 맵 원자 연산 안에서 추가
+        sketches.compute(welfareServiceId, (key, serviceSketches) -> {
+            ServiceSketches target = serviceSketches != null ? serviceSketches : new ServiceSketches();
+            target.add(hour, userId);
+            return target;
+        });
+    }
+
+    /**
+     * 최근 N일간 고유 사용자 수 기준 인기 복지 서비스를 반환합니다.
+     *
+     * @param days 집계 기간 (1~{@link #MAX_DAYS}, 범위를 벗어나면 조정)
+     * @param limit 조회 개수 (최대 {@link #MAX_RANKED})
+     * @return 인기 복지 서비스 목록 (고유 사용자 수 많은 순)
+     */
+    public List<TrendingWelfareResponse> getTrending(int days, int limit) {
+        List<List<TrendingWelfareResponse>> current = rankings;
+        if (current == null) {
+            return List.of();
+        }
+
+        List<TrendingWelfareResponse> ranked = current.get(Math.max(1, Math.min(MAX_DAYS, days)));
+        return ranked.subList(0, Math.min(limit, ranked.size()));
+    }
+
+    /**
+     * 기동 시 최근 30일간의 최근 본 기록으로 스케치를 채우고 순위를 계산합니다.
+     *
+     * <p>tbl_recent_view에는 사용자별 마지막 조회 시간만 남아 있으므로
+     * 기동 이전 구간은 기존 집계와 같은 정확도로 시작합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            List<Object[]> rows = recentViewRepository.findViewsSince(LocalDateTime.now().minusDays(MAX_DAYS));
+            for (Object[] row : rows) {
+                record((String) row[1], (Long) row[0], (LocalDateTime) row[2]);
+            }
+            refresh();
+            log.info("인기 복지 서비스 집계 초기화 완료 - {}건, 서비스 {}개", rows.size(), sketches.size());
+        } catch (Exception e) {
+            log.warn("인기 복지 서비스 집계 초기화 실패 - DB 집계로 대체", e);
+        }
+    }
+
+    /**
+     * 기간별 순위 목록을 다시 계산합니다.
+     */
+    @Scheduled(fixedDelayString = "${recent-view.trending.refresh-interval:PT10S}")
+    public void refresh() {
+        long currentHour = hourOf(LocalDateTime.now());
+
+        List<PriorityQueue<TrendingWelfareResponse>> heaps = new ArrayList<>(MAX_DAYS + 1);
+        for (int days = 0; days <= MAX_DAYS; days++) {
+            // 최소 힙: 루트가 현재 상위 목록 중 가장 낮은 순위
+            heaps.add(new PriorityQueue<>(MAX_RANKED + 1, RANKING.reversed()));
+        }
+
+        HyperLogLog.Union union = new HyperLogLog.Union();
+        long[] estimates = new long[MAX_DAYS + 1];
+
+        sketches.forEach((welfareServiceId, serviceSketches) -> {
+            union.reset();
+            if (!serviceSketches.estimate(currentHour, union, estimates)) {
+                // 30일 동안 조회가 없으면 제거 (그 사이 조회가 추가되었으면 유지)
+                sketches.computeIfPresent(welfareServiceId,
+                        (key, current) -> current.isEmptySince(currentHour) ? null : current);
+                return;
+            }
+
+            for (int days = 1; days <= MAX_DAYS; days++) {
+                if (estimates[days] > 0) {
+                    offer(heaps.get(days), new TrendingWelfareResponse(welfareServiceId, estimates[days]));
+                }
+            }
+        });
+
+        List<List<TrendingWelfareResponse>> next = new ArrayList<>(MAX_DAYS + 1);
+        for (PriorityQueue<TrendingWelfareResponse> heap : heaps) {
+            List<TrendingWelfareResponse> ranked = new ArrayList<>(heap);
+            ranked.sort(RANKING);
+            next.add(List.copyOf(ranked));
+        }
+        rankings = List.copyOf(next);
+    }
+
+    private static void offer(PriorityQueue<TrendingWelfareResponse> heap, TrendingWelfareResponse candidate) {
+        if (heap.size() < MAX_RANKED) {
+            heap.add(candidate);
+        } else if (RANKING.compare(candidate, heap.peek()) < 0) {
+            heap.poll();
+            heap.add(candidate);
+        }
+    }
+
+    private static long hourOf(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() / HOUR_MILLIS;
+    }
+
+    /**
+     * 복지 서비스 하나의 시간 버킷 링 버퍼.
+     */
+    private static final class ServiceSketches {
+
+        private final HyperLogLog[] buckets = new HyperLogLog[BUCKET_COUNT];
+        private final long[] bucketHours = new long[BUCKET_COUNT];
+
+        synchronized void add(long hour, long userId) {
+            int slot = (int) Math.floorMod(hour, (long) BUCKET_COUNT);
+            if (buckets[slot] == null || bucketHours[slot] != hour) {
+                // 30일 이전 버킷이면 새 시간 버킷으로 재사용
+                if (bucketHours[slot] > hour) {
+                    return;
+                }
+                buckets[slot] = new HyperLogLog();
+                bucketHours[slot] = hour;
+            }
+            buckets[slot].add(userId);
+        }
+
+        synchronized boolean isEmptySince(long currentHour) {
+            for (int slot = 0; slot < BUCKET_COUNT; slot++) {
+                if (buckets[slot] != null && bucketHours[slot] > currentHour - BUCKET_COUNT) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * 최신 버킷부터 누적 병합하며 1~30일 기간별 추정값을 채웁니다.
+         *
+         * @return 30일 이내 버킷이 하나라도 있으면 true
+         */
+        synchronized boolean estimate(long currentHour, HyperLogLog.Union union, long[] estimates) {
+            boolean any = false;
+            for (int age = 0; age < BUCKET_COUNT; age++) {
+                long hour = currentHour - age;
+                int slot = (int) Math.floorMod(hour, (long) BUCKET_COUNT);
+                if (buckets[slot] != null && bucketHours[slot] == hour) {
+                    buckets[slot].mergeInto(union);
+                    any = true;
+                }
+                if ((age + 1) % 24 == 0) {
+                    estimates[(age + 1) / 24] = any ? union.estimate() : 0;
+                }
+            }
+            return any;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package team.java.facto_be.domain.user.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 사용자 캐시 설정 프로퍼티.
+ *
+ * @param snapshotTtl 사용자 스냅샷 보관 기간 (프로필 변경 외의 변경이 반영되기까지 걸리는 최대 시간)
+ * @param snapshotMaximumSize 보관하는 최대 사용자 수
+ */
+@ConfigurationProperties(prefix = "user.cache")
+public record UserCacheProperties(
+        Duration snapshotTtl,
+        Long snapshotMaximumSize
+) {
+    public UserCacheProperties {
+        if (snapshotTtl == null) {
+            snapshotTtl = Duration.ofSeconds(30);
+        }
+        if (snapshotMaximumSize == null) {
+            snapshotMaximumSize = 10_000L;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package team.java.facto_be.domain.user.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import team.java.facto_be.domain.user.entity.UserJpaEntity;
+import team.java.facto_be.domain.user.repository.UserRepository;
+
+import java.util.Optional;
+
+/**
+ * 인증된 사용자 스냅샷 캐시.
+ *
+ * <p>요청마다 JWT 인증과 {@code UserFacade.currentUser()}가 같은 사용자를 이메일로 다시 조회하지 않도록
+ * 조회한 사용자 엔티티를 짧은 기간 보관합니다.
+ *
+ * <p>조회는 호출 측 트랜잭션을 잠시 중단하고({@code PROPAGATION_NOT_SUPPORTED}) 리포지토리 자체 트랜잭션에서 하므로,
+ * 보관되는 엔티티는 어느 요청의 영속성 컨텍스트에도 속하지 않은 준영속 상태입니다.
+ * 여러 스레드가 같은 인스턴스를 공유하므로 읽기 전용으로만 사용해야 하며, 변경해도 DB에 반영되지 않습니다.
+ * 사용자 정보를 변경할 때는 {@code UserFacade.currentUserForUpdate()}로 DB에서 다시 읽어야 합니다.
+ *
+ * <p>적중/미스 통계는 {@code user.snapshot} 이름으로 Micrometer에 노출됩니다.
+ */
+@Component
+public class UserSnapshotCache {
+
+    private final LoadingCache<String, Optional<UserJpaEntity>> cache;
+
+    public UserSnapshotCache(
+            UserRepository userRepository,
+            PlatformTransactionManager transactionManager,
+            UserCacheProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        // 호출 측 트랜잭션의 EntityManager에 묶인 엔티티가 캐시되지 않도록 트랜잭션 밖에서 조회
+        TransactionTemplate detachedLoad = new TransactionTemplate(transactionManager);
+        detachedLoad.setPropagationBehavior(TransactionDefinition.PROPAGATION_NOT_SUPPORTED);
+
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.snapshotMaximumSize())
+                .expireAfterWrite(properties.snapshotTtl())
+                .recordStats()
+                .build(email -> detachedLoad.execute(status -> userRepository.findByEmail(email)));
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "user.snapshot");
+    }
+
+    /**
+     * 이메일로 사용자 스냅샷을 조회합니다.
+     *
+     * @param email 사용자 이메일
+     * @return 사용자 스냅샷 (없으면 empty, 없는 결과도 보관 기간 동안 캐시됨)
+     */
+    public Optional<UserJpaEntity> findByEmail(String email) {
+        return cache.get(email);
+    }
+
+    /**
+     * 사용자 스냅샷을 제거합니다.
+     * 트랜잭션 안에서 호출하면 커밋 이후에 제거하여, 커밋 전 값이 다시 캐시되지 않도록 합니다.
+     *
+     * @param email 사용자 이메일
+     */
+    public void invalidate(String email) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.invalidate(email);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                cache.invalidate(email);
+            }
+        });
+    }
+}
@@ -0,0 +1,61 @@
+package team.java.facto_be.domain.user.facade;
+
+import team.java.facto_be.domain.user.entity.UserJpaEntity;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 요청 하나 동안 조회한 현재 사용자를 기억하는 메모.
+ *
+ * <p>JWT 인증 시 {@code Authentication.getDetails()}에 담기므로 SecurityContext가 전달되는 곳
+ * (요청 스레드, {@code DelegatingSecurityContextExecutor} 등으로 넘긴 가상 스레드)이면 어디서든 공유됩니다.
+ * 같은 요청에서 {@link UserFacade#currentUser()}를 여러 번 호출해도 사용자 조회는 한 번만 일어납니다.
+ *
+ * <p>요청이 끝나면 실제 조회 횟수와 메모 적중 횟수를 메트릭으로 기록합니다.
+ */
+public final class CurrentUserMemo {
+
+    private volatile UserJpaEntity user;
+
+    private final AtomicInteger lookups = new AtomicInteger();
+    private final AtomicInteger hits = new AtomicInteger();
+
+    /**
+     * 기억한 사용자가 있으면 반환하고, 없으면 조회하여 기억합니다.
+     *
+     * @param loader 사용자 조회 함수
+     * @return 현재 사용자
+     */
+    public UserJpaEntity get(Supplier<UserJpaEntity> loader) {
+        UserJpaEntity current = user;
+        if (current != null) {
+            hits.incrementAndGet();
+            return current;
+        }
+
+        synchronized (this) {
+            if (user == null) {
+                lookups.incrementAndGet();
+                user = loader.get();
+            } else {
+                hits.incrementAndGet();
+            }
+            return user;
+        }
+    }
+
+    /**
+     * @return 이 요청에서 실제로 사용자를 조회한 횟수
+     */
+    public int lookups() {
+        return lookups.get();
+    }
+
+    /**
+     * @return 이 요청에서 조회 없이 기억한 사용자를 반환한 횟수
+     */
+    public int hits() {
+        return hits.get();
+    }
+}
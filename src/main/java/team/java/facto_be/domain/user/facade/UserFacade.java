@@ -4,26 +4,74 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
+import team.java.facto_be.domain.user.cache.UserSnapshotCache;
 import team.java.facto_be.domain.user.entity.UserJpaEntity;
 import team.java.facto_be.domain.user.repository.UserRepository;
 
+import java.security.Principal;
+import java.util.Optional;
+
 @Component
 @RequiredArgsConstructor
 public class UserFacade {
 
     private final UserRepository userRepository;
+    private final UserSnapshotCache userSnapshotCache;
 
+    /**
+     * 현재 로그인한 사용자를 반환합니다.
+     *
+     * <p>{@link UserSnapshotCache}의 읽기 전용 스냅샷을 반환하므로 DB를 조회하지 않습니다.
+     * 같은 요청 안에서는 {@link CurrentUserMemo}에 기억한 사용자를 재사용합니다.
+     * 반환된 엔티티를 변경해야 하면 {@link #currentUserForUpdate()}를 사용해야 합니다.
+     */
     public UserJpaEntity currentUser() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication == null || !authentication.isAuthenticated()
-                || "anonymousUser".equals(authentication.getPrincipal())) {
-            throw new IllegalStateException("인증이 필요합니다.");
+        Authentication authentication = authenticated();
+        String email = authentication.getName();
+
+        if (authentication.getDetails() instanceof CurrentUserMemo memo) {
+            return memo.get(() -> findSnapshot(email));
         }
-        return getUserByEmail(authentication.getName());
+        return findSnapshot(email);
+    }
+
+    /**
+     * 현재 로그인한 사용자를 DB에서 조회하여 영속 상태로 반환합니다.
+     * 변경 감지로 사용자 정보를 수정할 때 사용합니다.
+     */
+    public UserJpaEntity currentUserForUpdate() {
+        return getUserByEmail(authenticated().getName());
     }
 
     public UserJpaEntity getUserByEmail(String email) {
         return userRepository.findByEmail(email)
                 .orElseThrow(() -> new IllegalArgumentException("해당 이메일의 사용자를 찾을 수 없습니다."));
     }
+
+    /**
+     * 요청 스레드의 보안 컨텍스트 밖(WebSocket 등)에서 인증된 사용자를 반환합니다.
+     * {@link #currentUser()}와 같은 읽기 전용 스냅샷이며, 비로그인이거나 사용자가 없으면 빈 값입니다.
+     *
+     * @param principal 인증된 사용자 (WebSocket 핸드셰이크 등, 없으면 null)
+     */
+    public Optional<UserJpaEntity> findUser(Principal principal) {
+        if (principal == null) {
+            return Optional.empty();
+        }
+        return userSnapshotCache.findByEmail(principal.getName());
+    }
+
+    private UserJpaEntity findSnapshot(String email) {
+        return userSnapshotCache.findByEmail(email)
+                .orElseThrow(() -> new IllegalArgumentException("해당 이메일의 사용자를 찾을 수 없습니다."));
+    }
+
+    private Authentication authenticated() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || "anonymousUser".equals(authentication.getPrincipal())) {
+            throw new IllegalStateException("인증이 필요합니다.");
+        }
+        return authentication;
+    }
 }
@@ -6,6 +6,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import team.java.facto_be.domain.user.dto.request.UpdateProfileRequest;
+import team.java.facto_be.domain.user.cache.UserSnapshotCache;
 import team.java.facto_be.domain.user.dto.response.UserInfoResponse;
 import team.java.facto_be.domain.user.entity.UserJpaEntity;
 import team.java.facto_be.domain.user.entity.UserProfileHistoryJpaEntity;
@@ -19,6 +20,7 @@ public class UserProfileService {
     private final UserFacade userFacade;
     private final ObjectMapper objectMapper;
     private final UserProfileHistoryRepository userProfileHistoryRepository;
+    private final UserSnapshotCache userSnapshotCache;
 
     @Transactional(readOnly = true)
     public UserInfoResponse getMyInfo() {
@@ -28,7 +30,8 @@ public class UserProfileService {
 
     @Transactional
     public void updateProfile(UpdateProfileRequest request) {
-        UserJpaEntity user = userFacade.currentUser();
+        // 변경 감지 대상이어야 하므로 캐시 스냅샷이 아닌 영속 엔티티 사용
+        UserJpaEntity user = userFacade.currentUserForUpdate();
 
         try {
             String newHouseholdStatusJson = objectMapper.writeValueAsString(request.householdStatus());
@@ -65,6 +68,9 @@ public class UserProfileService {
                     request.sidoName(),
                     request.sigunguName()
             );
+
+            // 커밋 후 사용자 스냅샷 캐시 제거
+            userSnapshotCache.invalidate(user.getEmail());
         } catch (JsonProcessingException e) {
             throw new RuntimeException("JSON 변환 오류", e);
         }
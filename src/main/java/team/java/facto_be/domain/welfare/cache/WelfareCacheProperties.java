@@ -0,0 +1,27 @@
+package team.java.facto_be.domain.welfare.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * 복지 서비스 캐시 설정 프로퍼티.
+ *
+ * @param detailMaximumSize 상세 캐시 최대 크기 (문자열 길이 기준 추정치)
+ * @param detailTtl 상세 캐시 항목 보관 기간 (카탈로그 지문으로 감지되지 않는 변경이 반영되기까지의 최대 시간)
+ */
+@ConfigurationProperties(prefix = "welfare.cache")
+public record WelfareCacheProperties(
+        DataSize detailMaximumSize,
+        Duration detailTtl
+) {
+    public WelfareCacheProperties {
+        if (detailMaximumSize == null) {
+            detailMaximumSize = DataSize.ofMegabytes(64);
+        }
+        if (detailTtl == null) {
+            detailTtl = Duration.ofHours(1);
+        }
+    }
+}
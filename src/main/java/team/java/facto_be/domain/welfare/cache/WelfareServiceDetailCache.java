@@ -0,0 +1,209 @@
+package team.java.facto_be.domain.welfare.cache;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import team.java.facto_be.domain.welfare.catalog.WelfareCatalogChangedEvent;
+import team.java.facto_be.domain.welfare.catalog.WelfareCatalogVersion;
+import team.java.facto_be.domain.welfare.dto.response.WelfareServiceResponse;
+import team.java.facto_be.domain.welfare.entity.WelfareServiceJpaEntity;
+import team.java.facto_be.domain.welfare.repository.WelfareServiceRepository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 복지 서비스 상세 조회용 read-through 캐시.
+ *
+ * <p>welfare_services 행은 크고 일괄 적재 때만 바뀌므로, 상세 조회 시마다 DB를 읽지 않도록
+ * 엔티티와 응답 DTO를 serviceId 기준으로 보관합니다.
+ * 캐시 크기는 항목 수가 아닌 문자열 길이 기준 가중치로 제한하며 (Caffeine W-TinyLFU),
+ * 적중/미스/제거 통계는 {@code welfare.service.detail} 이름으로 Micrometer에 노출됩니다.
+ *
+ * <p>카탈로그 버전이 올라가면 전체를 비우고, 비우는 도중 적재된 이전 버전 항목은
+ * 조회 시 버전을 비교하여 다시 읽습니다. 카탈로그 지문으로 알 수 없는 변경(최종 수정일을 바꾸지 않은 행 수정)은
+ * {@code welfare.cache.detail-ttl}이 지나 항목이 만료되어야 반영됩니다.
+ *
+ * <p>DB 조회는 호출 측 트랜잭션을 잠시 중단하고({@code PROPAGATION_NOT_SUPPORTED}) 리포지토리 자체 트랜잭션에서 하므로,
+ * 보관되는 엔티티는 어느 요청의 영속성 컨텍스트에도 속하지 않은 준영속 상태입니다.
+ */
+@Slf4j
+@Component
+public class WelfareServiceDetailCache {
+
+    /** 엔티티 1건의 고정 오버헤드 추정치 (객체 헤더, 짧은 컬럼 등) */
+    private static final int BASE_WEIGHT = 512;
+
+    private final WelfareServiceRepository welfareServiceRepository;
+    private final WelfareCatalogVersion catalogVersion;
+    private final TransactionTemplate detachedLoad;
+    private final LoadingCache<String, Entry> cache;
+
+    public WelfareServiceDetailCache(
+            WelfareServiceRepository welfareServiceRepository,
+            WelfareCatalogVersion catalogVersion,
+            PlatformTransactionManager transactionManager,
+            WelfareCacheProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.welfareServiceRepository = welfareServiceRepository;
+        this.catalogVersion = catalogVersion;
+
+        // 호출 측 트랜잭션의 EntityManager에 묶인 엔티티가 캐시되지 않도록 트랜잭션 밖에서 조회
+        this.detachedLoad = new TransactionTemplate(transactionManager);
+        this.detachedLoad.setPropagationBehavior(TransactionDefinition.PROPAGATION_NOT_SUPPORTED);
+
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(properties.detailMaximumSize().toBytes())
+                .weigher((String serviceId, Entry entry) -> entry.weight())
+                .expireAfterWrite(properties.detailTtl())
+                .recordStats()
+                .build(new CacheLoader<>() {
+                    @Override
+                    public Entry load(String serviceId) {
+                        return loadOne(serviceId);
+                    }
+
+                    @Override
+                    public Map<String, Entry> loadAll(Set<? extends String> serviceIds) {
+                        return loadMany(serviceIds);
+                    }
+                });
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "welfare.service.detail");
+    }
+
+    /**
+     * 복지 서비스 엔티티를 조회합니다.
+     * 반환된 엔티티는 여러 스레드가 공유하는 준영속 엔티티이므로 읽기 용도로만 사용해야 합니다.
+     *
+     * @param serviceId 복지 서비스 ID
+     * @return 복지 서비스 엔티티 (없으면 empty)
+     */
+    public Optional<WelfareServiceJpaEntity> findEntity(String serviceId) {
+        return Optional.ofNullable(get(serviceId)).map(Entry::entity);
+    }
+
+    /**
+     * 복지 서비스 상세 응답을 조회합니다.
+     *
+     * @param serviceId 복지 서비스 ID
+     * @return 복지 서비스 상세 응답 (없으면 empty)
+     */
+    public Optional<WelfareServiceResponse> findResponse(String serviceId) {
+        return Optional.ofNullable(get(serviceId)).map(Entry::response);
+    }
+
+    /**
+     * 여러 복지 서비스 엔티티를 조회합니다.
+     * 캐시에 없는 항목은 한 번의 IN 쿼리로 읽어 옵니다.
+     *
+     * @param serviceIds 복지 서비스 ID 목록
+     * @return 복지 서비스 엔티티 목록 (ID 목록 순서, 없는 ID 제외)
+     */
+    public List<WelfareServiceJpaEntity> findEntities(List<String> serviceIds) {
+        long version = catalogVersion.current();
+        Map<String, Entry> entries = cache.getAll(serviceIds);
+
+        return serviceIds.stream()
+                .map(entries::get)
+                .filter(Objects::nonNull)
+                .map(entry -> entry.version() == version ? entry : get(entry.entity().getServiceId()))
+                .filter(Objects::nonNull)
+                .map(Entry::entity)
+                .toList();
+    }
+
+    /**
+     * 캐시 통계를 반환합니다.
+     *
+     * @return 적중/미스/제거 통계
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * 카탈로그가 변경되면 캐시를 모두 비웁니다.
+     */
+    @EventListener
+    public void onCatalogChanged(WelfareCatalogChangedEvent event) {
+        cache.invalidateAll();
+        log.info("복지 서비스 상세 캐시 초기화 - catalogVersion={}", event.version());
+    }
+
+    private Entry get(String serviceId) {
+        Entry entry = cache.get(serviceId);
+        if (entry != null && entry.version() != catalogVersion.current()) {
+            cache.invalidate(serviceId);
+            entry = cache.get(serviceId);
+        }
+        return entry;
+    }
+
+    // 버전은 DB 조회 전에 읽어야 조회 도중 버전이 올라갔을 때 이전 버전 항목으로 표시됩니다.
+    private Entry loadOne(String serviceId) {
+        long version = catalogVersion.current();
+        return detachedLoad.execute(status -> welfareServiceRepository.findById(serviceId))
+                .map(entity -> Entry.of(version, entity))
+                .orElse(null);
+    }
+
+    private Map<String, Entry> loadMany(Set<? extends String> serviceIds) {
+        long version = catalogVersion.current();
+        return detachedLoad.execute(status -> welfareServiceRepository.findAllById(List.copyOf(serviceIds))).stream()
+                .collect(Collectors.toMap(WelfareServiceJpaEntity::getServiceId, entity -> Entry.of(version, entity)));
+    }
+
+    /**
+     * 캐시 항목. 적재 시점의 카탈로그 버전을 함께 보관합니다.
+     */
+    private record Entry(long version, WelfareServiceJpaEntity entity, WelfareServiceResponse response) {
+
+        static Entry of(long version, WelfareServiceJpaEntity entity) {
+            return new Entry(version, entity, WelfareServiceResponse.from(entity));
+        }
+
+        /**
+         * 긴 문자열 컬럼 길이 합으로 항목 크기를 추정합니다 (UTF-16 기준 2바이트/문자).
+         * 엔티티와 응답 DTO는 같은 문자열 인스턴스를 공유하므로 한 번만 셉니다.
+         */
+        int weight() {
+            long chars = length(entity.getServiceName())
+                    + length(entity.getServiceSummary())
+                    + length(entity.getAiSummary())
+                    + length(entity.getLifeCycleArray())
+                    + length(entity.getTargetArray())
+                    + length(entity.getInterestThemeArray())
+                    + length(entity.getSupportTargetContent())
+                    + length(entity.getSelectionCriteria())
+                    + length(entity.getServiceContent())
+                    + length(entity.getApplicationMethodContent())
+                    + length(entity.getDetailLink())
+                    + length(entity.getServiceUrl())
+                    + length(entity.getSite())
+                    + length(entity.getContact())
+                    + length(entity.getRequiredDocuments())
+                    + length(entity.getEtc())
+                    + length(entity.getHouseholdStatus());
+            return (int) Math.min(Integer.MAX_VALUE, BASE_WEIGHT + chars * 2);
+        }
+
+        private static int length(String value) {
+            return value == null ? 0 : value.length();
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package team.java.facto_be.domain.welfare.catalog;
+
+/**
+ * 복지 서비스 카탈로그(welfare_services) 변경 이벤트.
+ *
+ * <p>카탈로그 버전이 올라갈 때 발행되며,
+ * 카탈로그 내용을 메모리에 보관하는 캐시/색인은 이 이벤트를 받아 갱신합니다.
+ *
+ * @param version 변경 후 카탈로그 버전
+ */
+public record WelfareCatalogChangedEvent(long version) {
+}
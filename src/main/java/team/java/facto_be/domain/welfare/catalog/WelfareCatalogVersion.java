@@ -0,0 +1,79 @@
+package team.java.facto_be.domain.welfare.catalog;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static team.java.facto_be.domain.welfare.entity.QWelfareServiceJpaEntity.welfareServiceJpaEntity;
+
+/**
+ * 복지 서비스 카탈로그 버전 관리.
+ *
+ * <p>welfare_services 테이블은 애플리케이션 밖의 일괄 적재(batch import)로만 변경되므로,
+ * 주기적으로 카탈로그 지문(행 수, 최종 수정일)을 확인하여 달라졌을 때만 버전을 올립니다.
+ * 행 수와 최종 수정일을 바꾸지 않는 수정은 감지하지 못하므로, 그런 변경은 각 캐시의 보관 기간
+ * (예: {@code welfare.cache.detail-ttl})이 지나야 반영됩니다.
+ *
+ * <p>버전이 올라가면 {@link WelfareCatalogChangedEvent}가 발행됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WelfareCatalogVersion {
+
+    private final JPAQueryFactory queryFactory;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final AtomicLong version = new AtomicLong();
+
+    private volatile String fingerprint;
+
+    /**
+     * 현재 카탈로그 버전을 반환합니다.
+     *
+     * @return 카탈로그 버전
+     */
+    public long current() {
+        return version.get();
+    }
+
+    /**
+     * 카탈로그 지문을 확인하여 변경되었으면 버전을 올립니다.
+     * 최초 확인 시에는 지문만 기록합니다.
+     */
+    @Scheduled(fixedDelayString = "${welfare.catalog.check-interval:PT5M}")
+    public void checkForChanges() {
+        try {
+            String latest = readFingerprint();
+            String previous = fingerprint;
+            fingerprint = latest;
+
+            if (previous != null && !previous.equals(latest)) {
+                long next = version.incrementAndGet();
+                log.info("복지 서비스 카탈로그 변경 감지 - {} → {}, version={}", previous, latest, next);
+                eventPublisher.publishEvent(new WelfareCatalogChangedEvent(next));
+            }
+        } catch (Exception e) {
+            log.warn("복지 서비스 카탈로그 변경 확인 실패", e);
+        }
+    }
+
+    private String readFingerprint() {
+        Tuple tuple = queryFactory
+                .select(welfareServiceJpaEntity.count(), welfareServiceJpaEntity.lastModifiedDate.max())
+                .from(welfareServiceJpaEntity)
+                .fetchOne();
+
+        if (tuple == null) {
+            return "0";
+        }
+        return tuple.get(0, Long.class) + ":" + Objects.toString(tuple.get(1, String.class), "-");
+    }
+}
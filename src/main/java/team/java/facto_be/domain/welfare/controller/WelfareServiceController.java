@@ -7,6 +7,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import team.java.facto_be.domain.welfare.dto.response.RegionComparisonResponse;
+import team.java.facto_be.domain.welfare.dto.response.WelfareRecommendationResponse;
 import team.java.facto_be.domain.welfare.dto.response.WelfareServiceResponse;
 import team.java.facto_be.domain.welfare.dto.response.WelfareServiceSummaryResponse;
 import team.java.facto_be.domain.welfare.service.WelfareServiceService;
@@ -33,7 +34,7 @@ public class WelfareServiceController {
      *
      * <p>동작:
      * - 사용자의 프로필 정보(생애주기, 가구상태, 관심테마, 지역)를 기반으로 검색
-     * - 조회수 많은 순으로 정렬
+     * - 일치한 가구상태/관심테마가 많은 순, 같으면 조회수 많은 순으로 정렬
      * - 인증 필요
      *
      * @param limit 조회 개수 (기본값: 50, 최대: 100)
@@ -46,6 +47,27 @@ public class WelfareServiceController {
         return welfareServiceService.getRecommendedWelfareServices(limit);
     }
 
+    /**
+     * 현재 로그인한 사용자 맞춤형 복지 서비스를 일치 점수와 함께 조회합니다.
+     *
+     * <p>프론트엔드 호출 시점:
+     * - 메인 페이지에서 추천 사유(일치한 가구상태/관심테마)를 함께 표시할 때
+     *
+     * <p>동작:
+     * - GET /welfare-services와 같은 기준으로 추천
+     * - 항목별 점수와 일치한 가구상태/관심테마, 값별 후보 수를 함께 반환
+     * - 인증 필요
+     *
+     * @param limit 조회 개수 (기본값: 50, 최대: 100)
+     * @return 점수순 추천 목록과 값별 후보 수
+     */
+    @GetMapping("/recommendations")
+    public WelfareRecommendationResponse getWelfareRecommendations(
+            @RequestParam(required = false) Integer limit
+    ) {
+        return welfareServiceService.getWelfareRecommendations(limit);
+    }
+
     /**
      * 서비스 이름으로 복지 서비스를 검색합니다.
      *
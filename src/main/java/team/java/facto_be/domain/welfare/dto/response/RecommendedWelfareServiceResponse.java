@@ -0,0 +1,43 @@
+package team.java.facto_be.domain.welfare.dto.response;
+
+import team.java.facto_be.domain.welfare.index.WelfareRecommendationResult;
+
+import java.util.List;
+
+/**
+ * 맞춤형 추천 복지 서비스 응답 DTO.
+ *
+ * <p>요약 정보와 함께 사용자 프로필과의 일치 점수, 일치한 가구상태/관심 테마를 반환합니다.
+ */
+public record RecommendedWelfareServiceResponse(
+        String serviceId,
+        String serviceName,
+        String aiSummary,
+        String ctpvNm,
+        String sggNm,
+        String supportType,
+        String serviceType,
+        Integer inquiryCount,
+        Integer score,
+        List<String> matchedHouseholdStatuses,
+        List<String> matchedInterestThemes
+) {
+    public static RecommendedWelfareServiceResponse of(
+            WelfareServiceSummaryResponse summary,
+            WelfareRecommendationResult.Match match
+    ) {
+        return new RecommendedWelfareServiceResponse(
+                summary.serviceId(),
+                summary.serviceName(),
+                summary.aiSummary(),
+                summary.ctpvNm(),
+                summary.sggNm(),
+                summary.supportType(),
+                summary.serviceType(),
+                summary.inquiryCount(),
+                match.score(),
+                match.matchedHouseholdStatuses(),
+                match.matchedInterestThemes()
+        );
+    }
+}
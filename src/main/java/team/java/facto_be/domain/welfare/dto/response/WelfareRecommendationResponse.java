@@ -0,0 +1,17 @@
+package team.java.facto_be.domain.welfare.dto.response;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 맞춤형 복지 서비스 추천 응답 DTO.
+ *
+ * <p>점수순 추천 목록과 함께 전체 후보 수, 가구상태/관심 테마 값별 후보 수를 반환합니다.
+ */
+public record WelfareRecommendationResponse(
+        List<RecommendedWelfareServiceResponse> services,
+        Integer candidateCount,
+        Map<String, Integer> householdStatusContributions,
+        Map<String, Integer> interestThemeContributions
+) {
+}
@@ -124,4 +124,49 @@ public record WelfareServiceResponse(
                 entity.getHouseholdStatus()
         );
     }
+
+    /**
+     * 조회수만 바꾼 복지 서비스 응답 DTO를 반환합니다.
+     * 캐시된 응답에 실시간 조회수를 적용할 때 사용합니다.
+     *
+     * @param realTimeViewCount 실시간 조회수
+     * @return 조회수가 적용된 복지 서비스 응답 DTO
+     */
+    public WelfareServiceResponse withViewCount(int realTimeViewCount) {
+        return new WelfareServiceResponse(
+                serviceId,
+                serviceName,
+                serviceSummary,
+                aiSummary,
+                ctpvNm,
+                sggNm,
+                bizChrDeptNm,
+                supportType,
+                supportCycle,
+                applicationMethod,
+                lifeCycleArray,
+                targetArray,
+                interestThemeArray,
+                supportTargetContent,
+                selectionCriteria,
+                serviceContent,
+                applicationMethodContent,
+                realTimeViewCount,
+                detailLink,
+                lastModifiedDate,
+                serviceType,
+                serviceUrl,
+                site,
+                contact,
+                department,
+                organization,
+                baseYear,
+                organizationName,
+                projectStartDate,
+                projectEndDate,
+                requiredDocuments,
+                etc,
+                householdStatus
+        );
+    }
 }
@@ -0,0 +1,53 @@
+package team.java.facto_be.domain.welfare.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+import team.java.facto_be.global.entity.BaseTimeEntity;
+
+/**
+ * 복지 서비스 조회수 집계 체크포인트 JPA 엔티티.
+ *
+ * <p>서비스별 총 조회수와 고유 사용자 수를 주기적으로 저장합니다.
+ * 기동 시 이 값에 {@code checkpoint_history_id} 이후의 조회 이력만 더하면
+ * 전체 이력을 다시 세지 않고 조회수를 복원할 수 있습니다.
+ */
+@Entity(name = "WelfareViewCounterJpaEntity")
+@Table(name = "tbl_welfare_view_counter")
+@Getter
+@SuperBuilder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class WelfareViewCounterJpaEntity extends BaseTimeEntity {
+
+    /**
+     * 복지 서비스 ID
+     */
+    @Id
+    @Column(name = "service_id", length = 50)
+    private String serviceId;
+
+    /**
+     * 총 조회수
+     */
+    @Column(name = "total_count", nullable = false)
+    private Long totalCount;
+
+    /**
+     * 고유 사용자 수 (로그인 사용자 기준)
+     */
+    @Column(name = "distinct_user_count", nullable = false)
+    private Long distinctUserCount;
+
+    /**
+     * 이 집계에 반영된 마지막 조회 이력 ID (tbl_welfare_view_history.id)
+     */
+    @Column(name = "checkpoint_history_id", nullable = false)
+    private Long checkpointHistoryId;
+}
@@ -0,0 +1,311 @@
+package team.java.facto_be.domain.welfare.history;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import team.java.facto_be.domain.welfare.entity.WelfareViewCounterJpaEntity;
+import team.java.facto_be.domain.welfare.repository.WelfareViewCounterRepository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.LongSummaryStatistics;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+
+/**
+ * 복지 서비스별 조회수 집계기.
+ *
+ * <p>서비스별 총 조회수와 고유 사용자 수를 메모리의 {@link LongAdder}로 유지하여
+ * 상세 조회 시 {@code COUNT(*)} 없이 O(1)로 조회수를 반환합니다.
+ *
+ * <p>총 조회수는 DB에 저장된 건수(flushed)와 큐에서 저장을 기다리는 건수(pending)의 합입니다.
+ * 저장된 건수만 주기적으로 tbl_welfare_view_counter에 체크포인트로 기록하므로,
+ * 기동 시 체크포인트 + 그 이후의 조회 이력(tail)만 읽으면 집계가 복원됩니다.
+ *
+ * <p>체크포인트의 기준점({@code checkpoint_history_id})은 이 인스턴스가 집계에 반영한 가장 큰 이력 ID이며,
+ * 한 번의 체크포인트는 하나의 트랜잭션으로 기록합니다. 서비스마다 기준점이 다를 수 있으므로
+ * 복원 시에는 서비스별 기준점 이후의 이력을 다시 셉니다.
+ *
+ * <p>저장(flush)/체크포인트/복원은 {@link WelfareViewHistoryRecorder}가 하나의 락 안에서 호출하며,
+ * 이 클래스의 package-private 메서드는 그 락을 전제로 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WelfareViewCounter {
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO tbl_welfare_view_counter
+                (service_id, total_count, distinct_user_count, checkpoint_history_id, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE
+                total_count = VALUES(total_count),
+                distinct_user_count = VALUES(distinct_user_count),
+                checkpoint_history_id = VALUES(checkpoint_history_id),
+                updated_at = VALUES(updated_at)
+            """;
+
+    /** (사용자, 서비스) 기존 조회 여부 확인 시 한 번에 조회하는 최대 쌍 수 */
+    private static final int PAIR_QUERY_CHUNK = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final WelfareViewCounterRepository welfareViewCounterRepository;
+
+    private final Map<String, Counts> counts = new ConcurrentHashMap<>();
+
+    /** 마지막 체크포인트 이후 저장 건수가 바뀐 서비스 (락 안에서만 변경) */
+    private final Set<String> dirty = new HashSet<>();
+
+    /** 집계에 반영한 가장 큰 조회 이력 ID (락 안에서만 변경) */
+    private long aggregatedHistoryId;
+
+    private volatile boolean ready;
+
+    /**
+     * 집계 복원 완료 여부를 반환합니다.
+     *
+     * @return 복원이 끝났으면 true
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 서비스의 총 조회수를 반환합니다 (저장 대기 중인 조회 포함).
+     *
+     * @param serviceId 복지 서비스 ID
+     * @return 총 조회수
+     */
+    public long totalViews(String serviceId) {
+        Counts current = counts.get(serviceId);
+        return current == null ? 0 : current.flushed.sum() + current.pending.sum();
+    }
+
+    /**
+     * 서비스를 조회한 고유 로그인 사용자 수를 반환합니다 (저장된 이력 기준).
+     *
+     * @param serviceId 복지 서비스 ID
+     * @return 고유 사용자 수
+     */
+    public long distinctUsers(String serviceId) {
+        Counts current = counts.get(serviceId);
+        return current == null ? 0 : current.distinct.sum();
+    }
+
+    /**
+     * 큐에 들어간 조회를 저장 대기 건수로 반영합니다.
+     */
+    void onQueued(String serviceId) {
+        countsOf(serviceId).pending.increment();
+    }
+
+    /**
+     * 저장하지 못하고 버린 조회를 저장 대기 건수에서 뺍니다.
+     */
+    void onDiscarded(List<WelfareViewEvent> events) {
+        events.forEach(event -> countsOf(event.serviceId()).pending.decrement());
+    }
+
+    /**
+     * 배치 중 이전에 한 번도 조회 이력이 없는 (사용자, 서비스) 쌍을 찾습니다.
+     * 배치를 INSERT 하기 전에 호출해야 합니다.
+     */
+    Set<ViewPair> findFirstTimePairs(List<WelfareViewEvent> batch) {
+        Set<ViewPair> pairs = new LinkedHashSet<>();
+        for (WelfareViewEvent event : batch) {
+            if (event.userId() != null) {
+                pairs.add(new ViewPair(event.userId(), event.serviceId()));
+            }
+        }
+        pairs.removeAll(findExistingPairs(pairs, serviceId -> Long.MAX_VALUE));
+        return pairs;
+    }
+
+    /**
+     * INSERT가 끝난 배치를 저장 건수로 옮깁니다.
+     *
+     * @param batch 저장한 조회 이력
+     * @param firstTimePairs {@link #findFirstTimePairs(List)} 결과
+     * @param maxHistoryId 저장한 이력 중 가장 큰 ID
+     */
+    void onFlushed(List<WelfareViewEvent> batch, Set<ViewPair> firstTimePairs, long maxHistoryId) {
+        aggregatedHistoryId = Math.max(aggregatedHistoryId, maxHistoryId);
+        for (WelfareViewEvent event : batch) {
+            Counts current = countsOf(event.serviceId());
+            current.pending.decrement();
+            current.flushed.increment();
+            dirty.add(event.serviceId());
+        }
+        firstTimePairs.forEach(pair -> countsOf(pair.serviceId()).distinct.increment());
+    }
+
+    /**
+     * 저장 건수가 바뀐 서비스의 집계를 체크포인트 테이블에 기록합니다.
+     *
+     * <p>기준점은 DB 전체의 최대 ID가 아니라 이 인스턴스가 집계에 반영한 최대 ID이므로,
+     * 다른 인스턴스가 저장한 이력을 센 것으로 기록하지 않습니다.
+     * 모든 서비스를 하나의 트랜잭션으로 기록하므로 일부 서비스만 새 기준점을 갖는 경우가 없고,
+     * 실패하면 변경 목록을 유지하여 다음 체크포인트에서 다시 기록합니다.
+     */
+    void checkpoint() {
+        // 복원 전 집계는 기동 이후 저장분만 담고 있으므로 기록하면 안 됨
+        if (!ready || dirty.isEmpty()) {
+            return;
+        }
+
+        long watermark = aggregatedHistoryId;
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<String> serviceIds = new ArrayList<>(dirty);
+
+        transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.batchUpdate(UPSERT_SQL, serviceIds, serviceIds.size(), (ps, serviceId) -> {
+                    Counts current = countsOf(serviceId);
+                    ps.setString(1, serviceId);
+                    ps.setLong(2, current.flushed.sum());
+                    ps.setLong(3, current.distinct.sum());
+                    ps.setLong(4, watermark);
+                    ps.setTimestamp(5, now);
+                    ps.setTimestamp(6, now);
+                }));
+
+        dirty.removeAll(serviceIds);
+        log.debug("조회수 체크포인트 저장 - {}건, historyId={}", serviceIds.size(), watermark);
+    }
+
+    /**
+     * 마지막 체크포인트와 그 이후의 조회 이력으로 집계를 복원합니다.
+     */
+    void rebuild() {
+        long startedAt = System.currentTimeMillis();
+
+        // 복원 전에 저장된 이력은 아래 tail 조회에 다시 포함되므로 저장 건수는 비우고 시작 (대기 건수는 유지)
+        counts.values().forEach(current -> {
+            current.flushed.reset();
+            current.distinct.reset();
+        });
+
+        // 1. 체크포인트 적재 (체크포인트마다 변경된 서비스만 기록되므로 서비스마다 기준점이 다름)
+        Map<String, Long> watermarks = new HashMap<>();
+        List<WelfareViewCounterJpaEntity> checkpoints = welfareViewCounterRepository.findAll();
+        for (WelfareViewCounterJpaEntity checkpoint : checkpoints) {
+            Counts current = countsOf(checkpoint.getServiceId());
+            current.flushed.add(checkpoint.getTotalCount());
+            current.distinct.add(checkpoint.getDistinctUserCount());
+            watermarks.put(checkpoint.getServiceId(), checkpoint.getCheckpointHistoryId());
+        }
+
+        // 2. 서비스별 기준점 이후 이력(tail) 반영. 가장 작은 기준점부터 읽고 서비스별 기준점 이하는 건너뜀
+        //    (체크포인트가 없는 서비스의 이력은 모두 마지막 체크포인트 이후에 저장되었으므로 이 범위 안에 있음)
+        LongSummaryStatistics range = watermarks.values().stream().mapToLong(Long::longValue).summaryStatistics();
+        long from = range.getCount() == 0 ? 0 : range.getMin();
+        Set<ViewPair> tailPairs = new LinkedHashSet<>();
+        long[] tailRows = new long[1];
+        long[] tailMaxId = {range.getCount() == 0 ? 0 : range.getMax()};
+        jdbcTemplate.query(
+                "SELECT id, service_id, user_id FROM tbl_welfare_view_history WHERE id > ?",
+                rs -> {
+                    long id = rs.getLong(1);
+                    String serviceId = rs.getString(2);
+                    tailMaxId[0] = Math.max(tailMaxId[0], id);
+                    if (id <= watermarks.getOrDefault(serviceId, 0L)) {
+                        return;
+                    }
+                    long userId = rs.getLong(3);
+                    countsOf(serviceId).flushed.increment();
+                    dirty.add(serviceId);
+                    if (!rs.wasNull()) {
+                        tailPairs.add(new ViewPair(userId, serviceId));
+                    }
+                    tailRows[0]++;
+                },
+                from
+        );
+        aggregatedHistoryId = tailMaxId[0];
+
+        // 3. tail에서 처음 등장한 (사용자, 서비스) 쌍만 고유 사용자 수에 반영
+        tailPairs.removeAll(findExistingPairs(tailPairs, serviceId -> watermarks.getOrDefault(serviceId, 0L)));
+        tailPairs.forEach(pair -> countsOf(pair.serviceId()).distinct.increment());
+
+        ready = true;
+        log.info("조회수 집계 복원 완료 - 체크포인트 {}건, 이후 이력 {}건, {}ms",
+                checkpoints.size(), tailRows[0], System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 주어진 쌍 중 ID가 서비스별 기준점 이하인 조회 이력이 있는 쌍을 반환합니다.
+     */
+    private Set<ViewPair> findExistingPairs(Collection<ViewPair> pairs, ToLongFunction<String> maxHistoryId) {
+        if (pairs.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        Set<ViewPair> existing = new HashSet<>();
+        List<ViewPair> all = List.copyOf(pairs);
+
+        for (int from = 0; from < all.size(); from += PAIR_QUERY_CHUNK) {
+            List<ViewPair> chunk = all.subList(from, Math.min(all.size(), from + PAIR_QUERY_CHUNK));
+            Set<Long> userIds = new LinkedHashSet<>();
+            Set<String> serviceIds = new LinkedHashSet<>();
+            chunk.forEach(pair -> {
+                userIds.add(pair.userId());
+                serviceIds.add(pair.serviceId());
+            });
+
+            // user_id IN (...) AND service_id IN (...)는 교차 조합까지 포함하므로 결과를 쌍 목록으로 다시 거름
+            String sql = "SELECT user_id, service_id, MIN(id) FROM tbl_welfare_view_history"
+                    + " WHERE user_id IN (" + placeholders(userIds.size()) + ")"
+                    + " AND service_id IN (" + placeholders(serviceIds.size()) + ")"
+                    + " GROUP BY user_id, service_id";
+
+            List<Object> args = new ArrayList<>(userIds.size() + serviceIds.size());
+            args.addAll(userIds);
+            args.addAll(serviceIds);
+
+            Set<ViewPair> requested = new HashSet<>(chunk);
+            jdbcTemplate.query(sql, rs -> {
+                ViewPair pair = new ViewPair(rs.getLong(1), rs.getString(2));
+                if (requested.contains(pair) && rs.getLong(3) <= maxHistoryId.applyAsLong(pair.serviceId())) {
+                    existing.add(pair);
+                }
+            }, args.toArray());
+        }
+
+        return existing;
+    }
+
+    private Counts countsOf(String serviceId) {
+        return counts.computeIfAbsent(serviceId, key -> new Counts());
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    /**
+     * (사용자, 서비스) 쌍.
+     */
+    record ViewPair(Long userId, String serviceId) {
+    }
+
+    /**
+     * 서비스별 집계값.
+     */
+    private static final class Counts {
+        private final LongAdder flushed = new LongAdder();
+        private final LongAdder pending = new LongAdder();
+        private final LongAdder distinct = new LongAdder();
+    }
+}
@@ -0,0 +1,13 @@
+package team.java.facto_be.domain.welfare.history;
+
+import java.time.LocalDateTime;
+
+/**
+ * 저장 대기 중인 복지 서비스 조회 이력.
+ *
+ * @param serviceId 복지 서비스 ID
+ * @param userId 사용자 ID (비로그인 시 null)
+ * @param viewedAt 조회 시간
+ */
+record WelfareViewEvent(String serviceId, Long userId, LocalDateTime viewedAt) {
+}
@@ -0,0 +1,36 @@
+package team.java.facto_be.domain.welfare.history;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 복지 서비스 조회 이력 기록 설정 프로퍼티.
+ *
+ * @param queueCapacity 저장 대기 큐 최대 크기 (초과 시 이력은 버려짐)
+ * @param batchSize 한 번에 INSERT 하는 최대 건수
+ * @param dedupeWindow 동일 사용자/서비스 재조회를 기록하지 않는 기간
+ * @param dedupeMaximumSize 중복 판정용으로 기억하는 최대 (사용자, 서비스) 쌍 수
+ */
+@ConfigurationProperties(prefix = "welfare.view-history")
+public record WelfareViewHistoryProperties(
+        Integer queueCapacity,
+        Integer batchSize,
+        Duration dedupeWindow,
+        Long dedupeMaximumSize
+) {
+    public WelfareViewHistoryProperties {
+        if (queueCapacity == null) {
+            queueCapacity = 50_000;
+        }
+        if (batchSize == null) {
+            batchSize = 1000;
+        }
+        if (dedupeWindow == null) {
+            dedupeWindow = Duration.ofHours(24);
+        }
+        if (dedupeMaximumSize == null) {
+            dedupeMaximumSize = 1_000_000L;
+        }
+    }
+}
@@ -0,0 +1,283 @@
+package team.java.facto_be.domain.welfare.history;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import team.java.facto_be.domain.welfare.repository.WelfareViewHistoryRepository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 복지 서비스 조회 이력 write-behind 기록기.
+ *
+ * <p>상세 조회 요청은 이력을 메모리 큐에 넣기만 하고 바로 반환하며,
+ * 큐는 스케줄러가 주기적으로 비워 JDBC 배치 INSERT로 저장합니다.
+ * 큐가 가득 차면 요청을 기다리게 하지 않고 해당 이력을 버립니다 (버린 건수는 메트릭으로 노출).
+ *
+ * <p>24시간 내 동일 사용자의 같은 서비스 재조회는 DB 조회 대신
+ * 메모리의 (사용자, 서비스) → 마지막 기록 시각 맵으로 판정합니다.
+ * 기동 시 최근 24시간 이력으로 맵을 채워 재시작 후에도 중복 기록되지 않도록 합니다.
+ *
+ * <p>id가 IDENTITY 전략이라 Hibernate 배치 INSERT가 동작하지 않으므로 JdbcTemplate을 직접 사용합니다.
+ *
+ * <p>조회 이력을 쓰는 곳은 이 기록기뿐이므로, 저장할 때마다 {@link WelfareViewCounter}의 집계를 함께 갱신합니다.
+ * 저장/체크포인트/집계 복원은 하나의 락으로 직렬화하여 체크포인트 시점의 이력 ID 기준점과 집계가 어긋나지 않게 하며,
+ * 기준점으로 쓰도록 저장한 배치의 생성 ID를 함께 넘깁니다.
+ */
+@Slf4j
+@Component
+public class WelfareViewHistoryRecorder {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO tbl_welfare_view_history (service_id, user_id, viewed_at, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final WelfareViewHistoryRepository welfareViewHistoryRepository;
+    private final WelfareViewHistoryProperties properties;
+    private final WelfareViewCounter viewCounter;
+
+    private final BlockingQueue<WelfareViewEvent> queue;
+    private final Cache<String, LocalDateTime> recentViews;
+
+    /** 저장/체크포인트/집계 복원 직렬화 락 */
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private final Counter recordedCounter;
+    private final Counter dedupedCounter;
+    private final Counter droppedCounter;
+
+    public WelfareViewHistoryRecorder(
+            JdbcTemplate jdbcTemplate,
+            WelfareViewHistoryRepository welfareViewHistoryRepository,
+            WelfareViewHistoryProperties properties,
+            WelfareViewCounter viewCounter,
+            MeterRegistry meterRegistry
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.welfareViewHistoryRepository = welfareViewHistoryRepository;
+        this.properties = properties;
+        this.viewCounter = viewCounter;
+        this.queue = new ArrayBlockingQueue<>(properties.queueCapacity());
+        this.recentViews = Caffeine.newBuilder()
+                .maximumSize(properties.dedupeMaximumSize())
+                .expireAfter(new ViewedAtExpiry(properties.dedupeWindow()))
+                .build();
+
+        this.recordedCounter = meterRegistry.counter("welfare.view.history.recorded");
+        this.dedupedCounter = meterRegistry.counter("welfare.view.history.deduped");
+        this.droppedCounter = meterRegistry.counter("welfare.view.history.dropped");
+        meterRegistry.gauge("welfare.view.history.pending", queue, BlockingQueue::size);
+    }
+
+    /**
+     * 조회 이력을 저장 대기 큐에 넣습니다. DB 작업을 기다리지 않습니다.
+     *
+     * @param serviceId 복지 서비스 ID
+     * @param userId 사용자 ID (비로그인 시 null, 비로그인 조회는 중복 판정하지 않음)
+     * @return 기록 대상이면 true, 24시간 내 중복 조회이거나 큐가 가득 차 버려졌으면 false
+     */
+    public boolean record(String serviceId, Long userId) {
+        LocalDateTime viewedAt = LocalDateTime.now();
+        String dedupeKey = userId != null ? dedupeKey(userId, serviceId) : null;
+
+        // 24시간 내 중복 조회 확인
+        if (dedupeKey != null && recentViews.asMap().putIfAbsent(dedupeKey, viewedAt) != null) {
+            dedupedCounter.increment();
+            return false;
+        }
+
+        // 큐에 넣기 전에 반영해야 저장 직후 차감되는 건수가 음수가 되지 않음
+        viewCounter.onQueued(serviceId);
+
+        WelfareViewEvent event = new WelfareViewEvent(serviceId, userId, viewedAt);
+        if (!queue.offer(event)) {
+            viewCounter.onDiscarded(List.of(event));
+
+            // 기록하지 못했으므로 다음 조회는 다시 기록될 수 있도록 되돌림
+            if (dedupeKey != null) {
+                recentViews.invalidate(dedupeKey);
+            }
+            droppedCounter.increment();
+            return false;
+        }
+
+        recordedCounter.increment();
+        return true;
+    }
+
+    /**
+     * 큐에 쌓인 조회 이력을 배치 INSERT로 저장합니다.
+     */
+    @Scheduled(fixedDelayString = "${welfare.view-history.flush-interval:PT1S}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            drainQueue();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 큐를 비운 뒤 서비스별 조회수 집계를 체크포인트 테이블에 기록합니다.
+     */
+    @Scheduled(fixedDelayString = "${welfare.view-history.checkpoint-interval:PT1M}")
+    public void checkpoint() {
+        flushLock.lock();
+        try {
+            drainQueue();
+            viewCounter.checkpoint();
+        } catch (Exception e) {
+            log.error("조회수 체크포인트 저장 실패", e);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 종료 시 남은 이력을 모두 저장하고 조회수 체크포인트를 남깁니다.
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("종료 전 조회 이력 저장 - 대기 {}건", queue.size());
+        checkpoint();
+    }
+
+    /**
+     * 서비스별 조회수 집계를 복원하고,
+     * 최근 24시간 로그인 사용자 조회 이력으로 중복 판정 맵을 채웁니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        flushLock.lock();
+        try {
+            viewCounter.rebuild();
+        } catch (Exception e) {
+            log.warn("조회수 집계 복원 실패 - 조회 이력 COUNT로 대체", e);
+        } finally {
+            flushLock.unlock();
+        }
+
+        try {
+            LocalDateTime since = LocalDateTime.now().minus(properties.dedupeWindow());
+            List<Object[]> rows = welfareViewHistoryRepository.findLatestUserViewsSince(since);
+
+            for (Object[] row : rows) {
+                recentViews.asMap().putIfAbsent(
+                        dedupeKey((Long) row[0], (String) row[1]), (LocalDateTime) row[2]);
+            }
+            log.info("조회 이력 중복 판정 맵 초기화 완료 - {}건", rows.size());
+        } catch (Exception e) {
+            log.warn("조회 이력 중복 판정 맵 초기화 실패", e);
+        }
+    }
+
+    /**
+     * 아직 저장되지 않은 대기 이력 수를 반환합니다.
+     *
+     * @return 대기 이력 수
+     */
+    public int pendingCount() {
+        return queue.size();
+    }
+
+    private void drainQueue() {
+        List<WelfareViewEvent> batch = new ArrayList<>(properties.batchSize());
+        while (queue.drainTo(batch, properties.batchSize()) > 0) {
+            try {
+                // INSERT 전에 확인해야 이번 배치 자신을 기존 조회로 세지 않음
+                Set<WelfareViewCounter.ViewPair> firstTimePairs = viewCounter.findFirstTimePairs(batch);
+                long maxHistoryId = insert(batch);
+                viewCounter.onFlushed(batch, firstTimePairs, maxHistoryId);
+            } catch (Exception e) {
+                viewCounter.onDiscarded(batch);
+                log.error("조회 이력 저장 실패 - {}건 유실", batch.size(), e);
+            }
+            batch.clear();
+        }
+    }
+
+    /**
+     * 배치를 저장하고 생성된 이력 ID 중 가장 큰 값을 반환합니다 (체크포인트 기준점).
+     */
+    private long insert(List<WelfareViewEvent> batch) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        WelfareViewEvent event = batch.get(i);
+                        Timestamp viewedAt = Timestamp.valueOf(event.viewedAt());
+                        ps.setString(1, event.serviceId());
+                        ps.setObject(2, event.userId());
+                        ps.setTimestamp(3, viewedAt);
+                        ps.setTimestamp(4, viewedAt);
+                        ps.setTimestamp(5, viewedAt);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return batch.size();
+                    }
+                },
+                keyHolder);
+
+        return keyHolder.getKeyList().stream()
+                .flatMap(keys -> keys.values().stream())
+                .mapToLong(key -> ((Number) key).longValue())
+                .max()
+                .orElseThrow(() -> new IllegalStateException("생성된 조회 이력 ID가 없습니다."));
+    }
+
+    private static String dedupeKey(Long userId, String serviceId) {
+        return userId + ":" + serviceId;
+    }
+
+    /**
+     * 마지막 기록 시각으로부터 중복 판정 기간이 지나면 만료시킵니다.
+     */
+    private record ViewedAtExpiry(Duration window) implements Expiry<String, LocalDateTime> {
+
+        @Override
+        public long expireAfterCreate(String key, LocalDateTime viewedAt, long currentTime) {
+            Duration remaining = Duration.between(LocalDateTime.now(), viewedAt.plus(window));
+            return Math.max(0, remaining.toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, LocalDateTime viewedAt, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, viewedAt, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, LocalDateTime viewedAt, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package team.java.facto_be.domain.welfare.index;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * 복지 서비스 패싯(생애주기/대상/관심테마/시도/시군구/서비스 타입) 비트맵 색인.
+ *
+ * <p>JSON 문자열로 저장된 배열 컬럼을 생성 시점에 한 번만 파싱/정규화하고,
+ * 패싯 값마다 해당 값을 가진 문서 번호의 비트맵을 만들어 둡니다.
+ * 검색 조건 조합은 비트맵 AND, 개수 조회는 비트맵 cardinality로 처리합니다.
+ *
+ * <p>문서 번호는 조회수 내림차순 순위이므로 결과 비트맵을 앞에서부터 순회하면
+ * 기존 {@code ORDER BY inquiry_count DESC} 정렬과 같은 순서가 됩니다.
+ *
+ * <p>조건 값 매칭은 기존 DB 검색과 같은 부분 일치입니다.
+ * 배열 컬럼은 공백을 제거한 뒤 비교하므로 "임신·출산", "임신 · 출산" 같은 표기 차이를 흡수합니다.
+ */
+final class WelfareFacetIndex {
+
+    /** 배열 컬럼의 원소 구분 문자 (JSON 대괄호/따옴표/쉼표 등) */
+    private static final Pattern TOKEN_DELIMITER = Pattern.compile("[\\[\\]\",|]+");
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    /** 조건 값별 합집합 비트맵 캐시 최대 크기 (조건 값은 대부분 고정된 코드 목록) */
+    private static final int MAX_CACHED_CONDITIONS = 1024;
+
+    private final int size;
+
+    private final ArrayFacet lifeCycles;
+    private final ArrayFacet targets;
+    private final ArrayFacet interestThemes;
+    private final ValueFacet ctpvNms;
+    private final ValueFacet sggNms;
+    private final Map<String, BitSet> serviceTypes;
+
+    private WelfareFacetIndex(int size,
+                              ArrayFacet lifeCycles,
+                              ArrayFacet targets,
+                              ArrayFacet interestThemes,
+                              ValueFacet ctpvNms,
+                              ValueFacet sggNms,
+                              Map<String, BitSet> serviceTypes) {
+        this.size = size;
+        this.lifeCycles = lifeCycles;
+        this.targets = targets;
+        this.interestThemes = interestThemes;
+        this.ctpvNms = ctpvNms;
+        this.sggNms = sggNms;
+        this.serviceTypes = serviceTypes;
+    }
+
+    /**
+     * 조회수 순위대로 정렬된 문서 목록으로 색인을 생성합니다.
+     *
+     * @param documents 조회수 내림차순으로 정렬된 문서 목록
+     * @return 생성된 색인
+     */
+    static WelfareFacetIndex build(List<WelfareIndexDocument> documents) {
+        Map<String, BitSet> serviceTypes = new HashMap<>();
+        for (int doc = 0; doc < documents.size(); doc++) {
+            String serviceType = documents.get(doc).serviceType();
+            if (serviceType != null) {
+                serviceTypes.computeIfAbsent(normalizeValue(serviceType), key -> new BitSet()).set(doc);
+            }
+        }
+
+        return new WelfareFacetIndex(
+                documents.size(),
+                ArrayFacet.build(documents, WelfareIndexDocument::lifeCycleArray),
+                ArrayFacet.build(documents, WelfareIndexDocument::targetArray),
+                ArrayFacet.build(documents, WelfareIndexDocument::interestThemeArray),
+                ValueFacet.build(documents, WelfareIndexDocument::ctpvNm),
+                ValueFacet.build(documents, WelfareIndexDocument::sggNm),
+                serviceTypes
+        );
+    }
+
+    /**
+     * 모든 조건을 만족하는 문서 비트맵을 반환합니다.
+     * 반환된 비트맵은 호출 측에서 자유롭게 변경해도 됩니다.
+     *
+     * @param query 검색 조건 (null 또는 빈 값인 조건은 무시)
+     * @return 조건을 만족하는 문서 번호 비트맵
+     */
+    BitSet match(WelfareFacetQuery query) {
+        BitSet result = new BitSet(size);
+        result.set(0, size);
+
+        andIfPresent(result, query.lifeCycle(), lifeCycles::match);
+        andIfPresent(result, query.householdStatus(), targets::match);
+        andIfPresent(result, query.interestTheme(), interestThemes::match);
+        andIfPresent(result, query.sidoName(), ctpvNms::match);
+        andIfPresent(result, query.sigunguName(), sggNms::match);
+        andIfPresent(result, query.serviceType(),
+                serviceType -> serviceTypes.getOrDefault(normalizeValue(serviceType), new BitSet()));
+
+        return result;
+    }
+
+    /**
+     * 가구상태/대상 값 하나와 일치하는 문서 비트맵을 반환합니다.
+     * 반환된 비트맵은 캐시와 공유되므로 호출 측에서 변경하면 안 됩니다.
+     *
+     * @param householdStatus 가구상태 값
+     * @return 일치하는 문서 번호 비트맵 (읽기 전용)
+     */
+    BitSet householdStatus(String householdStatus) {
+        return targets.match(householdStatus);
+    }
+
+    /**
+     * 관심 테마 값 하나와 일치하는 문서 비트맵을 반환합니다.
+     * 반환된 비트맵은 캐시와 공유되므로 호출 측에서 변경하면 안 됩니다.
+     *
+     * @param interestTheme 관심 테마 값
+     * @return 일치하는 문서 번호 비트맵 (읽기 전용)
+     */
+    BitSet interestTheme(String interestTheme) {
+        return interestThemes.match(interestTheme);
+    }
+
+    private static void andIfPresent(BitSet result, String condition, Function<String, BitSet> matcher) {
+        if (condition != null && !condition.isEmpty() && !result.isEmpty()) {
+            result.and(matcher.apply(condition));
+        }
+    }
+
+    private static String normalizeValue(String value) {
+        return WelfareKeywordIndex.normalize(value);
+    }
+
+    private static String stripWhitespace(String value) {
+        return WHITESPACE.matcher(value).replaceAll("");
+    }
+
+    /**
+     * JSON 배열 문자열 컬럼 패싯.
+     *
+     * <p>원소(토큰)별 비트맵을 보관하고, 조건 값은 그 값을 부분 문자열로 포함하는
+     * 모든 토큰 비트맵의 합집합으로 매칭합니다.
+     * 조건 값에 구분 문자가 들어 있어 토큰 단위로 비교할 수 없는 경우에만
+     * 정규화된 원문 전체를 순회합니다.
+     */
+    private static final class ArrayFacet {
+
+        private final Map<String, BitSet> tokens;
+        private final String[] normalizedRaw;
+        private final Map<String, BitSet> matchCache = new ConcurrentHashMap<>();
+
+        private ArrayFacet(Map<String, BitSet> tokens, String[] normalizedRaw) {
+            this.tokens = tokens;
+            this.normalizedRaw = normalizedRaw;
+        }
+
+        static ArrayFacet build(List<WelfareIndexDocument> documents,
+                                Function<WelfareIndexDocument, String> column) {
+            Map<String, BitSet> tokens = new HashMap<>();
+            String[] normalizedRaw = new String[documents.size()];
+
+            for (int doc = 0; doc < documents.size(); doc++) {
+                String raw = column.apply(documents.get(doc));
+                if (raw == null) {
+                    continue;
+                }
+                normalizedRaw[doc] = stripWhitespace(normalizeValue(raw));
+
+                for (String token : TOKEN_DELIMITER.split(normalizedRaw[doc])) {
+                    if (!token.isEmpty()) {
+                        tokens.computeIfAbsent(token, key -> new BitSet()).set(doc);
+                    }
+                }
+            }
+
+            return new ArrayFacet(tokens, normalizedRaw);
+        }
+
+        BitSet match(String condition) {
+            String normalized = stripWhitespace(normalizeValue(condition));
+            BitSet cached = matchCache.get(normalized);
+            if (cached != null) {
+                return cached;
+            }
+
+            BitSet matched = TOKEN_DELIMITER.matcher(normalized).find()
+                    ? scan(normalized)
+                    : unionOfTokensContaining(normalized);
+
+            if (matchCache.size() < MAX_CACHED_CONDITIONS) {
+                matchCache.put(normalized, matched);
+            }
+            return matched;
+        }
+
+        private BitSet unionOfTokensContaining(String normalized) {
+            BitSet union = new BitSet();
+            tokens.forEach((token, docs) -> {
+                if (token.contains(normalized)) {
+                    union.or(docs);
+                }
+            });
+            return union;
+        }
+
+        private BitSet scan(String normalized) {
+            BitSet matched = new BitSet();
+            for (int doc = 0; doc < normalizedRaw.length; doc++) {
+                if (normalizedRaw[doc] != null && normalizedRaw[doc].contains(normalized)) {
+                    matched.set(doc);
+                }
+            }
+            return matched;
+        }
+    }
+
+    /**
+     * 단일 값 컬럼(시도명, 시군구명) 패싯.
+     *
+     * <p>서로 다른 값의 수가 적으므로 값별 비트맵을 보관하고,
+     * 조건 값을 부분 문자열로 포함하는 값들의 합집합으로 매칭합니다. ("대전" ↔ "대전광역시")
+     */
+    private static final class ValueFacet {
+
+        private final Map<String, BitSet> values;
+        private final Map<String, BitSet> matchCache = new ConcurrentHashMap<>();
+
+        private ValueFacet(Map<String, BitSet> values) {
+            this.values = values;
+        }
+
+        static ValueFacet build(List<WelfareIndexDocument> documents,
+                                Function<WelfareIndexDocument, String> column) {
+            Map<String, BitSet> values = new HashMap<>();
+            for (int doc = 0; doc < documents.size(); doc++) {
+                String value = column.apply(documents.get(doc));
+                if (value != null) {
+                    values.computeIfAbsent(normalizeValue(value), key -> new BitSet()).set(doc);
+                }
+            }
+            return new ValueFacet(values);
+        }
+
+        BitSet match(String condition) {
+            String normalized = normalizeValue(condition);
+            BitSet cached = matchCache.get(normalized);
+            if (cached != null) {
+                return cached;
+            }
+
+            BitSet union = new BitSet();
+            values.forEach((value, docs) -> {
+                if (value.contains(normalized)) {
+                    union.or(docs);
+                }
+            });
+
+            if (matchCache.size() < MAX_CACHED_CONDITIONS) {
+                matchCache.put(normalized, union);
+            }
+            return union;
+        }
+    }
+}
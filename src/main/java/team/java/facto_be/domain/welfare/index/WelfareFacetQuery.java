@@ -0,0 +1,23 @@
+package team.java.facto_be.domain.welfare.index;
+
+/**
+ * 패싯 검색 조건.
+ *
+ * <p>null 또는 빈 문자열인 조건은 적용하지 않습니다.
+ *
+ * @param lifeCycle 생애주기 (부분 일치)
+ * @param householdStatus 가구상태/대상 (부분 일치)
+ * @param interestTheme 관심 테마 (부분 일치)
+ * @param sidoName 시도명 (부분 일치)
+ * @param sigunguName 시군구명 (부분 일치)
+ * @param serviceType 서비스 타입 (일치, 대소문자 무시)
+ */
+public record WelfareFacetQuery(
+        String lifeCycle,
+        String householdStatus,
+        String interestTheme,
+        String sidoName,
+        String sigunguName,
+        String serviceType
+) {
+}
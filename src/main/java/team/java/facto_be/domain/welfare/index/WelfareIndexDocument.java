@@ -0,0 +1,21 @@
+package team.java.facto_be.domain.welfare.index;
+
+/**
+ * 검색 색인 생성에 필요한 복지 서비스 컬럼만 담은 레코드.
+ *
+ * <p>색인 생성 시 엔티티 전체가 아닌 필요한 컬럼만 조회합니다.
+ */
+public record WelfareIndexDocument(
+        String serviceId,
+        String serviceName,
+        String serviceSummary,
+        String aiSummary,
+        String serviceContent,
+        String ctpvNm,
+        String sggNm,
+        String lifeCycleArray,
+        String targetArray,
+        String interestThemeArray,
+        String serviceType
+) {
+}
@@ -0,0 +1,162 @@
+package team.java.facto_be.domain.welfare.index;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.IntPredicate;
+
+/**
+ * 복지 서비스 키워드 검색용 바이그램(2-gram) 역색인.
+ *
+ * <p>서비스명, 서비스 요약, AI 요약, 서비스 내용을 하나의 문자열로 이어 붙인 뒤
+ * 연속된 두 글자 단위로 문서 목록(posting list)을 만듭니다.
+ * 문서 번호는 조회수 내림차순 순위이므로 posting list를 앞에서부터 훑으면
+ * 기존 {@code ORDER BY inquiry_count DESC} 정렬과 같은 순서가 됩니다.
+ *
+ * <p>바이그램 교집합은 후보를 좁히는 용도로만 사용하고,
+ * 최종 일치 여부는 원문 부분 문자열 비교로 확인하여 {@code LIKE '%keyword%'}와 같은 결과를 보장합니다.
+ *
+ * <p>생성 후에는 변경되지 않으므로 여러 스레드에서 동시에 조회해도 안전합니다.
+ */
+final class WelfareKeywordIndex {
+
+    /** 필드 경계를 넘는 일치를 막기 위한 구분 문자 */
+    private static final char FIELD_SEPARATOR = '\u0000';
+
+    private static final int[] EMPTY = new int[0];
+
+    /** 문서 번호 → 정규화된 검색 대상 문자열 */
+    private final String[] texts;
+
+    /** 바이그램 키 → 문서 번호 목록 (오름차순 = 조회수 순위) */
+    private final Map<Integer, int[]> postings;
+
+    private WelfareKeywordIndex(String[] texts, Map<Integer, int[]> postings) {
+        this.texts = texts;
+        this.postings = postings;
+    }
+
+    /**
+     * 조회수 순위대로 정렬된 문서 목록으로 색인을 생성합니다.
+     *
+     * @param documents 조회수 내림차순으로 정렬된 문서 목록
+     * @return 생성된 색인
+     */
+    static WelfareKeywordIndex build(List<WelfareIndexDocument> documents) {
+        String[] texts = new String[documents.size()];
+        Map<Integer, PostingBuilder> builders = new HashMap<>();
+
+        for (int doc = 0; doc < documents.size(); doc++) {
+            String text = joinSearchableFields(documents.get(doc));
+            texts[doc] = text;
+
+            for (int i = 0; i + 1 < text.length(); i++) {
+                char first = text.charAt(i);
+                char second = text.charAt(i + 1);
+                if (first == FIELD_SEPARATOR || second == FIELD_SEPARATOR) {
+                    continue;
+                }
+                builders.computeIfAbsent(bigramKey(first, second), key -> new PostingBuilder())
+                        .add(doc);
+            }
+        }
+
+        Map<Integer, int[]> postings = new HashMap<>(builders.size() * 2);
+        builders.forEach((key, builder) -> postings.put(key, builder.toArray()));
+
+        return new WelfareKeywordIndex(texts, postings);
+    }
+
+    /**
+     * 키워드를 포함하는 문서 번호를 조회수 순위대로 반환합니다.
+     *
+     * @param keyword 검색 키워드 (null 또는 빈 문자열이면 모든 문서가 대상)
+     * @param filter 추가 조건 (지역 등)
+     * @param limit 최대 반환 개수
+     * @return 일치하는 문서 번호 목록 (순위 오름차순)
+     */
+    int[] search(String keyword, IntPredicate filter, int limit) {
+        if (limit <= 0) {
+            return EMPTY;
+        }
+
+        String needle = normalize(keyword);
+        int[] candidates = needle.length() >= 2 ? shortestPosting(needle) : null;
+
+        if (candidates == EMPTY) {
+            return EMPTY;
+        }
+
+        int[] matched = new int[Math.min(limit, candidates != null ? candidates.length : texts.length)];
+        int size = 0;
+        int total = candidates != null ? candidates.length : texts.length;
+
+        for (int i = 0; i < total && size < matched.length; i++) {
+            int doc = candidates != null ? candidates[i] : i;
+            if (filter.test(doc) && texts[doc].contains(needle)) {
+                matched[size++] = doc;
+            }
+        }
+
+        return size == matched.length ? matched : Arrays.copyOf(matched, size);
+    }
+
+    /**
+     * 키워드의 바이그램 중 가장 짧은 posting list를 반환합니다.
+     * 하나라도 색인에 없는 바이그램이 있으면 일치하는 문서가 없으므로 빈 배열을 반환합니다.
+     */
+    private int[] shortestPosting(String needle) {
+        int[] shortest = null;
+        for (int i = 0; i + 1 < needle.length(); i++) {
+            int[] posting = postings.get(bigramKey(needle.charAt(i), needle.charAt(i + 1)));
+            if (posting == null) {
+                return EMPTY;
+            }
+            if (shortest == null || posting.length < shortest.length) {
+                shortest = posting;
+            }
+        }
+        return shortest;
+    }
+
+    static String normalize(String value) {
+        return value == null ? "" : value.toLowerCase(Locale.ROOT);
+    }
+
+    private static String joinSearchableFields(WelfareIndexDocument document) {
+        return normalize(document.serviceName()) + FIELD_SEPARATOR
+                + normalize(document.serviceSummary()) + FIELD_SEPARATOR
+                + normalize(document.aiSummary()) + FIELD_SEPARATOR
+                + normalize(document.serviceContent());
+    }
+
+    private static int bigramKey(char first, char second) {
+        return (first << 16) | second;
+    }
+
+    /**
+     * 문서 번호를 오름차순으로 쌓는 posting list 빌더.
+     * 같은 문서에서 같은 바이그램이 반복되면 한 번만 기록합니다.
+     */
+    private static final class PostingBuilder {
+
+        private int[] docs = new int[4];
+        private int size;
+
+        void add(int doc) {
+            if (size > 0 && docs[size - 1] == doc) {
+                return;
+            }
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+            }
+            docs[size++] = doc;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(docs, size);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package team.java.facto_be.domain.welfare.index;
+
+import java.util.List;
+
+/**
+ * 사용자 프로필 기반 추천 조건.
+ *
+ * <p>생애주기와 지역은 필수 조건(AND)이고,
+ * 가구상태와 관심 테마는 각각 하나 이상 일치(OR)하면 후보가 됩니다.
+ * 목록이 비어 있으면 해당 조건은 적용하지 않습니다.
+ *
+ * @param lifeCycle 생애주기 (nullable)
+ * @param householdStatuses 가구상태 목록
+ * @param interestThemes 관심 테마 목록
+ * @param sidoName 시도명 (nullable)
+ * @param sigunguName 시군구명 (nullable)
+ */
+public record WelfareRecommendationQuery(
+        String lifeCycle,
+        List<String> householdStatuses,
+        List<String> interestThemes,
+        String sidoName,
+        String sigunguName
+) {
+    public WelfareRecommendationQuery {
+        householdStatuses = distinctValues(householdStatuses);
+        interestThemes = distinctValues(interestThemes);
+    }
+
+    private static List<String> distinctValues(List<String> values) {
+        if (values == null) {
+            return List.of();
+        }
+        return values.stream()
+                .filter(value -> value != null && !value.isBlank())
+                .distinct()
+                .toList();
+    }
+}
@@ -0,0 +1,44 @@
+package team.java.facto_be.domain.welfare.index;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 프로필 기반 추천 결과.
+ *
+ * <p>추천 항목은 일치한 가구상태/관심 테마 수(점수) 내림차순, 같은 점수 안에서는 조회수 많은 순입니다.
+ *
+ * @param matches 추천 항목 목록
+ * @param candidateCount 전체 후보 수 (limit 적용 전)
+ * @param householdStatusContributions 가구상태 값별 후보 수
+ * @param interestThemeContributions 관심 테마 값별 후보 수
+ */
+public record WelfareRecommendationResult(
+        List<Match> matches,
+        int candidateCount,
+        Map<String, Integer> householdStatusContributions,
+        Map<String, Integer> interestThemeContributions
+) {
+
+    /**
+     * 추천 항목.
+     *
+     * @param serviceId 복지 서비스 ID
+     * @param score 일치한 가구상태/관심 테마 수
+     * @param matchedHouseholdStatuses 일치한 가구상태 목록
+     * @param matchedInterestThemes 일치한 관심 테마 목록
+     */
+    public record Match(
+            String serviceId,
+            int score,
+            List<String> matchedHouseholdStatuses,
+            List<String> matchedInterestThemes
+    ) {
+    }
+
+    public List<String> serviceIds() {
+        return matches.stream()
+                .map(Match::serviceId)
+                .toList();
+    }
+}
@@ -0,0 +1,362 @@
+package team.java.facto_be.domain.welfare.index;
+
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import team.java.facto_be.domain.welfare.catalog.WelfareCatalogChangedEvent;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntPredicate;
+
+import static team.java.facto_be.domain.welfare.entity.QWelfareServiceJpaEntity.welfareServiceJpaEntity;
+
+/**
+ * 복지 서비스 인메모리 검색 색인.
+ *
+ * <p>애플리케이션 시작 시 welfare_services 테이블을 한 번 읽어 키워드 역색인과 패싯 비트맵 색인을 만들고,
+ * 이후 키워드 검색과 조건 검색/개수 조회는 DB 풀 스캔({@code LIKE '%keyword%'}) 대신 메모리에서 처리합니다.
+ *
+ * <p>색인은 불변 스냅샷으로 관리되며, 재생성 시 새 스냅샷으로 한 번에 교체됩니다.
+ * 색인이 준비되기 전에는 {@link #isReady()}가 false를 반환하므로
+ * 호출 측은 기존 DB 쿼리로 대체해야 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WelfareSearchIndex {
+
+    private final JPAQueryFactory queryFactory;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * 애플리케이션 기동 완료 후 백그라운드에서 색인을 생성합니다.
+     * 생성이 끝나기 전까지의 검색은 DB 쿼리로 처리됩니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        Thread.ofVirtual()
+                .name("welfare-search-index")
+                .start(this::rebuild);
+    }
+
+    /**
+     * 카탈로그가 변경되면 백그라운드에서 색인을 재생성합니다.
+     * 재생성이 끝날 때까지는 이전 스냅샷으로 검색합니다.
+     */
+    @EventListener
+    public void onCatalogChanged(WelfareCatalogChangedEvent event) {
+        initialize();
+    }
+
+    /**
+     * welfare_services 테이블을 다시 읽어 색인을 재생성합니다.
+     */
+    public synchronized void rebuild() {
+        try {
+            long startedAt = System.currentTimeMillis();
+
+            List<WelfareIndexDocument> documents = queryFactory
+                    .select(Projections.constructor(
+                            WelfareIndexDocument.class,
+                            welfareServiceJpaEntity.serviceId,
+                            welfareServiceJpaEntity.serviceName,
+                            welfareServiceJpaEntity.serviceSummary,
+                            welfareServiceJpaEntity.aiSummary,
+                            welfareServiceJpaEntity.serviceContent,
+                            welfareServiceJpaEntity.ctpvNm,
+                            welfareServiceJpaEntity.sggNm,
+                            welfareServiceJpaEntity.lifeCycleArray,
+                            welfareServiceJpaEntity.targetArray,
+                            welfareServiceJpaEntity.interestThemeArray,
+                            welfareServiceJpaEntity.serviceType
+                    ))
+                    .from(welfareServiceJpaEntity)
+                    .orderBy(
+                            welfareServiceJpaEntity.inquiryCount.desc(),
+                            welfareServiceJpaEntity.serviceId.asc()
+                    )
+                    .fetch();
+
+            this.snapshot = Snapshot.of(documents);
+
+            log.info("복지 서비스 검색 색인 생성 완료 - {}건, {}ms",
+                    documents.size(), System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            log.error("복지 서비스 검색 색인 생성 실패 - DB 검색으로 대체합니다.", e);
+        }
+    }
+
+    /**
+     * 색인 사용 가능 여부를 반환합니다.
+     *
+     * @return 색인이 생성되었으면 true
+     */
+    public boolean isReady() {
+        return snapshot != null;
+    }
+
+    /**
+     * 키워드로 복지 서비스 ID를 검색합니다.
+     *
+     * <p>service_name, service_summary, ai_summary, service_content 중 하나라도
+     * 키워드를 포함하면 일치로 판단하며, 조회수 많은 순으로 반환합니다.
+     * 시도/시군구가 주어지면 부분 일치로 지역을 제한합니다.
+     *
+     * @param keyword 검색 키워드 (nullable)
+     * @param sidoName 시도명 (nullable)
+     * @param sigunguName 시군구명 (nullable)
+     * @param limit 조회 개수
+     * @return 복지 서비스 ID 목록 (조회수 많은 순)
+     * @throws IllegalStateException 색인이 아직 준비되지 않은 경우
+     */
+    public List<String> searchByKeyword(String keyword, String sidoName, String sigunguName, int limit) {
+        Snapshot current = requireSnapshot();
+
+        IntPredicate regionFilter = doc ->
+                containsIgnoreCase(current.ctpvNms()[doc], sidoName)
+                        && containsIgnoreCase(current.sggNms()[doc], sigunguName);
+
+        return current.toServiceIds(current.keywordIndex().search(keyword, regionFilter, limit));
+    }
+
+    /**
+     * 패싯 조건으로 복지 서비스 ID를 검색합니다.
+     *
+     * <p>조건별 비트맵을 AND 하여 후보를 구하고, 조회수 많은 순으로 반환합니다.
+     *
+     * @param query 검색 조건
+     * @param limit 조회 개수
+     * @return 복지 서비스 ID 목록 (조회수 많은 순)
+     * @throws IllegalStateException 색인이 아직 준비되지 않은 경우
+     */
+    public List<String> searchByFacets(WelfareFacetQuery query, int limit) {
+        Snapshot current = requireSnapshot();
+        BitSet matched = current.facetIndex().match(query);
+
+        List<String> ids = new ArrayList<>(Math.min(limit, matched.cardinality()));
+        for (int doc = matched.nextSetBit(0); doc >= 0 && ids.size() < limit; doc = matched.nextSetBit(doc + 1)) {
+            ids.add(current.serviceIds()[doc]);
+        }
+        return ids;
+    }
+
+    /**
+     * 패싯 조건에 맞는 복지 서비스 개수를 반환합니다.
+     *
+     * @param query 검색 조건
+     * @return 조건에 맞는 복지 서비스 개수
+     * @throws IllegalStateException 색인이 아직 준비되지 않은 경우
+     */
+    public long countByFacets(WelfareFacetQuery query) {
+        return requireSnapshot().facetIndex().match(query).cardinality();
+    }
+
+    /**
+     * 사용자 프로필 전체로 한 번에 추천 후보를 구하고 점수순으로 정렬합니다.
+     *
+     * <p>후보는 생애주기 ∧ 지역 ∧ (가구상태 중 하나) ∧ (관심 테마 중 하나)이며,
+     * 점수는 일치한 가구상태/관심 테마 수입니다.
+     *
+     * @param query 추천 조건
+     * @param limit 조회 개수
+     * @return 추천 결과
+     * @throws IllegalStateException 색인이 아직 준비되지 않은 경우
+     */
+    public WelfareRecommendationResult recommend(WelfareRecommendationQuery query, int limit) {
+        Snapshot current = requireSnapshot();
+        return recommend(current.facetIndex(), current.serviceIds(), query, limit);
+    }
+
+    /**
+     * 주어진 문서 목록만으로 추천 결과를 계산합니다.
+     * 색인이 준비되기 전 DB에서 조회한 후보를 같은 방식으로 점수화할 때 사용합니다.
+     *
+     * @param rankedDocuments 조회수 내림차순으로 정렬된 후보 문서 목록
+     * @param query 추천 조건
+     * @param limit 조회 개수
+     * @return 추천 결과
+     */
+    public static WelfareRecommendationResult recommend(
+            List<WelfareIndexDocument> rankedDocuments,
+            WelfareRecommendationQuery query,
+            int limit
+    ) {
+        String[] serviceIds = rankedDocuments.stream()
+                .map(WelfareIndexDocument::serviceId)
+                .toArray(String[]::new);
+        return recommend(WelfareFacetIndex.build(rankedDocuments), serviceIds, query, limit);
+    }
+
+    private static WelfareRecommendationResult recommend(
+            WelfareFacetIndex facetIndex,
+            String[] serviceIds,
+            WelfareRecommendationQuery query,
+            int limit
+    ) {
+        BitSet candidates = facetIndex.match(new WelfareFacetQuery(
+                query.lifeCycle(), null, null, query.sidoName(), query.sigunguName(), null));
+
+        List<BitSet> statusDocs = query.householdStatuses().stream()
+                .map(facetIndex::householdStatus)
+                .toList();
+        List<BitSet> themeDocs = query.interestThemes().stream()
+                .map(facetIndex::interestTheme)
+                .toList();
+
+        andAnyOf(candidates, statusDocs);
+        andAnyOf(candidates, themeDocs);
+
+        // 후보별 점수 계산 (문서 번호 오름차순 = 조회수 순위)
+        int candidateCount = candidates.cardinality();
+        int[] docs = new int[candidateCount];
+        int[] scores = new int[candidateCount];
+        int maxScore = 0;
+
+        int position = 0;
+        for (int doc = candidates.nextSetBit(0); doc >= 0; doc = candidates.nextSetBit(doc + 1)) {
+            int score = countContaining(statusDocs, doc) + countContaining(themeDocs, doc);
+            docs[position] = doc;
+            scores[position] = score;
+            maxScore = Math.max(maxScore, score);
+            position++;
+        }
+
+        // 점수 내림차순, 같은 점수는 조회수 순위 유지
+        List<WelfareRecommendationResult.Match> matches = new ArrayList<>(Math.min(limit, candidateCount));
+        for (int score = maxScore; score >= 0 && matches.size() < limit; score--) {
+            for (int i = 0; i < candidateCount && matches.size() < limit; i++) {
+                if (scores[i] == score) {
+                    int doc = docs[i];
+                    matches.add(new WelfareRecommendationResult.Match(
+                            serviceIds[doc],
+                            score,
+                            matchedValues(query.householdStatuses(), statusDocs, doc),
+                            matchedValues(query.interestThemes(), themeDocs, doc)
+                    ));
+                }
+            }
+        }
+
+        return new WelfareRecommendationResult(
+                matches,
+                candidateCount,
+                contributions(query.householdStatuses(), statusDocs, candidates),
+                contributions(query.interestThemes(), themeDocs, candidates)
+        );
+    }
+
+    /**
+     * 조건 목록이 비어 있지 않으면 후보를 조건 비트맵들의 합집합으로 제한합니다.
+     */
+    private static void andAnyOf(BitSet candidates, List<BitSet> conditionDocs) {
+        if (conditionDocs.isEmpty()) {
+            return;
+        }
+        BitSet union = new BitSet();
+        conditionDocs.forEach(union::or);
+        candidates.and(union);
+    }
+
+    private static int countContaining(List<BitSet> conditionDocs, int doc) {
+        int count = 0;
+        for (BitSet docs : conditionDocs) {
+            if (docs.get(doc)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static List<String> matchedValues(List<String> values, List<BitSet> conditionDocs, int doc) {
+        List<String> matched = new ArrayList<>();
+        for (int i = 0; i < values.size(); i++) {
+            if (conditionDocs.get(i).get(doc)) {
+                matched.add(values.get(i));
+            }
+        }
+        return matched;
+    }
+
+    /**
+     * 조건 값별로 최종 후보 중 몇 건이 해당 값과 일치하는지 집계합니다.
+     */
+    private static Map<String, Integer> contributions(List<String> values, List<BitSet> conditionDocs, BitSet candidates) {
+        Map<String, Integer> contributions = new LinkedHashMap<>();
+        for (int i = 0; i < values.size(); i++) {
+            BitSet contributed = (BitSet) conditionDocs.get(i).clone();
+            contributed.and(candidates);
+            contributions.put(values.get(i), contributed.cardinality());
+        }
+        return contributions;
+    }
+
+    private Snapshot requireSnapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            throw new IllegalStateException("복지 서비스 검색 색인이 아직 준비되지 않았습니다.");
+        }
+        return current;
+    }
+
+    /**
+     * 조건 값이 비어 있으면 항상 일치, 아니면 부분 일치(대소문자 무시)로 비교합니다.
+     * 컬럼 값이 null이면 DB의 LIKE와 마찬가지로 불일치입니다.
+     */
+    private static boolean containsIgnoreCase(String value, String condition) {
+        if (condition == null || condition.isEmpty()) {
+            return true;
+        }
+        return value != null
+                && WelfareKeywordIndex.normalize(value).contains(WelfareKeywordIndex.normalize(condition));
+    }
+
+    /**
+     * 색인 스냅샷. 문서 번호(조회수 순위)로 각 배열에 접근합니다.
+     */
+    private record Snapshot(
+            String[] serviceIds,
+            String[] ctpvNms,
+            String[] sggNms,
+            WelfareKeywordIndex keywordIndex,
+            WelfareFacetIndex facetIndex
+    ) {
+        static Snapshot of(List<WelfareIndexDocument> documents) {
+            int size = documents.size();
+            String[] serviceIds = new String[size];
+            String[] ctpvNms = new String[size];
+            String[] sggNms = new String[size];
+
+            for (int doc = 0; doc < size; doc++) {
+                WelfareIndexDocument document = documents.get(doc);
+                serviceIds[doc] = document.serviceId();
+                ctpvNms[doc] = document.ctpvNm();
+                sggNms[doc] = document.sggNm();
+            }
+
+            return new Snapshot(
+                    serviceIds,
+                    ctpvNms,
+                    sggNms,
+                    WelfareKeywordIndex.build(documents),
+                    WelfareFacetIndex.build(documents)
+            );
+        }
+
+        List<String> toServiceIds(int[] docs) {
+            List<String> ids = new ArrayList<>(docs.length);
+            for (int doc : docs) {
+                ids.add(serviceIds[doc]);
+            }
+            return ids;
+        }
+    }
+}
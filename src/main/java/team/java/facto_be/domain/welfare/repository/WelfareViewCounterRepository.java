@@ -0,0 +1,10 @@
+package team.java.facto_be.domain.welfare.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import team.java.facto_be.domain.welfare.entity.WelfareViewCounterJpaEntity;
+
+/**
+ * 복지 서비스 조회수 집계 체크포인트 Repository.
+ */
+public interface WelfareViewCounterRepository extends JpaRepository<WelfareViewCounterJpaEntity, String> {
+}
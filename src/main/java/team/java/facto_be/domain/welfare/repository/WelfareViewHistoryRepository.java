@@ -59,4 +59,17 @@ public interface WelfareViewHistoryRepository extends JpaRepository<WelfareViewH
            "ORDER BY viewCount DESC")
     java.util.List<Object[]> findTopViewedServices(@Param("since") LocalDateTime since,
                                                      org.springframework.data.domain.Pageable pageable);
+
+    /**
+     * 기준 시간 이후 로그인 사용자별·서비스별 마지막 조회 시간을 조회합니다.
+     * 조회 이력 중복 판정 맵 초기화에 사용됩니다.
+     *
+     * @param since 기준 시간
+     * @return 사용자 ID, 서비스 ID, 마지막 조회 시간 목록
+     */
+    @Query("SELECT vh.userId, vh.serviceId, MAX(vh.viewedAt) " +
+           "FROM WelfareViewHistoryJpaEntity vh " +
+           "WHERE vh.viewedAt >= :since AND vh.userId IS NOT NULL " +
+           "GROUP BY vh.userId, vh.serviceId")
+    java.util.List<Object[]> findLatestUserViewsSince(@Param("since") LocalDateTime since);
 }
@@ -1,6 +1,11 @@
 package team.java.facto_be.domain.welfare.repository.custom;
 
+import team.java.facto_be.domain.welfare.dto.response.WelfareServiceSummaryResponse;
 import team.java.facto_be.domain.welfare.entity.WelfareServiceJpaEntity;
+import team.java.facto_be.domain.welfare.index.WelfareRecommendationQuery;
+import team.java.facto_be.domain.welfare.index.WelfareRecommendationResult;
+import team.java.facto_be.domain.welfare.repository.projection.WelfareServiceDigest;
+import team.java.facto_be.domain.welfare.repository.projection.WelfareServiceDocumentSource;
 
 import java.util.List;
 
@@ -8,6 +13,8 @@ import java.util.List;
  * 복지 서비스 커스텀 Repository 인터페이스.
  *
  * <p>QueryDSL을 사용한 복잡한 검색 쿼리를 정의합니다.
+ * 목록 조회용 검색은 엔티티 대신 필요한 컬럼만 담은 요약({@code *Summaries})과
+ * 챗봇 출력용({@code *Digests}) 프로젝션 버전을 함께 제공합니다.
  */
 public interface WelfareServiceRepositoryCustom {
 
@@ -36,6 +43,32 @@ public interface WelfareServiceRepositoryCustom {
             int limit
     );
 
+    /**
+     * {@link #searchWelfareServices}와 같은 조건으로 요약 컬럼만 조회합니다.
+     */
+    List<WelfareServiceSummaryResponse> searchWelfareServiceSummaries(
+            String lifeCycleCode,
+            String householdStatusCode,
+            String interestThemeCode,
+            String sidoName,
+            String sigunguName,
+            String serviceType,
+            int limit
+    );
+
+    /**
+     * {@link #searchWelfareServices}와 같은 조건으로 챗봇 출력용 컬럼만 조회합니다.
+     */
+    List<WelfareServiceDigest> searchWelfareServiceDigests(
+            String lifeCycleCode,
+            String householdStatusCode,
+            String interestThemeCode,
+            String sidoName,
+            String sigunguName,
+            String serviceType,
+            int limit
+    );
+
     /**
      * 키워드로 복지 서비스를 검색합니다.
      *
@@ -45,6 +78,22 @@ public interface WelfareServiceRepositoryCustom {
      */
     List<WelfareServiceJpaEntity> searchByKeyword(String keyword, int limit);
 
+    /**
+     * {@link #searchByKeyword}와 같은 조건으로 복지 서비스 ID만 조회합니다.
+     * 상세 캐시에서 엔티티를 꺼내 쓸 때 사용합니다.
+     */
+    List<String> searchIdsByKeyword(String keyword, int limit);
+
+    /**
+     * {@link #searchByKeyword}와 같은 조건으로 요약 컬럼만 조회합니다.
+     */
+    List<WelfareServiceSummaryResponse> searchSummariesByKeyword(String keyword, int limit);
+
+    /**
+     * {@link #searchByKeyword}와 같은 조건으로 챗봇 출력용 컬럼만 조회합니다.
+     */
+    List<WelfareServiceDigest> searchDigestsByKeyword(String keyword, int limit);
+
     /**
      * 지역과 카테고리로 유연하게 복지 서비스를 검색합니다.
      * 지역명은 부분 일치로 검색하고, 카테고리는 선택적으로 적용합니다.
@@ -62,6 +111,26 @@ public interface WelfareServiceRepositoryCustom {
             int limit
     );
 
+    /**
+     * {@link #searchByRegionAndCategory}와 같은 조건으로 요약 컬럼만 조회합니다.
+     */
+    List<WelfareServiceSummaryResponse> searchSummariesByRegionAndCategory(
+            String region,
+            String category,
+            String serviceType,
+            int limit
+    );
+
+    /**
+     * {@link #searchByRegionAndCategory}와 같은 조건으로 챗봇 출력용 컬럼만 조회합니다.
+     */
+    List<WelfareServiceDigest> searchDigestsByRegionAndCategory(
+            String region,
+            String category,
+            String serviceType,
+            int limit
+    );
+
     /**
      * 지역 제약을 유지하면서 키워드로 복지 서비스를 검색합니다.
      * 개인화 추천의 fallback 용도로 사용됩니다.
@@ -79,6 +148,16 @@ public interface WelfareServiceRepositoryCustom {
             int limit
     );
 
+    /**
+     * {@link #searchByKeywordWithRegion}과 같은 조건으로 챗봇 출력용 컬럼만 조회합니다.
+     */
+    List<WelfareServiceDigest> searchDigestsByKeywordWithRegion(
+            String sidoName,
+            String sigunguName,
+            String keyword,
+            int limit
+    );
+
     /**
      * 복지 서비스 개수를 조회합니다 (COUNT 쿼리).
      *
@@ -101,4 +180,45 @@ public interface WelfareServiceRepositoryCustom {
             String sigunguName,
             String serviceType
     );
+
+    /**
+     * 사용자 프로필 전체로 맞춤형 복지 서비스를 한 번에 추천합니다.
+     *
+     * <p>가구상태 × 관심 테마 조합마다 검색하지 않고,
+     * 생애주기 ∧ 지역 ∧ (가구상태 중 하나) ∧ (관심 테마 중 하나) 조건으로 후보를 구한 뒤
+     * 일치한 가구상태/관심 테마 수로 점수를 매겨 정렬합니다.
+     *
+     * @param query 추천 조건
+     * @param limit 조회 개수
+     * @return 점수순 추천 결과 (서비스 ID, 점수, 조건 값별 후보 수)
+     */
+    WelfareRecommendationResult recommendWelfareServices(WelfareRecommendationQuery query, int limit);
+
+    /**
+     * 주어진 ID 순서를 유지하며 복지 서비스를 조회합니다.
+     * 존재하지 않는 ID는 결과에서 제외됩니다.
+     *
+     * @param serviceIds 복지 서비스 ID 목록
+     * @return 복지 서비스 목록 (ID 목록 순서)
+     */
+    List<WelfareServiceJpaEntity> findAllByIdsInOrder(List<String> serviceIds);
+
+    /**
+     * 주어진 ID 순서를 유지하며 요약 컬럼만 조회합니다.
+     *
+     * @param serviceIds 복지 서비스 ID 목록
+     * @return 복지 서비스 요약 목록 (ID 목록 순서)
+     */
+    List<WelfareServiceSummaryResponse> findSummariesByIdsInOrder(List<String> serviceIds);
+
+    /**
+     * 서비스 ID 순으로 벡터 스토어 문서 생성용 컬럼을 한 페이지씩 조회합니다.
+     *
+     * <p>OFFSET 없이 마지막 서비스 ID 이후부터 읽으므로(keyset) 뒤 페이지도 같은 비용으로 조회됩니다.
+     *
+     * @param afterServiceId 이전 페이지의 마지막 서비스 ID (첫 페이지는 null)
+     * @param limit 페이지 크기
+     * @return 문서 생성용 프로젝션 목록 (서비스 ID 오름차순)
+     */
+    List<WelfareServiceDocumentSource> findDocumentSourcesAfter(String afterServiceId, int limit);
 }
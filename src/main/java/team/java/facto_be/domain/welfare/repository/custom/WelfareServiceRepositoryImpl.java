@@ -1,11 +1,29 @@
 package team.java.facto_be.domain.welfare.repository.custom;
 
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.StringExpression;
+import com.querydsl.core.types.dsl.StringPath;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
+import team.java.facto_be.domain.welfare.dto.response.WelfareServiceSummaryResponse;
 import team.java.facto_be.domain.welfare.entity.WelfareServiceJpaEntity;
+import team.java.facto_be.domain.welfare.index.WelfareFacetQuery;
+import team.java.facto_be.domain.welfare.index.WelfareIndexDocument;
+import team.java.facto_be.domain.welfare.index.WelfareRecommendationQuery;
+import team.java.facto_be.domain.welfare.index.WelfareRecommendationResult;
+import team.java.facto_be.domain.welfare.index.WelfareSearchIndex;
+import team.java.facto_be.domain.welfare.repository.projection.WelfareServiceDigest;
+import team.java.facto_be.domain.welfare.repository.projection.WelfareServiceDocumentSource;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static team.java.facto_be.domain.welfare.entity.QWelfareServiceJpaEntity.welfareServiceJpaEntity;
 
@@ -13,11 +31,78 @@ import static team.java.facto_be.domain.welfare.entity.QWelfareServiceJpaEntity.
  * 복지 서비스 커스텀 Repository 구현체.
  *
  * <p>QueryDSL을 사용하여 복잡한 검색 로직을 구현합니다.
+ * 키워드 검색과 패싯 조건 검색/개수 조회는 {@link WelfareSearchIndex}가 준비되어 있으면
+ * 인메모리 색인으로 처리하고, 색인이 준비되기 전에만 DB의 LIKE 검색을 사용합니다.
+ *
+ * <p>각 검색은 엔티티, 요약({@link WelfareServiceSummaryResponse}), 챗봇 출력용({@link WelfareServiceDigest})
+ * 세 가지 형태로 조회할 수 있으며, 검색 조건은 모두 같은 메서드에서 생성합니다.
+ * 목록 조회는 요약/챗봇 프로젝션을 사용하여 불필요한 TEXT 컬럼을 읽지 않습니다.
  */
 @RequiredArgsConstructor
 public class WelfareServiceRepositoryImpl implements WelfareServiceRepositoryCustom {
 
+    /** 색인 준비 전 추천 후보를 DB에서 가져올 때의 최대 건수 */
+    private static final int RECOMMENDATION_CANDIDATE_LIMIT = 1000;
+
+    /** 목록 조회용 요약 컬럼 (8개) */
+    private static final Expression<WelfareServiceSummaryResponse> SUMMARY = Projections.constructor(
+            WelfareServiceSummaryResponse.class,
+            welfareServiceJpaEntity.serviceId,
+            welfareServiceJpaEntity.serviceName,
+            welfareServiceJpaEntity.aiSummary,
+            welfareServiceJpaEntity.ctpvNm,
+            welfareServiceJpaEntity.sggNm,
+            welfareServiceJpaEntity.supportType,
+            welfareServiceJpaEntity.serviceType,
+            welfareServiceJpaEntity.inquiryCount
+    );
+
+    /** 챗봇 목록 출력용 컬럼 (긴 TEXT 컬럼은 출력 길이 + 1자까지만 조회) */
+    private static final Expression<WelfareServiceDigest> DIGEST = Projections.constructor(
+            WelfareServiceDigest.class,
+            welfareServiceJpaEntity.serviceId,
+            welfareServiceJpaEntity.serviceName,
+            clip(welfareServiceJpaEntity.aiSummary, 300),
+            clip(welfareServiceJpaEntity.serviceSummary, 300),
+            welfareServiceJpaEntity.ctpvNm,
+            welfareServiceJpaEntity.sggNm,
+            welfareServiceJpaEntity.organization,
+            welfareServiceJpaEntity.department,
+            welfareServiceJpaEntity.bizChrDeptNm,
+            welfareServiceJpaEntity.supportType,
+            welfareServiceJpaEntity.supportCycle,
+            welfareServiceJpaEntity.applicationMethod,
+            clip(welfareServiceJpaEntity.applicationMethodContent, 200),
+            welfareServiceJpaEntity.lifeCycleArray,
+            welfareServiceJpaEntity.targetArray,
+            welfareServiceJpaEntity.interestThemeArray,
+            clip(welfareServiceJpaEntity.supportTargetContent, 200),
+            clip(welfareServiceJpaEntity.selectionCriteria, 200),
+            clip(welfareServiceJpaEntity.serviceContent, 300),
+            clip(welfareServiceJpaEntity.requiredDocuments, 150),
+            clip(welfareServiceJpaEntity.etc, 150),
+            welfareServiceJpaEntity.contact,
+            welfareServiceJpaEntity.detailLink
+    );
+
+    /** 벡터 스토어 문서 생성용 컬럼 (9개) */
+    private static final Expression<WelfareServiceDocumentSource> DOCUMENT_SOURCE = Projections.constructor(
+            WelfareServiceDocumentSource.class,
+            welfareServiceJpaEntity.serviceId,
+            welfareServiceJpaEntity.serviceName,
+            welfareServiceJpaEntity.aiSummary,
+            welfareServiceJpaEntity.serviceSummary,
+            welfareServiceJpaEntity.serviceContent,
+            welfareServiceJpaEntity.ctpvNm,
+            welfareServiceJpaEntity.sggNm,
+            welfareServiceJpaEntity.serviceType,
+            welfareServiceJpaEntity.lifeCycleArray
+    );
+
     private final JPAQueryFactory queryFactory;
+    private final WelfareSearchIndex welfareSearchIndex;
+
+    // ===== 패싯 조건 검색 =====
 
     @Override
     public List<WelfareServiceJpaEntity> searchWelfareServices(
@@ -29,78 +114,182 @@ public class WelfareServiceRepositoryImpl implements WelfareServiceRepositoryCus
             String serviceType,
             int limit
     ) {
-        BooleanBuilder builder = new BooleanBuilder();
+        return searchWelfareServices(welfareServiceJpaEntity, WelfareServiceJpaEntity::getServiceId,
+                lifeCycleCode, householdStatusCode, interestThemeCode, sidoName, sigunguName, serviceType, limit);
+    }
 
-        // 생애주기 필터 (공백 제거 후 매칭)
-        if (lifeCycleCode != null && !lifeCycleCode.isEmpty()) {
-            String normalized = lifeCycleCode.replace(" ", "").replace("·", "·");
-            builder.and(
-                welfareServiceJpaEntity.lifeCycleArray.contains(lifeCycleCode)
-                    .or(welfareServiceJpaEntity.lifeCycleArray.contains(normalized))
-                    .or(welfareServiceJpaEntity.lifeCycleArray.contains(lifeCycleCode.replace("·", " · ")))
-            );
+    @Override
+    public List<WelfareServiceSummaryResponse> searchWelfareServiceSummaries(
+            String lifeCycleCode,
+            String householdStatusCode,
+            String interestThemeCode,
+            String sidoName,
+            String sigunguName,
+            String serviceType,
+            int limit
+    ) {
+        return searchWelfareServices(SUMMARY, WelfareServiceSummaryResponse::serviceId,
+                lifeCycleCode, householdStatusCode, interestThemeCode, sidoName, sigunguName, serviceType, limit);
+    }
+
+    @Override
+    public List<WelfareServiceDigest> searchWelfareServiceDigests(
+            String lifeCycleCode,
+            String householdStatusCode,
+            String interestThemeCode,
+            String sidoName,
+            String sigunguName,
+            String serviceType,
+            int limit
+    ) {
+        return searchWelfareServices(DIGEST, WelfareServiceDigest::serviceId,
+                lifeCycleCode, householdStatusCode, interestThemeCode, sidoName, sigunguName, serviceType, limit);
+    }
+
+    private <T> List<T> searchWelfareServices(
+            Expression<T> projection,
+            Function<T, String> idOf,
+            String lifeCycleCode,
+            String householdStatusCode,
+            String interestThemeCode,
+            String sidoName,
+            String sigunguName,
+            String serviceType,
+            int limit
+    ) {
+        if (welfareSearchIndex.isReady()) {
+            WelfareFacetQuery query = new WelfareFacetQuery(
+                    lifeCycleCode, householdStatusCode, interestThemeCode, sidoName, sigunguName, serviceType);
+            return findAllByIdsInOrder(projection, idOf, welfareSearchIndex.searchByFacets(query, limit));
         }
 
-        // 대상 필터 (공백 제거 후 매칭)
-        if (householdStatusCode != null && !householdStatusCode.isEmpty()) {
-            String normalized = householdStatusCode.replace(" ", "");
-            builder.and(
-                welfareServiceJpaEntity.targetArray.contains(householdStatusCode)
-                    .or(welfareServiceJpaEntity.targetArray.contains(normalized))
-                    .or(welfareServiceJpaEntity.targetArray.contains(householdStatusCode.replace("·", " · ")))
-            );
+        return queryFactory
+                .select(projection)
+                .from(welfareServiceJpaEntity)
+                .where(facetCondition(lifeCycleCode, householdStatusCode, interestThemeCode,
+                        sidoName, sigunguName, serviceType))
+                .orderBy(welfareServiceJpaEntity.inquiryCount.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    // ===== 키워드 검색 =====
+
+    @Override
+    public List<WelfareServiceJpaEntity> searchByKeyword(String keyword, int limit) {
+        return searchByKeyword(welfareServiceJpaEntity, WelfareServiceJpaEntity::getServiceId,
+                keyword, null, null, limit);
+    }
+
+    @Override
+    public List<String> searchIdsByKeyword(String keyword, int limit) {
+        if (welfareSearchIndex.isReady()) {
+            return welfareSearchIndex.searchByKeyword(keyword, null, null, limit);
         }
+        return searchByKeyword(welfareServiceJpaEntity.serviceId, Function.identity(), keyword, null, null, limit);
+    }
 
-        // 관심 테마 필터 (공백 제거 후 매칭)
-        if (interestThemeCode != null && !interestThemeCode.isEmpty()) {
-            String normalized = interestThemeCode.replace(" ", "");
-            builder.and(
-                welfareServiceJpaEntity.interestThemeArray.contains(interestThemeCode)
-                    .or(welfareServiceJpaEntity.interestThemeArray.contains(normalized))
-                    .or(welfareServiceJpaEntity.interestThemeArray.contains(interestThemeCode.replace("·", " · ")))
-            );
+    @Override
+    public List<WelfareServiceSummaryResponse> searchSummariesByKeyword(String keyword, int limit) {
+        return searchByKeyword(SUMMARY, WelfareServiceSummaryResponse::serviceId, keyword, null, null, limit);
+    }
+
+    @Override
+    public List<WelfareServiceDigest> searchDigestsByKeyword(String keyword, int limit) {
+        return searchByKeyword(DIGEST, WelfareServiceDigest::serviceId, keyword, null, null, limit);
+    }
+
+    @Override
+    public List<WelfareServiceJpaEntity> searchByKeywordWithRegion(
+            String sidoName,
+            String sigunguName,
+            String keyword,
+            int limit
+    ) {
+        return searchByKeyword(welfareServiceJpaEntity, WelfareServiceJpaEntity::getServiceId,
+                keyword, sidoName, sigunguName, limit);
+    }
+
+    @Override
+    public List<WelfareServiceDigest> searchDigestsByKeywordWithRegion(
+            String sidoName,
+            String sigunguName,
+            String keyword,
+            int limit
+    ) {
+        return searchByKeyword(DIGEST, WelfareServiceDigest::serviceId, keyword, sidoName, sigunguName, limit);
+    }
+
+    private <T> List<T> searchByKeyword(
+            Expression<T> projection,
+            Function<T, String> idOf,
+            String keyword,
+            String sidoName,
+            String sigunguName,
+            int limit
+    ) {
+        if (welfareSearchIndex.isReady()) {
+            return findAllByIdsInOrder(projection, idOf,
+                    welfareSearchIndex.searchByKeyword(keyword, sidoName, sigunguName, limit));
         }
 
-        // 시도 필터 (부분 일치로 변경 - "대전" <-> "대전광역시" 매칭)
+        BooleanBuilder builder = new BooleanBuilder();
+
+        // 키워드 필터 (필수)
+        builder.and(keywordContains(keyword));
+
+        // 지역 필터 (부분 일치) - 시도 또는 시군구가 있으면 해당 지역으로 제한
         if (sidoName != null && !sidoName.isEmpty()) {
             builder.and(welfareServiceJpaEntity.ctpvNm.contains(sidoName));
         }
 
-        // 시군구 필터 (부분 일치)
         if (sigunguName != null && !sigunguName.isEmpty()) {
             builder.and(welfareServiceJpaEntity.sggNm.contains(sigunguName));
         }
 
-        // 서비스 타입 필터 (CENTRAL, LOCAL, PRIVATE)
-        if (serviceType != null && !serviceType.isEmpty()) {
-            builder.and(welfareServiceJpaEntity.serviceType.eq(serviceType));
-        }
-
         return queryFactory
-                .selectFrom(welfareServiceJpaEntity)
+                .select(projection)
+                .from(welfareServiceJpaEntity)
                 .where(builder)
                 .orderBy(welfareServiceJpaEntity.inquiryCount.desc())
                 .limit(limit)
                 .fetch();
     }
 
+    // ===== 지역 + 카테고리 검색 =====
+
     @Override
-    public List<WelfareServiceJpaEntity> searchByKeyword(String keyword, int limit) {
-        return queryFactory
-                .selectFrom(welfareServiceJpaEntity)
-                .where(
-                        welfareServiceJpaEntity.serviceName.contains(keyword)
-                                .or(welfareServiceJpaEntity.serviceSummary.contains(keyword))
-                                .or(welfareServiceJpaEntity.aiSummary.contains(keyword))
-                                .or(welfareServiceJpaEntity.serviceContent.contains(keyword))
-                )
-                .orderBy(welfareServiceJpaEntity.inquiryCount.desc())
-                .limit(limit)
-                .fetch();
+    public List<WelfareServiceJpaEntity> searchByRegionAndCategory(
+            String region,
+            String category,
+            String serviceType,
+            int limit
+    ) {
+        return searchByRegionAndCategory(welfareServiceJpaEntity, region, category, serviceType, limit);
     }
 
     @Override
-    public List<WelfareServiceJpaEntity> searchByRegionAndCategory(
+    public List<WelfareServiceSummaryResponse> searchSummariesByRegionAndCategory(
+            String region,
+            String category,
+            String serviceType,
+            int limit
+    ) {
+        return searchByRegionAndCategory(SUMMARY, region, category, serviceType, limit);
+    }
+
+    @Override
+    public List<WelfareServiceDigest> searchDigestsByRegionAndCategory(
+            String region,
+            String category,
+            String serviceType,
+            int limit
+    ) {
+        return searchByRegionAndCategory(DIGEST, region, category, serviceType, limit);
+    }
+
+    private <T> List<T> searchByRegionAndCategory(
+            Expression<T> projection,
             String region,
             String category,
             String serviceType,
@@ -116,13 +305,10 @@ public class WelfareServiceRepositoryImpl implements WelfareServiceRepositoryCus
             );
         }
 
-        // 카테고리 필터 (서비스명, 요약, 내용에서 검색)
+        // 카테고리 필터 (서비스명, 요약, 내용, 대상 코드에서 검색)
         if (category != null && !category.isEmpty()) {
             builder.and(
-                    welfareServiceJpaEntity.serviceName.contains(category)
-                            .or(welfareServiceJpaEntity.serviceSummary.contains(category))
-                            .or(welfareServiceJpaEntity.aiSummary.contains(category))
-                            .or(welfareServiceJpaEntity.serviceContent.contains(category))
+                    keywordContains(category)
                             .or(welfareServiceJpaEntity.lifeCycleArray.contains(category))
                             .or(welfareServiceJpaEntity.targetArray.contains(category))
                             .or(welfareServiceJpaEntity.interestThemeArray.contains(category))
@@ -135,51 +321,145 @@ public class WelfareServiceRepositoryImpl implements WelfareServiceRepositoryCus
         }
 
         return queryFactory
-                .selectFrom(welfareServiceJpaEntity)
+                .select(projection)
+                .from(welfareServiceJpaEntity)
                 .where(builder)
                 .orderBy(welfareServiceJpaEntity.inquiryCount.desc())
                 .limit(limit)
                 .fetch();
     }
 
+    // ===== 개수 조회 =====
+
     @Override
-    public List<WelfareServiceJpaEntity> searchByKeywordWithRegion(
+    public long countWelfareServices(
+            String lifeCycleCode,
+            String householdStatusCode,
+            String interestThemeCode,
             String sidoName,
             String sigunguName,
-            String keyword,
-            int limit
+            String serviceType
     ) {
-        BooleanBuilder builder = new BooleanBuilder();
-
-        // 키워드 필터 (필수)
-        if (keyword != null && !keyword.isEmpty()) {
-            builder.and(
-                    welfareServiceJpaEntity.serviceName.contains(keyword)
-                            .or(welfareServiceJpaEntity.serviceSummary.contains(keyword))
-                            .or(welfareServiceJpaEntity.aiSummary.contains(keyword))
-                            .or(welfareServiceJpaEntity.serviceContent.contains(keyword))
-            );
+        if (welfareSearchIndex.isReady()) {
+            return welfareSearchIndex.countByFacets(new WelfareFacetQuery(
+                    lifeCycleCode, householdStatusCode, interestThemeCode, sidoName, sigunguName, serviceType));
         }
 
-        // 지역 필터 (부분 일치) - 시도 또는 시군구가 있으면 해당 지역으로 제한
-        if (sidoName != null && !sidoName.isEmpty()) {
-            builder.and(welfareServiceJpaEntity.ctpvNm.contains(sidoName));
-        }
+        return queryFactory
+                .select(welfareServiceJpaEntity.count())
+                .from(welfareServiceJpaEntity)
+                .where(facetCondition(lifeCycleCode, householdStatusCode, interestThemeCode,
+                        sidoName, sigunguName, serviceType))
+                .fetchOne();
+    }
 
-        if (sigunguName != null && !sigunguName.isEmpty()) {
-            builder.and(welfareServiceJpaEntity.sggNm.contains(sigunguName));
+    // ===== 프로필 기반 추천 =====
+
+    @Override
+    public WelfareRecommendationResult recommendWelfareServices(WelfareRecommendationQuery query, int limit) {
+        if (welfareSearchIndex.isReady()) {
+            return welfareSearchIndex.recommend(query, limit);
         }
 
-        return queryFactory
-                .selectFrom(welfareServiceJpaEntity)
+        BooleanBuilder builder = facetCondition(
+                query.lifeCycle(), null, null, query.sidoName(), query.sigunguName(), null);
+        builder.and(anyArrayContains(welfareServiceJpaEntity.targetArray, query.householdStatuses()));
+        builder.and(anyArrayContains(welfareServiceJpaEntity.interestThemeArray, query.interestThemes()));
+
+        // 점수 계산에 필요한 패싯 컬럼만 조회
+        List<WelfareIndexDocument> candidates = queryFactory
+                .select(
+                        welfareServiceJpaEntity.serviceId,
+                        welfareServiceJpaEntity.ctpvNm,
+                        welfareServiceJpaEntity.sggNm,
+                        welfareServiceJpaEntity.lifeCycleArray,
+                        welfareServiceJpaEntity.targetArray,
+                        welfareServiceJpaEntity.interestThemeArray,
+                        welfareServiceJpaEntity.serviceType
+                )
+                .from(welfareServiceJpaEntity)
                 .where(builder)
                 .orderBy(welfareServiceJpaEntity.inquiryCount.desc())
+                .limit(RECOMMENDATION_CANDIDATE_LIMIT)
+                .fetch()
+                .stream()
+                .map(this::toFacetDocument)
+                .toList();
+
+        return WelfareSearchIndex.recommend(candidates, query, limit);
+    }
+
+    private WelfareIndexDocument toFacetDocument(Tuple tuple) {
+        return new WelfareIndexDocument(
+                tuple.get(welfareServiceJpaEntity.serviceId),
+                null,
+                null,
+                null,
+                null,
+                tuple.get(welfareServiceJpaEntity.ctpvNm),
+                tuple.get(welfareServiceJpaEntity.sggNm),
+                tuple.get(welfareServiceJpaEntity.lifeCycleArray),
+                tuple.get(welfareServiceJpaEntity.targetArray),
+                tuple.get(welfareServiceJpaEntity.interestThemeArray),
+                tuple.get(welfareServiceJpaEntity.serviceType)
+        );
+    }
+
+    // ===== ID 목록 조회 =====
+
+    @Override
+    public List<WelfareServiceJpaEntity> findAllByIdsInOrder(List<String> serviceIds) {
+        return findAllByIdsInOrder(welfareServiceJpaEntity, WelfareServiceJpaEntity::getServiceId, serviceIds);
+    }
+
+    @Override
+    public List<WelfareServiceSummaryResponse> findSummariesByIdsInOrder(List<String> serviceIds) {
+        return findAllByIdsInOrder(SUMMARY, WelfareServiceSummaryResponse::serviceId, serviceIds);
+    }
+
+    // ===== 벡터 스토어 문서 조회 =====
+
+    @Override
+    public List<WelfareServiceDocumentSource> findDocumentSourcesAfter(String afterServiceId, int limit) {
+        return queryFactory
+                .select(DOCUMENT_SOURCE)
+                .from(welfareServiceJpaEntity)
+                .where(afterServiceId == null ? null : welfareServiceJpaEntity.serviceId.gt(afterServiceId))
+                .orderBy(welfareServiceJpaEntity.serviceId.asc())
                 .limit(limit)
                 .fetch();
     }
 
-    @Override
-    public long countWelfareServices(
+    /**
+     * 색인이 반환한 ID 순서(조회수 순)를 유지하며 조회합니다.
+     * 색인 생성 이후 삭제된 서비스는 결과에서 제외됩니다.
+     */
+    private <T> List<T> findAllByIdsInOrder(Expression<T> projection, Function<T, String> idOf, List<String> serviceIds) {
+        if (serviceIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<String, T> rowsById = queryFactory
+                .select(projection)
+                .from(welfareServiceJpaEntity)
+                .where(welfareServiceJpaEntity.serviceId.in(serviceIds))
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(idOf, Function.identity()));
+
+        return serviceIds.stream()
+                .map(rowsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    // ===== 검색 조건 =====
+
+    /**
+     * 색인이 준비되기 전 DB 검색에 사용할 패싯 조건을 생성합니다.
+     * 배열 컬럼은 원문, 공백 제거, " · " 표기를 모두 시도합니다.
+     */
+    private BooleanBuilder facetCondition(
             String lifeCycleCode,
             String householdStatusCode,
             String interestThemeCode,
@@ -189,37 +469,12 @@ public class WelfareServiceRepositoryImpl implements WelfareServiceRepositoryCus
     ) {
         BooleanBuilder builder = new BooleanBuilder();
 
-        // 생애주기 필터 (공백 제거 후 매칭)
-        if (lifeCycleCode != null && !lifeCycleCode.isEmpty()) {
-            String normalized = lifeCycleCode.replace(" ", "").replace("·", "·");
-            builder.and(
-                    welfareServiceJpaEntity.lifeCycleArray.contains(lifeCycleCode)
-                            .or(welfareServiceJpaEntity.lifeCycleArray.contains(normalized))
-                            .or(welfareServiceJpaEntity.lifeCycleArray.contains(lifeCycleCode.replace("·", " · ")))
-            );
-        }
-
-        // 대상 필터 (공백 제거 후 매칭)
-        if (householdStatusCode != null && !householdStatusCode.isEmpty()) {
-            String normalized = householdStatusCode.replace(" ", "");
-            builder.and(
-                    welfareServiceJpaEntity.targetArray.contains(householdStatusCode)
-                            .or(welfareServiceJpaEntity.targetArray.contains(normalized))
-                            .or(welfareServiceJpaEntity.targetArray.contains(householdStatusCode.replace("·", " · ")))
-            );
-        }
+        // 생애주기 / 대상 / 관심 테마 필터 (공백 제거 후 매칭)
+        builder.and(arrayContains(welfareServiceJpaEntity.lifeCycleArray, lifeCycleCode));
+        builder.and(arrayContains(welfareServiceJpaEntity.targetArray, householdStatusCode));
+        builder.and(arrayContains(welfareServiceJpaEntity.interestThemeArray, interestThemeCode));
 
-        // 관심 테마 필터 (공백 제거 후 매칭)
-        if (interestThemeCode != null && !interestThemeCode.isEmpty()) {
-            String normalized = interestThemeCode.replace(" ", "");
-            builder.and(
-                    welfareServiceJpaEntity.interestThemeArray.contains(interestThemeCode)
-                            .or(welfareServiceJpaEntity.interestThemeArray.contains(normalized))
-                            .or(welfareServiceJpaEntity.interestThemeArray.contains(interestThemeCode.replace("·", " · ")))
-            );
-        }
-
-        // 시도 필터 (부분 일치)
+        // 시도 필터 (부분 일치로 변경 - "대전" <-> "대전광역시" 매칭)
         if (sidoName != null && !sidoName.isEmpty()) {
             builder.and(welfareServiceJpaEntity.ctpvNm.contains(sidoName));
         }
@@ -229,15 +484,51 @@ public class WelfareServiceRepositoryImpl implements WelfareServiceRepositoryCus
             builder.and(welfareServiceJpaEntity.sggNm.contains(sigunguName));
         }
 
-        // 서비스 타입 필터
+        // 서비스 타입 필터 (CENTRAL, LOCAL, PRIVATE)
         if (serviceType != null && !serviceType.isEmpty()) {
             builder.and(welfareServiceJpaEntity.serviceType.eq(serviceType));
         }
 
-        return queryFactory
-                .select(welfareServiceJpaEntity.count())
-                .from(welfareServiceJpaEntity)
-                .where(builder)
-                .fetchOne();
+        return builder;
+    }
+
+    private BooleanExpression arrayContains(StringPath column, String code) {
+        if (code == null || code.isEmpty()) {
+            return null;
+        }
+        return column.contains(code)
+                .or(column.contains(code.replace(" ", "")))
+                .or(column.contains(code.replace("·", " · ")));
+    }
+
+    /**
+     * 값 목록 중 하나라도 배열 컬럼에 포함되면 일치하는 조건을 생성합니다.
+     * 목록이 비어 있으면 조건을 적용하지 않습니다.
+     */
+    private BooleanBuilder anyArrayContains(StringPath column, List<String> codes) {
+        BooleanBuilder anyOf = new BooleanBuilder();
+        codes.forEach(code -> anyOf.or(arrayContains(column, code)));
+        return anyOf;
+    }
+
+    /**
+     * 서비스명, 서비스 요약, AI 요약, 서비스 내용 중 하나라도 키워드를 포함하는 조건을 생성합니다.
+     */
+    private BooleanExpression keywordContains(String keyword) {
+        if (keyword == null || keyword.isEmpty()) {
+            return null;
+        }
+        return welfareServiceJpaEntity.serviceName.contains(keyword)
+                .or(welfareServiceJpaEntity.serviceSummary.contains(keyword))
+                .or(welfareServiceJpaEntity.aiSummary.contains(keyword))
+                .or(welfareServiceJpaEntity.serviceContent.contains(keyword));
+    }
+
+    /**
+     * TEXT 컬럼의 앞부분만 조회합니다.
+     * 출력 길이보다 한 글자 더 가져오므로 출력 측에서 생략 여부를 판단할 수 있습니다.
+     */
+    private static StringExpression clip(StringPath column, int displayLength) {
+        return column.substring(0, displayLength + 1);
     }
 }
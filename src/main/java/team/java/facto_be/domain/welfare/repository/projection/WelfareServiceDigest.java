@@ -0,0 +1,35 @@
+package team.java.facto_be.domain.welfare.repository.projection;
+
+/**
+ * 챗봇 검색 결과 요약 출력용 복지 서비스 프로젝션.
+ *
+ * <p>목록 형태의 도구 응답에 필요한 컬럼만 조회하며,
+ * 긴 TEXT 컬럼은 출력 시 잘라 쓰는 길이보다 한 글자 더 긴 앞부분만 DB에서 가져옵니다.
+ * 따라서 출력 측에서 길이를 비교해 생략 표시("...")를 붙이는 동작은 그대로 유지됩니다.
+ */
+public record WelfareServiceDigest(
+        String serviceId,
+        String serviceName,
+        String aiSummary,
+        String serviceSummary,
+        String ctpvNm,
+        String sggNm,
+        String organization,
+        String department,
+        String bizChrDeptNm,
+        String supportType,
+        String supportCycle,
+        String applicationMethod,
+        String applicationMethodContent,
+        String lifeCycleArray,
+        String targetArray,
+        String interestThemeArray,
+        String supportTargetContent,
+        String selectionCriteria,
+        String serviceContent,
+        String requiredDocuments,
+        String etc,
+        String contact,
+        String detailLink
+) {
+}
@@ -0,0 +1,20 @@
+package team.java.facto_be.domain.welfare.repository.projection;
+
+/**
+ * 벡터 스토어 문서 생성용 복지 서비스 프로젝션.
+ *
+ * <p>임베딩 문서 본문과 메타데이터에 쓰이는 컬럼만 조회하여,
+ * 전체 재색인 시 엔티티 전체(수십 개의 TEXT 컬럼)를 메모리에 올리지 않도록 합니다.
+ */
+public record WelfareServiceDocumentSource(
+        String serviceId,
+        String serviceName,
+        String aiSummary,
+        String serviceSummary,
+        String serviceContent,
+        String ctpvNm,
+        String sggNm,
+        String serviceType,
+        String lifeCycleArray
+) {
+}
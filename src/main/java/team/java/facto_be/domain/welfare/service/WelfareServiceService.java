@@ -10,17 +10,23 @@ import team.java.facto_be.domain.user.entity.UserJpaEntity;
 import team.java.facto_be.domain.user.entity.UserProfileHistoryJpaEntity;
 import team.java.facto_be.domain.user.facade.UserFacade;
 import team.java.facto_be.domain.user.repository.UserProfileHistoryRepository;
+import team.java.facto_be.domain.welfare.cache.WelfareServiceDetailCache;
+import team.java.facto_be.domain.welfare.dto.response.RecommendedWelfareServiceResponse;
 import team.java.facto_be.domain.welfare.dto.response.RegionComparisonResponse;
+import team.java.facto_be.domain.welfare.dto.response.WelfareRecommendationResponse;
 import team.java.facto_be.domain.welfare.dto.response.WelfareServiceResponse;
 import team.java.facto_be.domain.welfare.dto.response.WelfareServiceSummaryResponse;
-import team.java.facto_be.domain.welfare.entity.WelfareServiceJpaEntity;
-import team.java.facto_be.domain.welfare.entity.WelfareViewHistoryJpaEntity;
+import team.java.facto_be.domain.welfare.history.WelfareViewCounter;
+import team.java.facto_be.domain.welfare.history.WelfareViewHistoryRecorder;
+import team.java.facto_be.domain.welfare.index.WelfareRecommendationQuery;
+import team.java.facto_be.domain.welfare.index.WelfareRecommendationResult;
 import team.java.facto_be.domain.welfare.repository.WelfareServiceRepository;
 import team.java.facto_be.domain.welfare.repository.WelfareViewHistoryRepository;
 
-import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 복지 서비스 비즈니스 로직 서비스.
@@ -39,6 +45,9 @@ public class WelfareServiceService {
     private final ObjectMapper objectMapper;
     private final UserProfileHistoryRepository userProfileHistoryRepository;
     private final WelfareViewHistoryRepository welfareViewHistoryRepository;
+    private final WelfareServiceDetailCache welfareServiceDetailCache;
+    private final WelfareViewHistoryRecorder welfareViewHistoryRecorder;
+    private final WelfareViewCounter welfareViewCounter;
 
     /**
      * 서비스 이름으로 복지 서비스를 검색합니다.
@@ -54,12 +63,8 @@ public class WelfareServiceService {
             limit = DEFAULT_LIMIT;
         }
 
-        // 키워드로 검색
-        List<WelfareServiceJpaEntity> results = welfareServiceRepository.searchByKeyword(keyword, limit);
-
-        return results.stream()
-                .map(WelfareServiceSummaryResponse::from)
-                .toList();
+        // 키워드로 검색 (요약 컬럼만 조회)
+        return welfareServiceRepository.searchSummariesByKeyword(keyword, limit);
     }
 
     /**
@@ -150,62 +155,88 @@ public class WelfareServiceService {
     }
 
     /**
-     * 복지 서비스 상세 정보를 조회하고 조회 이력을 저장합니다.
+     * 복지 서비스 상세 정보를 조회하고 조회 이력을 기록합니다.
+     *
+     * <p>조회 이력은 {@link WelfareViewHistoryRecorder}의 큐에 넣기만 하고 비동기로 저장되므로
+     * 상세 조회는 이력 저장을 기다리지 않습니다.
+     * 조회수는 {@link WelfareViewCounter}의 메모리 집계에서 읽습니다.
+     * 트랜잭션을 열지 않으므로 캐시에 있는 서비스는 DB 커넥션 없이 응답합니다.
      *
      * @param serviceId 복지 서비스 ID
      * @return 복지 서비스 상세 정보
      * @throws IllegalArgumentException 서비스를 찾을 수 없는 경우
      */
-    @Transactional
     public WelfareServiceResponse getWelfareServiceDetail(String serviceId) {
-        WelfareServiceJpaEntity service = welfareServiceRepository
-                .findById(serviceId)
+        WelfareServiceResponse service = welfareServiceDetailCache
+                .findResponse(serviceId)
                 .orElseThrow(() -> new IllegalArgumentException("복지 서비스를 찾을 수 없습니다: " + serviceId));
 
-        // 조회 이력 저장 (중복 방지: 24시간 내 동일 사용자의 재조회는 기록하지 않음)
+        // 조회 이력 기록 (중복 방지: 24시간 내 동일 사용자의 재조회는 기록하지 않음)
+        welfareViewHistoryRecorder.record(serviceId, currentUserIdOrNull());
+
+        // 조회수 (집계 복원 전에는 조회 이력 COUNT로 대체)
+        long viewCount = welfareViewCounter.isReady()
+                ? welfareViewCounter.totalViews(serviceId)
+                : welfareViewHistoryRepository.countByServiceId(serviceId);
+
+        return service.withViewCount((int) viewCount);
+    }
+
+    /**
+     * 로그인 사용자 ID를 반환합니다. 비로그인 사용자는 null입니다.
+     */
+    private Long currentUserIdOrNull() {
         try {
-            UserJpaEntity user = userFacade.currentUser();
-            LocalDateTime oneDayAgo = LocalDateTime.now().minusHours(24);
-
-            // 24시간 내 중복 조회 확인
-            boolean isDuplicate = welfareViewHistoryRepository
-                    .findFirstByUserIdAndServiceIdAndViewedAtAfterOrderByViewedAtDesc(
-                            user.getId(), serviceId, oneDayAgo
-                    )
-                    .isPresent();
-
-            if (!isDuplicate) {
-                WelfareViewHistoryJpaEntity viewHistory = WelfareViewHistoryJpaEntity.builder()
-                        .serviceId(serviceId)
-                        .userId(user.getId())
-                        .viewedAt(LocalDateTime.now())
-                        .build();
-                welfareViewHistoryRepository.save(viewHistory);
-            }
+            return userFacade.currentUser().getId();
         } catch (Exception e) {
-            // 비로그인 사용자의 경우 userId 없이 저장
-            WelfareViewHistoryJpaEntity viewHistory = WelfareViewHistoryJpaEntity.builder()
-                    .serviceId(serviceId)
-                    .userId(null)
-                    .viewedAt(LocalDateTime.now())
-                    .build();
-            welfareViewHistoryRepository.save(viewHistory);
+            return null;
         }
-
-        // 실시간 조회수 계산
-        long viewCount = welfareViewHistoryRepository.countByServiceId(serviceId);
-
-        return WelfareServiceResponse.from(service, (int) viewCount);
     }
 
     /**
      * 현재 로그인한 사용자의 프로필 정보를 기반으로 맞춤형 복지 서비스 목록을 조회합니다.
      *
+     * <p>프로필 전체(생애주기, 가구상태 목록, 관심테마 목록, 지역)로 한 번에 후보를 구하고,
+     * 일치한 가구상태/관심테마가 많은 순, 같으면 조회수 많은 순으로 반환합니다.
+     *
      * @param limit 조회 개수 (선택, 기본값: 50, 최대: 100)
      * @return 맞춤형 복지 서비스 목록 (요약)
      */
     @Transactional(readOnly = true)
     public List<WelfareServiceSummaryResponse> getRecommendedWelfareServices(Integer limit) {
+        WelfareRecommendationResult result = recommend(limit);
+
+        return welfareServiceRepository.findSummariesByIdsInOrder(result.serviceIds());
+    }
+
+    /**
+     * 현재 로그인한 사용자 맞춤형 복지 서비스를 점수와 함께 조회합니다.
+     *
+     * @param limit 조회 개수 (선택, 기본값: 50, 최대: 100)
+     * @return 점수순 추천 목록과 가구상태/관심테마 값별 후보 수
+     */
+    @Transactional(readOnly = true)
+    public WelfareRecommendationResponse getWelfareRecommendations(Integer limit) {
+        WelfareRecommendationResult result = recommend(limit);
+
+        Map<String, WelfareServiceSummaryResponse> servicesById = welfareServiceRepository
+                .findSummariesByIdsInOrder(result.serviceIds()).stream()
+                .collect(Collectors.toMap(WelfareServiceSummaryResponse::serviceId, Function.identity()));
+
+        List<RecommendedWelfareServiceResponse> services = result.matches().stream()
+                .filter(match -> servicesById.containsKey(match.serviceId()))
+                .map(match -> RecommendedWelfareServiceResponse.of(servicesById.get(match.serviceId()), match))
+                .toList();
+
+        return new WelfareRecommendationResponse(
+                services,
+                result.candidateCount(),
+                result.householdStatusContributions(),
+                result.interestThemeContributions()
+        );
+    }
+
+    private WelfareRecommendationResult recommend(Integer limit) {
         // 현재 사용자 정보 가져오기
         UserJpaEntity user = userFacade.currentUser();
 
@@ -214,61 +245,30 @@ public class WelfareServiceService {
             limit = DEFAULT_LIMIT;
         }
 
-        // JSON 배열 파싱
-        List<String> householdStatusList;
-        List<String> interestThemeList;
-
-        try {
-            householdStatusList = objectMapper.readValue(user.getHouseholdStatus(), new TypeReference<List<String>>() {});
-            interestThemeList = objectMapper.readValue(user.getInterestTheme(), new TypeReference<List<String>>() {});
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException("사용자 프로필 정보 파싱 오류", e);
-        }
+        WelfareRecommendationQuery query = new WelfareRecommendationQuery(
+                user.getLifeCycle(),
+                parseProfileValues(user.getHouseholdStatus()),
+                parseProfileValues(user.getInterestTheme()),
+                user.getSidoName(),
+                user.getSigunguName()
+        );
 
-        // 복지 서비스 검색 (여러 조건으로 검색하여 결합)
-        List<WelfareServiceJpaEntity> results = new ArrayList<>();
+        return welfareServiceRepository.recommendWelfareServices(query, limit);
+    }
 
-        // 빈 리스트 처리: 최소 1개 항목 보장 (null로 대체)
-        if (householdStatusList.isEmpty()) {
-            householdStatusList.add(null);
-        }
-        if (interestThemeList.isEmpty()) {
-            interestThemeList.add(null);
+    /**
+     * JSON 배열로 저장된 프로필 값을 파싱합니다. 값이 없으면 빈 목록을 반환합니다.
+     */
+    private List<String> parseProfileValues(String json) {
+        if (json == null || json.isBlank()) {
+            return List.of();
         }
 
-        // 1. 생애주기 + 각 가구상태 + 각 관심테마로 검색
-        for (String householdStatus : householdStatusList) {
-            for (String interestTheme : interestThemeList) {
-                List<WelfareServiceJpaEntity> services = welfareServiceRepository.searchWelfareServices(
-                        user.getLifeCycle(),
-                        householdStatus,
-                        interestTheme,
-                        user.getSidoName(),
-                        user.getSigunguName(),
-                        null,
-                        limit
-                );
-
-                // 중복 제거하며 추가
-                for (WelfareServiceJpaEntity service : services) {
-                    if (!results.contains(service)) {
-                        results.add(service);
-                    }
-                }
-
-                if (results.size() >= limit) {
-                    break;
-                }
-            }
-            if (results.size() >= limit) {
-                break;
-            }
+        try {
+            List<String> values = objectMapper.readValue(json, new TypeReference<List<String>>() {});
+            return values != null ? values : List.of();
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("사용자 프로필 정보 파싱 오류", e);
         }
-
-        // limit만큼만 반환
-        return results.stream()
-                .limit(limit)
-                .map(WelfareServiceSummaryResponse::from)
-                .toList();
     }
 }
@@ -3,15 +3,16 @@ package team.java.facto_be.global.config;
 import lombok.RequiredArgsConstructor;
 import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.ai.chat.client.advisor.MessageChatMemoryAdvisor;
-import org.springframework.ai.chat.client.advisor.vectorstore.QuestionAnswerAdvisor;
 import org.springframework.ai.chat.memory.ChatMemory;
 import org.springframework.ai.chat.memory.MessageWindowChatMemory;
 import org.springframework.ai.chat.model.ChatModel;
-import org.springframework.ai.vectorstore.SearchRequest;
-import org.springframework.ai.vectorstore.VectorStore;
+import org.springframework.ai.chat.prompt.PromptTemplate;
+import org.springframework.ai.rag.advisor.RetrievalAugmentationAdvisor;
+import org.springframework.ai.rag.generation.augmentation.ContextualQueryAugmenter;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import team.java.facto_be.domain.chatbot.service.retrieval.WelfareDocumentRetriever;
 import team.java.facto_be.domain.chatbot.service.tool.PersonalizedWelfareRecommendationTool;
 import team.java.facto_be.domain.chatbot.service.tool.WelfareSearchTool;
 
@@ -101,8 +102,19 @@ public class ChatbotConfig {
             - 관심주제: 신체건강, 정신건강, 생활지원, 주거, 일자리, 문화·여가, 안전·위기, 임신·출산, 보육, 교육, 입양·위탁, 보호·돌봄, 서민금융, 법률
             """;
 
+    private static final String RETRIEVAL_PROMPT = """
+            {query}
+
+            아래는 질문과 관련된 배경 지식(벡터 검색 결과)입니다.
+            도구 결과를 우선하고, 배경 지식은 도구 결과를 보완하는 용도로만 사용하세요.
+            ---------------------
+            {context}
+            ---------------------
+            """;
+
     private final WelfareSearchTool welfareSearchTool;
     private final PersonalizedWelfareRecommendationTool personalizedWelfareRecommendationTool;
+    private final WelfareDocumentRetriever welfareDocumentRetriever;
 
     @Bean
     public ChatMemory chatMemory() {
@@ -112,18 +124,18 @@ public class ChatbotConfig {
     }
 
     @Bean
-    public ChatClient chatClient(ChatModel chatModel, VectorStore vectorStore, ChatMemory chatMemory) {
+    public ChatClient chatClient(ChatModel chatModel, ChatMemory chatMemory) {
         return ChatClient.builder(chatModel)
                 .defaultSystem(SYSTEM_PROMPT)
                 .defaultAdvisors(
-                        // ⚠️ QuestionAnswerAdvisor 재활성화 (일관성 보장을 위한 설정)
-                        // - similarityThreshold를 0.95로 설정하여 매우 유사한 문서만 제공
+                        // RAG: 요청마다 질문 유형/사용자 지역·생애주기로 필터를 만들어 검색 (GENERAL은 검색 생략)
                         // - System Prompt에서 Tool 우선 사용 규칙 유지
-                        // - RAG는 보조적인 컨텍스트 제공 역할
-                        QuestionAnswerAdvisor.builder(vectorStore)
-                                .searchRequest(SearchRequest.builder()
-                                        .topK(5)
-                                        .similarityThreshold(0.95)  // 높은 threshold로 정확성 확보
+                        // - RAG는 보조적인 컨텍스트 제공 역할 (검색 결과가 없으면 질문을 그대로 전달)
+                        RetrievalAugmentationAdvisor.builder()
+                                .documentRetriever(welfareDocumentRetriever)
+                                .queryAugmenter(ContextualQueryAugmenter.builder()
+                                        .promptTemplate(new PromptTemplate(RETRIEVAL_PROMPT))
+                                        .allowEmptyContext(true)
                                         .build())
                                 .build(),
                         MessageChatMemoryAdvisor.builder(chatMemory)
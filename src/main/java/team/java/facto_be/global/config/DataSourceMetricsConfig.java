@@ -0,0 +1,39 @@
+package team.java.facto_be.global.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import team.java.facto_be.global.datasource.ConnectionHoldTimeDataSource;
+
+import javax.sql.DataSource;
+
+/**
+ * DataSource 지표 설정.
+ *
+ * <p>자동 구성된 DataSource를 {@link ConnectionHoldTimeDataSource}로 감싸 엔드포인트별 커넥션 점유 시간을 기록합니다.
+ * Hikari 풀 지표는 감싼 DataSource를 풀어서(unwrap) 찾으므로 그대로 노출됩니다.
+ */
+@Configuration
+public class DataSourceMetricsConfig {
+
+    /**
+     * BeanPostProcessor는 다른 빈보다 먼저 만들어지므로 static으로 등록하고,
+     * MeterRegistry는 커넥션을 반납할 때 지연 조회합니다.
+     */
+    @Bean
+    public static BeanPostProcessor connectionHoldTimeDataSourcePostProcessor(
+            ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ConnectionHoldTimeDataSource)) {
+                    return new ConnectionHoldTimeDataSource(dataSource, meterRegistry::getIfAvailable);
+                }
+                return bean;
+            }
+        };
+    }
+}
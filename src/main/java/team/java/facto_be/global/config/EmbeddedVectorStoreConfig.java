@@ -0,0 +1,28 @@
+package team.java.facto_be.global.config;
+
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import team.java.facto_be.domain.chatbot.service.vectorstore.EmbeddedVectorStore;
+import team.java.facto_be.domain.chatbot.service.vectorstore.EmbeddedVectorStoreProperties;
+
+import java.nio.file.Path;
+
+/**
+ * 내장 벡터 스토어 설정.
+ *
+ * <p>{@code spring.ai.vectorstore.type=embedded}면 Chroma 자동 설정 대신 {@link EmbeddedVectorStore}를
+ * VectorStore 빈으로 등록합니다. 기본값(chroma)에서는 기존처럼 Chroma HTTP 저장소를 사용합니다.
+ */
+@Configuration
+@Profile("!test")
+@ConditionalOnProperty(name = "spring.ai.vectorstore.type", havingValue = "embedded")
+public class EmbeddedVectorStoreConfig {
+
+    @Bean(destroyMethod = "close")
+    public EmbeddedVectorStore vectorStore(EmbeddingModel embeddingModel, EmbeddedVectorStoreProperties properties) {
+        return new EmbeddedVectorStore(embeddingModel, properties.quantization(), Path.of(properties.snapshotPath()));
+    }
+}
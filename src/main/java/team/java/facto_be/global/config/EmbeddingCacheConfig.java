@@ -0,0 +1,45 @@
+package team.java.facto_be.global.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.openai.OpenAiEmbeddingModel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import team.java.facto_be.domain.chatbot.service.embedding.CachingEmbeddingModel;
+import team.java.facto_be.domain.chatbot.service.embedding.EmbeddingCacheProperties;
+import team.java.facto_be.domain.chatbot.service.embedding.EmbeddingCacheStore;
+
+import java.nio.file.Path;
+
+/**
+ * 임베딩 캐시 설정.
+ *
+ * <p>OpenAI 임베딩 모델을 {@link CachingEmbeddingModel}로 감싸 {@link Primary} 빈으로 등록하므로
+ * VectorStore의 문서 임베딩과 RAG 검색 질의 임베딩이 모두 캐시를 거칩니다.
+ * {@code chatbot.embedding-cache.enabled=false}면 등록하지 않습니다.
+ */
+@Configuration
+@Profile("!test")
+@ConditionalOnProperty(prefix = "chatbot.embedding-cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class EmbeddingCacheConfig {
+
+    @Bean(destroyMethod = "close")
+    public EmbeddingCacheStore embeddingCacheStore(EmbeddingCacheProperties properties) {
+        return new EmbeddingCacheStore(Path.of(properties.path()));
+    }
+
+    @Bean
+    @Primary
+    public EmbeddingModel cachingEmbeddingModel(
+            OpenAiEmbeddingModel openAiEmbeddingModel,
+            EmbeddingCacheStore embeddingCacheStore,
+            @Value("${spring.ai.openai.embedding.options.model:text-embedding-ada-002}") String model,
+            MeterRegistry meterRegistry
+    ) {
+        return new CachingEmbeddingModel(openAiEmbeddingModel, embeddingCacheStore, model, meterRegistry);
+    }
+}
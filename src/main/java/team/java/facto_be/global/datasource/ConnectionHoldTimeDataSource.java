@@ -0,0 +1,163 @@
+package team.java.facto_be.global.datasource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * 커넥션을 빌린 시점부터 반납({@link Connection#close()})까지의 시간을 엔드포인트별로 기록하는 DataSource.
+ *
+ * <p>{@code db.connection.hold} 타이머에 {@code endpoint} 태그로 기록하며, 값은 다음과 같습니다.
+ * <ul>
+ *   <li>HTTP 요청: {@code "POST /api/chat"}처럼 메서드 + 매핑된 URL 패턴 (경로 변수를 펼치지 않음)</li>
+ *   <li>핸들러 매핑 전(필터 등): {@code "POST unmapped"}</li>
+ *   <li>요청 밖에서 {@link #endpoint(String)}로 지정한 작업: 지정한 값 (예: {@code "WS /ws/chat"})</li>
+ *   <li>그 밖의 요청 밖 작업(스케줄러 등): {@code "none"}</li>
+ * </ul>
+ * 풀 전체의 사용 시간은 Hikari 지표({@code hikaricp.connections.usage})로도 볼 수 있지만,
+ * 어느 엔드포인트가 커넥션을 오래 잡는지는 이 타이머로 구분합니다.
+ */
+public class ConnectionHoldTimeDataSource extends DelegatingDataSource {
+
+    static final String METRIC_NAME = "db.connection.hold";
+    private static final String NO_REQUEST = "none";
+
+    /** 요청 밖 작업의 endpoint 태그 ({@link #endpoint(String)}) */
+    private static final ThreadLocal<String> ENDPOINT = new ThreadLocal<>();
+
+    private final Supplier<MeterRegistry> meterRegistry;
+    /** endpoint 태그 → 타이머 (반납 경로에서 레지스트리 조회/빌더 생성을 하지 않도록 보관) */
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    /**
+     * @param targetDataSource 실제 DataSource (커넥션 풀)
+     * @param meterRegistry 첫 커넥션 반납 시점에 조회할 MeterRegistry (DataSource보다 늦게 만들어질 수 있음)
+     */
+    public ConnectionHoldTimeDataSource(DataSource targetDataSource, Supplier<MeterRegistry> meterRegistry) {
+        super(targetDataSource);
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 현재 스레드에서 빌리는 커넥션의 endpoint 태그를 지정합니다.
+     * HTTP 요청 밖에서 실행되는 작업(WebSocket 메시지 처리 등)을 구분할 때 사용하며,
+     * 반환된 {@link EndpointScope}를 닫으면 이전 값으로 돌아갑니다.
+     *
+     * @param endpoint endpoint 태그
+     * @return 지정 범위
+     */
+    public static EndpointScope endpoint(String endpoint) {
+        String previous = ENDPOINT.get();
+        ENDPOINT.set(endpoint);
+        return new EndpointScope(previous);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return track(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return track(super.getConnection(username, password));
+    }
+
+    private Connection track(Connection connection) {
+        String endpoint = currentEndpoint();
+        long acquiredAt = System.nanoTime();
+        AtomicBoolean released = new AtomicBoolean();
+
+        InvocationHandler handler = (proxy, method, args) -> {
+            // 프록시는 대상 커넥션과 다른 객체이므로 동등성/해시는 프록시 자신의 식별자로 판단 (풀/맵의 식별 기준 유지)
+            if ("equals".equals(method.getName()) && method.getParameterCount() == 1) {
+                return proxy == args[0];
+            }
+            if ("hashCode".equals(method.getName()) && method.getParameterCount() == 0) {
+                return System.identityHashCode(proxy);
+            }
+            if ("close".equals(method.getName()) && method.getParameterCount() == 0
+                    && released.compareAndSet(false, true)) {
+                record(endpoint, System.nanoTime() - acquiredAt);
+            }
+            return invoke(connection, method, args);
+        };
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(), new Class<?>[]{Connection.class}, handler);
+    }
+
+    private void record(String endpoint, long nanos) {
+        Timer timer = timers.get(endpoint);
+        if (timer == null) {
+            MeterRegistry registry = meterRegistry.get();
+            if (registry == null) {
+                return;
+            }
+            timer = timers.computeIfAbsent(endpoint, tag -> Timer.builder(METRIC_NAME)
+                    .description("DB 커넥션을 빌려서 반납할 때까지의 시간")
+                    .tag("endpoint", tag)
+                    .register(registry));
+        }
+        timer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static Object invoke(Connection connection, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(connection, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private static String currentEndpoint() {
+        String endpoint = ENDPOINT.get();
+        if (endpoint != null) {
+            return endpoint;
+        }
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes servletAttributes)) {
+            return NO_REQUEST;
+        }
+        HttpServletRequest request = servletAttributes.getRequest();
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : "unmapped");
+    }
+
+    /**
+     * {@link #endpoint(String)}로 지정한 범위. 닫으면 이전 endpoint 태그로 돌아갑니다.
+     */
+    public static final class EndpointScope implements AutoCloseable {
+
+        private final String previous;
+
+        private EndpointScope(String previous) {
+            this.previous = previous;
+        }
+
+        @Override
+        public void close() {
+            if (previous == null) {
+                ENDPOINT.remove();
+            } else {
+                ENDPOINT.set(previous);
+            }
+        }
+    }
+}
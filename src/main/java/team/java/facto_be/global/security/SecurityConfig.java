@@ -15,6 +15,7 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import team.java.facto_be.global.filter.FilterConfig;
 import team.java.facto_be.global.security.jwt.JwtTokenProvider;
+import team.java.facto_be.global.security.jwt.types.Role;
 
 @EnableWebSecurity
 @RequiredArgsConstructor
@@ -52,6 +53,9 @@ public class SecurityConfig {
 
 
                 .authorizeHttpRequests(auth -> auth
+                        // 헬스 체크만 공개하고, 지표(요청 URI, 캐시/DB 사용량 등)는 관리자만 조회
+                        .requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
+                        .requestMatchers("/actuator/**").hasRole(Role.ADMIN.name())
                         .anyRequest().permitAll()
                 )
 
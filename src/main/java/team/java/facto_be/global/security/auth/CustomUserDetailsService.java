@@ -4,21 +4,21 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
+import team.java.facto_be.domain.user.cache.UserSnapshotCache;
 import team.java.facto_be.domain.user.entity.UserJpaEntity;
-import team.java.facto_be.domain.user.repository.UserRepository;
 
 /**
- * DB에서 사용자 정보를 조회해 AuthDetails로 변환합니다.
+ * 사용자 스냅샷 캐시(없으면 DB)에서 사용자 정보를 조회해 AuthDetails로 변환합니다.
  */
 @Component
 @RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
 
-    private final UserRepository userRepository;
+    private final UserSnapshotCache userSnapshotCache;
 
     @Override
     public UserDetails loadUserByUsername(String email){
-        UserJpaEntity user = userRepository.findByEmail(email)
+        UserJpaEntity user = userSnapshotCache.findByEmail(email)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
         return new AuthDetails(user.getEmail(), user.getRole().name());
     }
@@ -2,14 +2,30 @@ package team.java.facto_be.global.security.jwt;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+
 
 /**
  * JWT 서명 및 만료시간 정보를 담는 구성 프로퍼티.
+ *
+ * <p>verifiedCacheTtl/verifiedCacheMaximumSize는 서명 검증을 마친 토큰을 보관하는 캐시 설정입니다.
+ * 토큰 만료 시간이 더 이르면 만료 시점에 제거됩니다.
  */
 @ConfigurationProperties(prefix = "spring.jwt")
 public record JwtProperties(
     String header,
     String prefix,
     String secret,
-    Long accessExpiration
-    ){}
+    Long accessExpiration,
+    Duration verifiedCacheTtl,
+    Long verifiedCacheMaximumSize
+    ){
+    public JwtProperties {
+        if (verifiedCacheTtl == null) {
+            verifiedCacheTtl = Duration.ofMinutes(10);
+        }
+        if (verifiedCacheMaximumSize == null) {
+            verifiedCacheMaximumSize = 10_000L;
+        }
+    }
+}
@@ -1,23 +1,39 @@
 package team.java.facto_be.global.security.jwt;
 
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
+import team.java.facto_be.domain.user.facade.CurrentUserMemo;
 
 import java.io.IOException;
 
 
 /**
  * 요청마다 JWT 토큰을 검증하고 인증 정보를 SecurityContext에 주입하는 필터.
+ *
+ * <p>인증된 요청이 끝나면 요청 동안의 현재 사용자 실제 조회 횟수({@code user.lookups.per.request})와
+ * 메모 적중 횟수({@code user.lookup.memo.hits.per.request})를 기록한다.
  */
-@RequiredArgsConstructor
 public class JwtTokenFilter extends OncePerRequestFilter {
     private final JwtTokenProvider jwtTokenProvider;
+    private final DistributionSummary lookupsPerRequest;
+    private final DistributionSummary memoHitsPerRequest;
+
+    public JwtTokenFilter(JwtTokenProvider jwtTokenProvider, MeterRegistry meterRegistry) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.lookupsPerRequest = DistributionSummary.builder("user.lookups.per.request")
+                .description("요청 하나에서 현재 사용자를 실제로 조회한 횟수")
+                .register(meterRegistry);
+        this.memoHitsPerRequest = DistributionSummary.builder("user.lookup.memo.hits.per.request")
+                .description("요청 하나에서 기억한 현재 사용자를 재사용한 횟수")
+                .register(meterRegistry);
+    }
 
     /**
      * 헤더에서 토큰을 추출하고 인증 객체를 세팅한 뒤 체인을 계속 진행한다.
@@ -27,10 +43,20 @@ public class JwtTokenFilter extends OncePerRequestFilter {
 
         String token = jwtTokenProvider.resolveToken(request);
 
+        CurrentUserMemo memo = null;
         if (token != null) {
             Authentication authentication = jwtTokenProvider.getAuthentication(token);
             SecurityContextHolder.getContext().setAuthentication(authentication);
+            memo = (CurrentUserMemo) authentication.getDetails();
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (memo != null) {
+                lookupsPerRequest.record(memo.lookups());
+                memoHitsPerRequest.record(memo.hits());
+            }
         }
-        filterChain.doFilter(request, response);
     }
 }
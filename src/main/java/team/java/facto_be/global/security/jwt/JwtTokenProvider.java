@@ -1,31 +1,43 @@
 package team.java.facto_be.global.security.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
 import jakarta.servlet.http.HttpServletRequest;
-import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 import team.java.facto_be.domain.user.dto.response.TokenResponse;
+import team.java.facto_be.domain.user.facade.CurrentUserMemo;
 import team.java.facto_be.global.security.auth.CustomAdminDetailsService;
 import team.java.facto_be.global.security.auth.CustomUserDetailsService;
 import team.java.facto_be.global.security.jwt.types.Role;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
 
 /**
  * JWT 생성 및 검증과 관련된 핵심 유틸리티 컴포넌트.
+ *
+ * <p>서명 키와 파서는 기동 시 한 번만 만들고, 서명 검증을 마친 토큰의 subject/role은
+ * 토큰 해시(SHA-256)를 키로 캐시하여 같은 토큰이 다시 오면 파싱과 HMAC 검증을 생략합니다.
+ * 캐시 항목은 토큰 만료 시각과 설정된 보관 기간 중 이른 시점에 제거됩니다.
  */
 @Component
-@RequiredArgsConstructor
 public class JwtTokenProvider {
 
     private final JwtProperties jwtProperties;
@@ -34,8 +46,32 @@ public class JwtTokenProvider {
 
     private final CustomAdminDetailsService customAdminDetailsService;
 
+    private final SecretKey secretKey;
+
+    private final JwtParser jwtParser;
+
+    private final Cache<String, VerifiedToken> verifiedTokens;
+
     public static final String ACCESS_TOKEN = "access_token";
 
+    public JwtTokenProvider(
+            JwtProperties jwtProperties,
+            CustomUserDetailsService customUserDetailsService,
+            CustomAdminDetailsService customAdminDetailsService
+    ) {
+        this.jwtProperties = jwtProperties;
+        this.customUserDetailsService = customUserDetailsService;
+        this.customAdminDetailsService = customAdminDetailsService;
+        this.secretKey = Keys.hmacShaKeyFor(jwtProperties.secret().getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(jwtProperties.verifiedCacheMaximumSize())
+                .expireAfter(new VerifiedTokenExpiry(jwtProperties.verifiedCacheTtl()))
+                .build();
+    }
+
     /**
      * 사용자 식별자/역할을 기반으로 Access 토큰을 생성한다.
      */
@@ -44,14 +80,6 @@ public class JwtTokenProvider {
         return new TokenResponse(accessToken);
     }
 
-    /**
-     * JWT 서명에 사용할 SecretKey를 반환한다.
-     */
-    private SecretKey getSecretKey(){
-        return Keys.hmacShaKeyFor(jwtProperties.secret().getBytes(StandardCharsets.UTF_8));
-    }
-
-
     private String generateAccessToken(String id, String role, String type, Long exp){
 
         Date now = new Date();
@@ -62,16 +90,13 @@ public class JwtTokenProvider {
                 .claim("role", role)
                 .setIssuedAt(now)
                 .setExpiration(new Date(now.getTime()+ exp * 1000))
-                .signWith(getSecretKey(), SignatureAlgorithm.HS256)
+                .signWith(secretKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
     private Jws<Claims> getJws(String token) {
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(getSecretKey())
-                    .build()
-                    .parseClaimsJws(token);
+            return jwtParser.parseClaimsJws(token);
         } catch (ExpiredJwtException e) {
             throw new IllegalArgumentException("토큰이 만료되었습니다.");
         } catch (Exception e) {
@@ -83,9 +108,7 @@ public class JwtTokenProvider {
      * 요청 헤더에서 Bearer 토큰 문자열을 추출한다.
      */
     public String resolveToken(HttpServletRequest request) {
-        System.out.println(jwtProperties.header());
         String bearerToken = request.getHeader(jwtProperties.header());
-        System.out.println("1: "+ bearerToken);
         return parseToken(bearerToken);
     }
 
@@ -98,21 +121,82 @@ public class JwtTokenProvider {
 
     /**
      * 토큰의 subject/role 정보를 바탕으로 Authentication 객체를 생성한다.
+     * 요청 동안 현재 사용자를 기억할 {@link CurrentUserMemo}를 details에 담는다.
      */
     public Authentication getAuthentication(String token){
+        VerifiedToken verified = verify(token);
+        UserDetails userDetails = getDetails(verified);
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
+        authentication.setDetails(new CurrentUserMemo());
+        return authentication;
+    }
+
+    /**
+     * 캐시에 있으면 그대로 사용하고, 없으면 서명을 검증한 뒤 캐시에 넣는다.
+     * 만료되었거나 유효하지 않은 토큰은 캐시하지 않는다.
+     */
+    private VerifiedToken verify(String token) {
+        String key = hash(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(key);
+        if (cached != null && cached.expiresAt().isAfter(Instant.now())) {
+            return cached;
+        }
+
         Claims body = getJws(token).getBody();
-        UserDetails userDetails = getDetails(body);
-        return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
+        Date expiration = body.getExpiration();
+        VerifiedToken verified = new VerifiedToken(
+                body.getSubject(),
+                body.get("role").toString(),
+                expiration != null ? expiration.toInstant() : Instant.MAX
+        );
+        verifiedTokens.put(key, verified);
+        return verified;
+    }
 
+    private UserDetails getDetails(VerifiedToken verified){
+        if(Role.ADMIN.toString().equals(verified.role())){
+            return customAdminDetailsService.loadUserByUsername(verified.subject());
+        }else{
+            return customUserDetailsService.loadUserByUsername(verified.subject());
+        }
     }
 
-    private UserDetails getDetails(Claims body){
-        String role = body.get("role").toString();
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
 
-        if(Role.ADMIN.toString().equals(role)){
-            return customAdminDetailsService.loadUserByUsername(body.getSubject());
-        }else{
-            return customUserDetailsService.loadUserByUsername(body.getSubject());
+    /**
+     * 서명 검증을 마친 토큰 정보.
+     */
+    private record VerifiedToken(String subject, String role, Instant expiresAt) {
+    }
+
+    /**
+     * 토큰 만료 시각과 최대 보관 기간 중 이른 시점에 만료시킨다.
+     */
+    private record VerifiedTokenExpiry(Duration ttl) implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken token, long currentTime) {
+            // 만료 시각이 아주 먼 토큰도 있으므로 나노초로 바꾸기 전에 비교 (toNanos 오버플로 방지)
+            Duration untilExpiration = Duration.between(Instant.now(), token.expiresAt());
+            return untilExpiration.compareTo(ttl) < 0 ? Math.max(0, untilExpiration.toNanos()) : ttl.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken token, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, token, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken token, long currentTime, long currentDuration) {
+            return currentDuration;
         }
     }
 }
@@ -0,0 +1,221 @@
+package team.java.facto_be.domain.chatbot.service.admission;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ChatAdmissionGovernorTest {
+
+    private static final Duration LONG_WAIT = Duration.ofSeconds(10);
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("동시 처리 한도까지는 바로 수락하고, 반납하면 대기 요청을 수락")
+    void admitsUpToLimitThenQueues() throws Exception {
+        ChatAdmissionGovernor governor = governor(2, 10, LONG_WAIT, 100);
+        ChatAdmissionGovernor.Permit first = governor.acquire("user:a");
+        ChatAdmissionGovernor.Permit second = governor.acquire("user:b");
+        assertThat(active()).isEqualTo(2);
+
+        Future<ChatAdmissionGovernor.Permit> third = executor.submit(() -> governor.acquire("user:c"));
+        awaitQueued(1);
+        assertThat(third.isDone()).isFalse();
+
+        first.close();
+        third.get(5, TimeUnit.SECONDS).close();
+        second.close();
+
+        assertThat(active()).isZero();
+        assertThat(queued()).isZero();
+        assertThat(meterRegistry.get("chatbot.admission.wait").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대기 중인 사용자들을 돌아가며 한 건씩 수락")
+    void roundRobinAcrossUsers() throws Exception {
+        ChatAdmissionGovernor governor = governor(1, 10, LONG_WAIT, 100);
+        ChatAdmissionGovernor.Permit holder = governor.acquire("user:holder");
+
+        // a가 먼저 세 건을 넣고 b가 한 건을 넣어도 b는 a의 두 번째보다 먼저 수락되어야 함
+        List<String> admitted = new ArrayList<>();
+        List<Future<?>> waiters = new ArrayList<>();
+        String[] arrivals = {"user:a", "user:a", "user:a", "user:b"};
+        for (int i = 0; i < arrivals.length; i++) {
+            String userKey = arrivals[i];
+            String label = userKey + "#" + i;
+            waiters.add(executor.submit(() -> {
+                try (ChatAdmissionGovernor.Permit permit = governor.acquire(userKey)) {
+                    synchronized (admitted) {
+                        admitted.add(label);
+                    }
+                }
+                return null;
+            }));
+            awaitQueued(i + 1);
+        }
+
+        holder.close();
+        for (Future<?> waiter : waiters) {
+            waiter.get(5, TimeUnit.SECONDS);
+        }
+
+        assertThat(admitted).containsExactly("user:a#0", "user:b#3", "user:a#1", "user:a#2");
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 기다리지 않고 바로 거절")
+    void rejectsWhenQueueIsFull() throws Exception {
+        ChatAdmissionGovernor governor = governor(1, 1, LONG_WAIT, 100);
+        ChatAdmissionGovernor.Permit holder = governor.acquire("user:a");
+        Future<ChatAdmissionGovernor.Permit> queuedRequest = executor.submit(() -> governor.acquire("user:b"));
+        awaitQueued(1);
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> governor.acquire("user:c"))
+                .isInstanceOfSatisfying(ChatAdmissionRejectedException.class, e ->
+                        assertThat(e.getReason()).isEqualTo(ChatAdmissionRejectedException.Reason.QUEUE_FULL));
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+
+        holder.close();
+        queuedRequest.get(5, TimeUnit.SECONDS).close();
+        assertThat(rejected("queue_full")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대기 시간을 넘기면 거절하고 대기열에서 빠짐")
+    void timesOutAndLeavesQueue() {
+        ChatAdmissionGovernor governor = governor(1, 10, Duration.ofMillis(50), 100);
+        ChatAdmissionGovernor.Permit holder = governor.acquire("user:a");
+
+        assertThatThrownBy(() -> governor.acquire("user:b"))
+                .isInstanceOfSatisfying(ChatAdmissionRejectedException.class, e ->
+                        assertThat(e.getReason()).isEqualTo(ChatAdmissionRejectedException.Reason.TIMEOUT));
+        assertThat(queued()).isZero();
+
+        // 취소된 요청이 자리를 차지하지 않아야 함
+        holder.close();
+        assertThat(active()).isZero();
+        governor.acquire("user:c").close();
+        assertThat(rejected("timeout")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("사용자별 토큰을 다 쓰면 다른 사용자와 관계없이 바로 거절")
+    void rateLimitsPerUser() {
+        ChatAdmissionGovernor governor = governor(10, 10, LONG_WAIT, 2);
+        governor.acquire("user:a").close();
+        governor.acquire("user:a").close();
+
+        assertThatThrownBy(() -> governor.acquire("user:a"))
+                .isInstanceOfSatisfying(ChatAdmissionRejectedException.class, e -> {
+                    assertThat(e.getReason()).isEqualTo(ChatAdmissionRejectedException.Reason.RATE_LIMITED);
+                    assertThat(e.getRetryAfter()).isPositive();
+                });
+        governor.acquire("user:b").close();
+        assertThat(rejected("rate_limited")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("처리 권한을 여러 번 닫아도 한 번만 반납")
+    void permitCloseIsIdempotent() throws Exception {
+        ChatAdmissionGovernor governor = governor(1, 10, LONG_WAIT, 100);
+        ChatAdmissionGovernor.Permit permit = governor.acquire("user:a");
+        permit.close();
+        ChatAdmissionGovernor.Permit next = governor.acquire("user:b");
+
+        permit.close();
+
+        assertThat(active()).isEqualTo(1);
+        Future<ChatAdmissionGovernor.Permit> waiting = executor.submit(() -> governor.acquire("user:c"));
+        awaitQueued(1);
+        assertThat(waiting.isDone()).isFalse();
+        next.close();
+        waiting.get(5, TimeUnit.SECONDS).close();
+    }
+
+    @Test
+    @DisplayName("시간 초과와 수락이 겹쳐도 권한이 새거나 한도를 넘지 않음")
+    void cancelAndAdmitRace() throws Exception {
+        int limit = 2;
+        ChatAdmissionGovernor governor = governor(limit, 1_000, Duration.ofNanos(200_000), Integer.MAX_VALUE);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        List<CompletableFuture<Void>> tasks = new ArrayList<>();
+        for (int t = 0; t < 16; t++) {
+            String userKey = "user:" + t;
+            tasks.add(CompletableFuture.runAsync(() -> {
+                for (int i = 0; i < 2_000; i++) {
+                    try (ChatAdmissionGovernor.Permit permit = governor.acquire(userKey)) {
+                        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                        Thread.onSpinWait();
+                        running.decrementAndGet();
+                    } catch (ChatAdmissionRejectedException e) {
+                        // 시간 초과는 정상 경로
+                    }
+                }
+            }, executor));
+        }
+        CompletableFuture.allOf(tasks.toArray(CompletableFuture[]::new)).get(60, TimeUnit.SECONDS);
+
+        assertThat(maxRunning.get()).isLessThanOrEqualTo(limit);
+        assertThat(active()).isZero();
+        assertThat(queued()).isZero();
+        // 모든 자리가 반납되었으면 한도만큼 바로 수락되어야 함
+        for (int i = 0; i < limit; i++) {
+            governor.acquire("user:check" + i);
+        }
+        assertThat(active()).isEqualTo(limit);
+    }
+
+    private ChatAdmissionGovernor governor(int maxConcurrent, int maxQueued, Duration maxWait, int userBurst) {
+        return new ChatAdmissionGovernor(
+                new ChatAdmissionProperties(maxConcurrent, maxQueued, maxWait, userBurst,
+                        Duration.ofMinutes(1), Duration.ofMinutes(10)),
+                meterRegistry);
+    }
+
+    private double active() {
+        return meterRegistry.get("chatbot.admission.active").gauge().value();
+    }
+
+    private double queued() {
+        return meterRegistry.get("chatbot.admission.queue.depth").gauge().value();
+    }
+
+    private double rejected(String reason) {
+        return meterRegistry.get("chatbot.admission.rejected").tag("reason", reason).counter().count();
+    }
+
+    private void awaitQueued(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (queued() < expected) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("대기열에 " + expected + "건이 들어오지 않음: " + queued());
+            }
+            Thread.sleep(1);
+        }
+    }
+}
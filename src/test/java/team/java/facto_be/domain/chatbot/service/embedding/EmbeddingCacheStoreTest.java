@@ -0,0 +1,135 @@
+package team.java.facto_be.domain.chatbot.service.embedding;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmbeddingCacheStoreTest {
+
+    /** 키 32바이트 + 차원 수 4바이트 */
+    private static final int HEADER_BYTES = EmbeddingCacheStore.KEY_BYTES + Integer.BYTES;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("저장한 벡터를 다시 열어도 그대로 읽음")
+    void persistsAcrossReopen() throws IOException {
+        Path path = dir.resolve("cache.bin");
+        try (EmbeddingCacheStore store = new EmbeddingCacheStore(path)) {
+            store.put(key(1), new float[]{0.1f, 0.2f, 0.3f});
+            store.put(key(2), new float[]{-1f, 2f});
+        }
+
+        try (EmbeddingCacheStore store = new EmbeddingCacheStore(path)) {
+            assertThat(store.size()).isEqualTo(2);
+            assertThat(store.get(key(1))).containsExactly(0.1f, 0.2f, 0.3f);
+            assertThat(store.get(key(2))).containsExactly(-1f, 2f);
+            assertThat(store.get(key(3))).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("이미 있는 키는 덮어쓰지 않음")
+    void ignoresDuplicateKey() throws IOException {
+        Path path = dir.resolve("cache.bin");
+        try (EmbeddingCacheStore store = new EmbeddingCacheStore(path)) {
+            store.put(key(1), new float[]{1f});
+            store.put(key(1), new float[]{2f, 3f});
+
+            assertThat(store.get(key(1))).containsExactly(1f);
+        }
+        assertThat(Files.size(path)).isEqualTo(recordBytes(1));
+    }
+
+    @Test
+    @DisplayName("헤더 중간에서 잘린 마지막 레코드는 기동 시 잘라냄")
+    void truncatesPartialHeader() throws IOException {
+        Path path = twoRecords();
+        append(path, Arrays.copyOf(key(9), 10));
+
+        assertRecoveredToTwoRecords(path);
+    }
+
+    @Test
+    @DisplayName("본문 중간에서 잘린 마지막 레코드는 기동 시 잘라냄")
+    void truncatesPartialBody() throws IOException {
+        Path path = twoRecords();
+        // 차원 수는 4인데 float 2개만 기록된 상태
+        ByteBuffer partial = ByteBuffer.allocate(HEADER_BYTES + 2 * Float.BYTES);
+        partial.put(key(9)).putInt(4).putFloat(1f).putFloat(2f);
+        append(path, partial.array());
+
+        assertRecoveredToTwoRecords(path);
+    }
+
+    @Test
+    @DisplayName("차원 수가 손상된 마지막 레코드는 기동 시 잘라냄")
+    void truncatesCorruptDimensions() throws IOException {
+        Path path = twoRecords();
+        ByteBuffer corrupt = ByteBuffer.allocate(HEADER_BYTES + Float.BYTES);
+        corrupt.put(key(9)).putInt(-1).putFloat(1f);
+        append(path, corrupt.array());
+
+        assertRecoveredToTwoRecords(path);
+    }
+
+    @Test
+    @DisplayName("잘라낸 뒤 이어서 쓴 레코드도 다시 열면 읽힘")
+    void appendsAfterRecovery() throws IOException {
+        Path path = twoRecords();
+        append(path, Arrays.copyOf(key(9), 5));
+
+        try (EmbeddingCacheStore store = new EmbeddingCacheStore(path)) {
+            store.put(key(3), new float[]{7f, 8f});
+        }
+
+        try (EmbeddingCacheStore store = new EmbeddingCacheStore(path)) {
+            assertThat(store.size()).isEqualTo(3);
+            assertThat(store.get(key(3))).containsExactly(7f, 8f);
+        }
+        assertThat(Files.size(path)).isEqualTo(recordBytes(3) + recordBytes(1) + recordBytes(2));
+    }
+
+    private Path twoRecords() throws IOException {
+        Path path = dir.resolve("cache.bin");
+        try (EmbeddingCacheStore store = new EmbeddingCacheStore(path)) {
+            store.put(key(1), new float[]{1f, 2f, 3f});
+            store.put(key(2), new float[]{4f});
+        }
+        return path;
+    }
+
+    private void assertRecoveredToTwoRecords(Path path) throws IOException {
+        try (EmbeddingCacheStore store = new EmbeddingCacheStore(path)) {
+            assertThat(store.size()).isEqualTo(2);
+            assertThat(store.get(key(1))).containsExactly(1f, 2f, 3f);
+            assertThat(store.get(key(2))).containsExactly(4f);
+            assertThat(store.get(key(9))).isNull();
+        }
+        assertThat(Files.size(path)).isEqualTo(recordBytes(3) + recordBytes(1));
+    }
+
+    private static void append(Path path, byte[] bytes) throws IOException {
+        Files.write(path, bytes, StandardOpenOption.APPEND);
+    }
+
+    private static long recordBytes(int dimensions) {
+        return HEADER_BYTES + (long) dimensions * Float.BYTES;
+    }
+
+    private static byte[] key(int seed) {
+        byte[] key = new byte[EmbeddingCacheStore.KEY_BYTES];
+        Arrays.fill(key, (byte) seed);
+        return key;
+    }
+}
@@ -0,0 +1,135 @@
+package team.java.facto_be.domain.chatbot.service.retrieval;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.rag.Query;
+import team.java.facto_be.domain.chatbot.service.enums.QueryType;
+import team.java.facto_be.domain.chatbot.service.ingest.WelfareDocumentChunker;
+import team.java.facto_be.domain.chatbot.service.vectorstore.EmbeddedVectorStore;
+import team.java.facto_be.domain.chatbot.service.vectorstore.VectorQuantization;
+import team.java.facto_be.domain.user.entity.UserJpaEntity;
+import team.java.facto_be.domain.welfare.repository.projection.WelfareServiceDocumentSource;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class WelfareDocumentRetrieverTest {
+
+    private static final float[] VECTOR = {1f, 0f, 0f};
+
+    private final WelfareDocumentChunker chunker = new WelfareDocumentChunker();
+    private WelfareDocumentRetriever retriever;
+
+    @BeforeEach
+    void setUp() {
+        // 모든 문서/질의가 같은 벡터이므로 결과는 필터로만 갈림
+        EmbeddingModel embeddingModel = mock(EmbeddingModel.class);
+        when(embeddingModel.embed(anyString())).thenReturn(VECTOR);
+        when(embeddingModel.embed(anyList())).thenAnswer(invocation ->
+                Collections.nCopies(invocation.<List<?>>getArgument(0).size(), VECTOR));
+
+        EmbeddedVectorStore vectorStore = new EmbeddedVectorStore(embeddingModel, VectorQuantization.FLOAT32, null);
+        vectorStore.add(documents(
+                service("DAEJEON_YOUTH", "LOCAL", "대전광역시", "[\"004\"]"),
+                service("DAEJEON_SENIOR", "LOCAL", "대전광역시", "[\"006\"]"),
+                service("DAEJEON_ALL", "LOCAL", "대전광역시", null),
+                service("SEOUL_YOUTH", "LOCAL", "서울특별시", "[\"004\"]"),
+                service("CENTRAL_YOUTH", "CENTRAL", null, "[\"004\"]")));
+
+        retriever = new WelfareDocumentRetriever(vectorStore, new RetrievalProperties(10, 0.5));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"대전", "대전광역시", " 대전 광역시 "})
+    @DisplayName("시도 줄임말과 정식 이름 모두 해당 시도의 지자체 서비스를 찾음")
+    void matchesShortAndLongSidoName(String sidoName) {
+        assertThat(serviceIds(user(sidoName, "청년")))
+                .containsExactlyInAnyOrder("DAEJEON_YOUTH", "DAEJEON_ALL", "CENTRAL_YOUTH");
+    }
+
+    @Test
+    @DisplayName("다른 시도의 지자체 서비스는 제외")
+    void excludesOtherSido() {
+        assertThat(serviceIds(user("서울", "노년")))
+                .isEmpty();
+        assertThat(serviceIds(user("서울시", "청년")))
+                .containsExactlyInAnyOrder("SEOUL_YOUTH", "CENTRAL_YOUTH");
+    }
+
+    @Test
+    @DisplayName("사용자 생애주기 이름이 서비스의 생애주기 코드와 일치")
+    void matchesLifeCycleNameToCode() {
+        assertThat(serviceIds(user("대전", "노년")))
+                .containsExactlyInAnyOrder("DAEJEON_SENIOR", "DAEJEON_ALL");
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "서울특별시, 서울",
+            "대전광역시, 대전",
+            "세종특별자치시, 세종",
+            "강원특별자치도, 강원",
+            "경기도, 경기",
+            "충청북도, 충북",
+            "전라남도, 전남",
+            "경상북도, 경북",
+            "서울시, 서울",
+            "광주, 광주"
+    })
+    @DisplayName("시도 이름 정규화")
+    void sidoKey(String sidoName, String expected) {
+        assertThat(WelfareDocumentChunker.sidoKey(sidoName)).isEqualTo(expected);
+        assertThat(WelfareDocumentChunker.sidoKey(expected)).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("생애주기 코드와 이름은 같은 메타데이터 키")
+    void lifeCycleKey() {
+        assertThat(WelfareDocumentChunker.lifeCycleKey("004"))
+                .isEqualTo(WelfareDocumentChunker.lifeCycleKey("청년"));
+        assertThat(WelfareDocumentChunker.lifeCycleKey("007"))
+                .isEqualTo(WelfareDocumentChunker.lifeCycleKey("임신 · 출산"));
+    }
+
+    private List<String> serviceIds(UserJpaEntity user) {
+        Query query = Query.builder()
+                .text("주거 지원")
+                .context(WelfareDocumentRetriever.context(QueryType.TOPIC, user))
+                .build();
+        return retriever.retrieve(query).stream()
+                .map(document -> (String) document.getMetadata().get("serviceId"))
+                .toList();
+    }
+
+    private List<Document> documents(WelfareServiceDocumentSource... services) {
+        return Arrays.stream(services)
+                .flatMap(service -> chunker.toDocuments(service).documents().stream())
+                .toList();
+    }
+
+    private static WelfareServiceDocumentSource service(String serviceId, String serviceType,
+                                                        String ctpvNm, String lifeCycleArray) {
+        return new WelfareServiceDocumentSource(serviceId, serviceId, null, "요약", "내용",
+                ctpvNm, null, serviceType, lifeCycleArray);
+    }
+
+    private static UserJpaEntity user(String sidoName, String lifeCycle) {
+        return UserJpaEntity.builder()
+                .sidoName(sidoName)
+                .lifeCycle(lifeCycle)
+                .build();
+    }
+}
@@ -0,0 +1,81 @@
+package team.java.facto_be.domain.chatbot.service.streaming;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import team.java.facto_be.domain.chatbot.service.dto.WebSocketMessage;
+
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StreamingFrameEncoderTest {
+
+    private static final String SESSION_ID = "4c95a0a6-24f7-4cc8-9b6d-0d1b2af0c9ee";
+
+    static Stream<String> contents() {
+        return Stream.of(
+                "",
+                "청년 주거 지원은 ",
+                "\"인용\" 과 \\역슬래시\\",
+                "줄바꿈\n탭\t캐리지리턴\r",
+                "제어 문자 \u0000\u0001\u001f\u007f",
+                "</script><b>&amp;</b>",
+                "줄 구분자\u2028문단 구분자\u2029",
+                "이모지 😀👍🏽",
+                "__streaming_content__");
+    }
+
+    @ParameterizedTest
+    @MethodSource("contents")
+    @DisplayName("앱 설정(snake_case)의 ObjectMapper 직렬화 결과와 바이트 단위로 같음")
+    void matchesSnakeCaseObjectMapper(String content) throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+
+        assertSameBytes(objectMapper, content);
+    }
+
+    @ParameterizedTest
+    @MethodSource("contents")
+    @DisplayName("기본 설정 ObjectMapper 직렬화 결과와 바이트 단위로 같음")
+    void matchesDefaultObjectMapper(String content) throws Exception {
+        assertSameBytes(new ObjectMapper(), content);
+    }
+
+    @ParameterizedTest
+    @MethodSource("contents")
+    @DisplayName("UTF-8 바이트 수 계산이 실제 인코딩 결과와 같음")
+    void utf8Length(String content) {
+        String frame = StreamingFrameEncoder.of(new ObjectMapper(), SESSION_ID).encode(content);
+
+        assertThat(StreamingFrameEncoder.utf8Length(frame))
+                .isEqualTo(frame.getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    @Test
+    @DisplayName("한 인코더로 여러 프레임을 만들어도 앞/뒤 부분이 바뀌지 않음")
+    void reusableAcrossFrames() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        StreamingFrameEncoder encoder = StreamingFrameEncoder.of(objectMapper, SESSION_ID);
+
+        for (String content : contents().toList()) {
+            assertThat(encoder.encode(content)).isEqualTo(
+                    objectMapper.writeValueAsString(WebSocketMessage.Response.streaming(SESSION_ID, content)));
+        }
+    }
+
+    private static void assertSameBytes(ObjectMapper objectMapper, String content) throws Exception {
+        String encoded = StreamingFrameEncoder.of(objectMapper, SESSION_ID).encode(content);
+        // 핸들러는 문자열로 직렬화해 TextMessage로 보내므로 writeValueAsString 결과와 비교
+        // (writeValueAsBytes는 보조 평면 문자를 \uXXXX 쌍으로 이스케이프하여 바이트가 다름)
+        byte[] expected = objectMapper.writeValueAsString(WebSocketMessage.Response.streaming(SESSION_ID, content))
+                .getBytes(StandardCharsets.UTF_8);
+
+        assertThat(encoded.getBytes(StandardCharsets.UTF_8)).isEqualTo(expected);
+    }
+}
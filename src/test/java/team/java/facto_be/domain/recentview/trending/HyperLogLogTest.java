@@ -0,0 +1,112 @@
+package team.java.facto_be.domain.recentview.trending;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class HyperLogLogTest {
+
+    @Test
+    @DisplayName("빈 합집합의 추정값은 0")
+    void emptyUnion() {
+        assertThat(new HyperLogLog.Union().estimate()).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 사용자를 여러 번 추가해도 한 명으로 추정")
+    void duplicates() {
+        HyperLogLog sketch = new HyperLogLog();
+        for (int i = 0; i < 1_000; i++) {
+            sketch.add(42L);
+        }
+
+        assertThat(estimate(sketch)).isEqualTo(1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {127, 128, 129, 130, 500, 4_096})
+    @DisplayName("희소 → 밀집 전환 전후로 레지스터 값이 보존됨")
+    void sparseToDenseKeepsRegisters(int users) {
+        // 한 스케치에 모두 넣으면 중간에 밀집 배열로 전환되고,
+        // 사용자마다 따로 만든 스케치는 모두 희소 상태이므로 두 합집합의 레지스터가 같아야 함
+        HyperLogLog single = new HyperLogLog();
+        HyperLogLog.Union perUser = new HyperLogLog.Union();
+        for (long id = 1; id <= users; id++) {
+            single.add(id);
+            HyperLogLog one = new HyperLogLog();
+            one.add(id);
+            one.mergeInto(perUser);
+        }
+
+        assertThat(estimate(single)).isEqualTo(perUser.estimate());
+    }
+
+    @Test
+    @DisplayName("추정값은 사용자가 늘어날 때 줄어들지 않음 (전환 경계 포함)")
+    void monotonicAcrossTransition() {
+        HyperLogLog sketch = new HyperLogLog();
+        long previous = 0;
+        for (long id = 1; id <= 1_000; id++) {
+            sketch.add(id);
+            long current = estimate(sketch);
+            assertThat(current).isGreaterThanOrEqualTo(previous);
+            previous = current;
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 100, 1_000, 10_000, 100_000, 1_000_000})
+    @DisplayName("추정 오차가 5% 이내 (표준 오차 약 1.6%의 3배 남짓, 해시가 고정이라 결과는 항상 같음)")
+    void errorBound(int users) {
+        HyperLogLog sketch = new HyperLogLog();
+        for (long id = 1; id <= users; id++) {
+            sketch.add(id * 7_919L);
+        }
+
+        assertThat((double) estimate(sketch)).isCloseTo(users, within(users * 0.05));
+    }
+
+    @Test
+    @DisplayName("합집합은 겹치는 사용자를 한 번만 셈")
+    void unionCountsOverlapOnce() {
+        HyperLogLog first = new HyperLogLog();
+        HyperLogLog second = new HyperLogLog();
+        for (long id = 0; id < 20_000; id++) {
+            first.add(id);
+        }
+        for (long id = 10_000; id < 30_000; id++) {
+            second.add(id);
+        }
+
+        HyperLogLog.Union union = new HyperLogLog.Union();
+        first.mergeInto(union);
+        second.mergeInto(union);
+
+        assertThat((double) union.estimate()).isCloseTo(30_000, within(30_000 * 0.05));
+    }
+
+    @Test
+    @DisplayName("reset 후 합집합은 비어 있음")
+    void resetClearsUnion() {
+        HyperLogLog sketch = new HyperLogLog();
+        for (long id = 0; id < 1_000; id++) {
+            sketch.add(id);
+        }
+        HyperLogLog.Union union = new HyperLogLog.Union();
+        sketch.mergeInto(union);
+
+        union.reset();
+
+        assertThat(union.estimate()).isZero();
+    }
+
+    private static long estimate(HyperLogLog sketch) {
+        HyperLogLog.Union union = new HyperLogLog.Union();
+        sketch.mergeInto(union);
+        return union.estimate();
+    }
+}